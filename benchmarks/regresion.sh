@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Ejecuta los benchmarks JMH y los compara contra benchmarks/baseline.json.
+#
+# Uso: benchmarks/regresion.sh [--actualizar-baseline] [umbral %] [argumentos JMH...]
+#   benchmarks/regresion.sh                      # todos los benchmarks, umbral 10%
+#   benchmarks/regresion.sh 5 "Mapper|Cuit"      # sólo los que coinciden con el patrón, umbral 5%
+#   benchmarks/regresion.sh --actualizar-baseline
+#
+# Termina con código 1 si algún benchmark empeoró más que el umbral (y más que el error de medición).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASELINE=benchmarks/baseline.json
+RESULTADO=target/jmh-result.json
+COMPARADOR=com.interbanking.empresa.api.benchmark.CompararResultados
+
+ACTUALIZAR=false
+if [[ "${1:-}" == "--actualizar-baseline" ]]; then
+    ACTUALIZAR=true
+    shift
+fi
+UMBRAL=10
+if [[ "${1:-}" =~ ^[0-9]+([.][0-9]+)?$ ]]; then
+    UMBRAL=$1
+    shift
+fi
+
+mkdir -p target
+mvn -B -q -Pjmh test-compile exec:exec -Djmh.args="-rf json -rff $RESULTADO $*"
+
+if [[ "$ACTUALIZAR" == true || ! -f "$BASELINE" ]]; then
+    cp "$RESULTADO" "$BASELINE"
+    echo "Baseline actualizado en $BASELINE (versionarlo junto con el cambio que lo justifica)"
+    exit 0
+fi
+
+mvn -B -q -Pjmh exec:exec -Djmh.main="$COMPARADOR" -Djmh.args="$BASELINE $RESULTADO $UMBRAL"
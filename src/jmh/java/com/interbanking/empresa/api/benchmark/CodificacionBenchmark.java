@@ -0,0 +1,86 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.formato.CodificadorReportes;
+import com.interbanking.empresa.api.controller.formato.FormatoReporte;
+import com.interbanking.empresa.api.controller.mapper.EmpresaResponseMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo de codificación y tamaño del reporte de empresas en cada {@link FormatoReporte}, con y sin gzip,
+ * tal como lo arma {@code ReporteEmpresasCache} en cada carga.
+ * <p>
+ * Los contadores {@code bytes} y {@code codificaciones} registran lo producido: su cociente es el tamaño
+ * del cuerpo que viaja por la red.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodificacionBenchmark {
+
+    @Param({"100000"})
+    private int cantidad;
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private FormatoReporte formato;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private CodificadorReportes codificador;
+    private List<EmpresaResponse> empresas;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Contadores {
+        public long bytes;
+        public long codificaciones;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            bytes = 0;
+            codificaciones = 0;
+        }
+    }
+
+    @Setup
+    public void preparar() {
+        codificador = new CodificadorReportes(Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+        empresas = DatosBenchmark.empresas(cantidad).stream()
+                .map(EmpresaResponseMapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] codificarReporte(Contadores contadores) {
+        byte[] cuerpo = codificador.codificar(formato, empresas);
+        if (gzip) {
+            cuerpo = CodificadorReportes.gzip(cuerpo);
+        }
+        contadores.bytes += cuerpo.length;
+        contadores.codificaciones++;
+        return cuerpo;
+    }
+}
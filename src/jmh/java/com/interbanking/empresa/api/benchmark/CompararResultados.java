@@ -0,0 +1,119 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dos resultados JMH en formato JSON ({@code -rf json}) y termina con código 1 si algún
+ * benchmark empeoró más que el umbral y más que la suma de los errores de ambas mediciones.
+ * <p>
+ * Uso: {@code CompararResultados <baseline.json> <resultado.json> [umbral %, 10 por defecto]}
+ */
+public final class CompararResultados {
+
+    private static final double UMBRAL_POR_DEFECTO = 10.0;
+
+    record Medicion(String modo, double score, double error, String unidad) {
+
+        boolean mayorEsMejor() {
+            return "thrpt".equals(modo);
+        }
+    }
+
+    enum Estado { OK, MEJORA, REGRESION, NUEVO, SIN_MEDIR }
+
+    record Comparacion(String benchmark, Medicion baseline, Medicion actual, double variacion, Estado estado) {
+    }
+
+    private CompararResultados() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: CompararResultados <baseline.json> <resultado.json> [umbral %]");
+            System.exit(2);
+        }
+        double umbral = args.length > 2 ? Double.parseDouble(args[2]) : UMBRAL_POR_DEFECTO;
+        ObjectMapper mapper = new ObjectMapper();
+        List<Comparacion> comparaciones = comparar(
+                leer(mapper.readTree(new File(args[0]))), leer(mapper.readTree(new File(args[1]))), umbral);
+
+        System.out.printf("%-70s %14s %14s %-8s %9s  %s%n", "benchmark", "baseline", "actual", "unidad", "variación", "estado");
+        for (Comparacion c : comparaciones) {
+            System.out.printf("%-70s %14s %14s %-8s %9s  %s%n", c.benchmark(),
+                    formatear(c.baseline()), formatear(c.actual()),
+                    c.actual() != null ? c.actual().unidad() : c.baseline().unidad(),
+                    Double.isNaN(c.variacion()) ? "-" : String.format("%+.1f%%", c.variacion()), c.estado());
+        }
+
+        long regresiones = comparaciones.stream().filter(c -> c.estado() == Estado.REGRESION).count();
+        if (regresiones > 0) {
+            System.out.printf("%d benchmark(s) empeoraron más de %.1f%% respecto del baseline%n", regresiones, umbral);
+            System.exit(1);
+        }
+        System.out.printf("Sin regresiones mayores a %.1f%% respecto del baseline%n", umbral);
+    }
+
+    static List<Comparacion> comparar(Map<String, Medicion> baseline, Map<String, Medicion> actual, double umbral) {
+        Map<String, Medicion> claves = new TreeMap<>(baseline);
+        actual.forEach(claves::putIfAbsent);
+
+        List<Comparacion> comparaciones = new ArrayList<>(claves.size());
+        for (String benchmark : claves.keySet()) {
+            Medicion anterior = baseline.get(benchmark);
+            Medicion nueva = actual.get(benchmark);
+            if (anterior == null || nueva == null) {
+                comparaciones.add(new Comparacion(benchmark, anterior, nueva, Double.NaN,
+                        anterior == null ? Estado.NUEVO : Estado.SIN_MEDIR));
+                continue;
+            }
+            double variacion = (nueva.score() - anterior.score()) / anterior.score() * 100;
+            boolean peor = nueva.mayorEsMejor() ? variacion < 0 : variacion > 0;
+            // Una diferencia dentro del error de medición no cuenta, aunque supere el umbral
+            boolean significativa = Math.abs(variacion) > umbral
+                    && Math.abs(nueva.score() - anterior.score()) > anterior.error() + nueva.error();
+            Estado estado = !significativa ? Estado.OK : peor ? Estado.REGRESION : Estado.MEJORA;
+            comparaciones.add(new Comparacion(benchmark, anterior, nueva, variacion, estado));
+        }
+        return comparaciones;
+    }
+
+    /**
+     * Indexa las mediciones por nombre del benchmark y sus parámetros
+     */
+    static Map<String, Medicion> leer(JsonNode resultados) {
+        Map<String, Medicion> mediciones = new LinkedHashMap<>();
+        for (JsonNode resultado : resultados) {
+            StringBuilder clave = new StringBuilder(resultado.path("benchmark").asText());
+            JsonNode params = resultado.path("params");
+            if (params.size() > 0) {
+                List<String> valores = new ArrayList<>();
+                Iterator<Map.Entry<String, JsonNode>> campos = params.fields();
+                while (campos.hasNext()) {
+                    Map.Entry<String, JsonNode> campo = campos.next();
+                    valores.add(campo.getKey() + "=" + campo.getValue().asText());
+                }
+                clave.append(valores.stream().sorted().toList());
+            }
+            JsonNode metrica = resultado.path("primaryMetric");
+            double error = metrica.path("scoreError").asDouble();
+            mediciones.put(clave.toString(), new Medicion(resultado.path("mode").asText(),
+                    metrica.path("score").asDouble(), Double.isNaN(error) ? 0 : error,
+                    metrica.path("scoreUnit").asText()));
+        }
+        return mediciones;
+    }
+
+    private static String formatear(Medicion medicion) {
+        return medicion == null ? "-" : String.format("%.3f", medicion.score());
+    }
+}
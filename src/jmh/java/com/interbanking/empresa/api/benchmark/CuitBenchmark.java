@@ -0,0 +1,74 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.interbanking.empresa.api.domain.model.Cuit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validación de CUIT: {@code String.matches} (compila el patrón en cada llamada, como hacía
+ * {@code Empresa.validateCuit}), un {@link Pattern} precompilado y {@link Cuit#esValido}.
+ * <p>
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.args="CuitBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CuitBenchmark {
+
+    private static final Pattern ONCE_DIGITOS = Pattern.compile("\\d{11}");
+
+    private String[] cuits;
+
+    @Setup
+    public void preparar() {
+        // Mezcla de CUIT válidos, con dígito verificador inválido y mal formados
+        cuits = new String[]{"20123456786", "20987654326", "30999999995", "20123456789", "2012345678a", "123"};
+    }
+
+    @Benchmark
+    public void regexPorLlamada(Blackhole blackhole) {
+        for (String cuit : cuits) {
+            blackhole.consume(cuit.matches("\\d{11}"));
+        }
+    }
+
+    @Benchmark
+    public void regexPrecompilada(Blackhole blackhole) {
+        for (String cuit : cuits) {
+            blackhole.consume(ONCE_DIGITOS.matcher(cuit).matches());
+        }
+    }
+
+    @Benchmark
+    public void cuitConDigitoVerificador(Blackhole blackhole) {
+        for (String cuit : cuits) {
+            blackhole.consume(Cuit.esValido(cuit));
+        }
+    }
+
+    @Benchmark
+    public long cuitComoLong() {
+        long suma = 0;
+        for (String cuit : cuits) {
+            if (Cuit.esValido(cuit)) {
+                suma += Cuit.of(cuit).getValor();
+            }
+        }
+        return suma;
+    }
+}
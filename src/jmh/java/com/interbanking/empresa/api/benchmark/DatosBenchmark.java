@@ -0,0 +1,64 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.interbanking.empresa.api.domain.model.Cuit;
+import com.interbanking.empresa.api.domain.model.Empresa;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * Datos sintéticos compartidos por los benchmarks
+ */
+final class DatosBenchmark {
+
+    static final long CUIT_BASE = 30_000_000_000L;
+    static final LocalDate FECHA = LocalDate.of(2025, 8, 15);
+
+    private DatosBenchmark() {
+    }
+
+    /**
+     * Los primeros {@code cantidad} CUIT con dígito verificador válido a partir de {@link #CUIT_BASE}
+     */
+    static String[] cuits(int cantidad) {
+        return LongStream.iterate(CUIT_BASE, cuit -> cuit + 1)
+                .mapToObj(Long::toString)
+                .filter(Cuit::esValido)
+                .limit(cantidad)
+                .toArray(String[]::new);
+    }
+
+    static List<Empresa> empresas(int cantidad) {
+        String[] cuits = cuits(cantidad);
+        List<Empresa> empresas = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            empresas.add(new Empresa((long) i + 1, cuits[i], "Empresa Benchmark " + i,
+                    i % 2 == 0 ? FECHA : null));
+        }
+        return empresas;
+    }
+
+    /**
+     * {@code muestras} índices en {@code [0, cantidad)} con distribución de Zipf: el índice {@code k} sale con
+     * probabilidad proporcional a {@code 1 / (k + 1)^exponente}, así unos pocos CUIT concentran las búsquedas
+     */
+    static int[] zipf(int cantidad, double exponente, int muestras, long semilla) {
+        double[] acumulada = new double[cantidad];
+        double total = 0;
+        for (int k = 0; k < cantidad; k++) {
+            total += 1 / Math.pow(k + 1, exponente);
+            acumulada[k] = total;
+        }
+        SplittableRandom random = new SplittableRandom(semilla);
+        int[] indices = new int[muestras];
+        for (int i = 0; i < muestras; i++) {
+            int posicion = Arrays.binarySearch(acumulada, random.nextDouble() * total);
+            indices[i] = Math.min(posicion >= 0 ? posicion : -posicion - 1, cantidad - 1);
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,61 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.interbanking.empresa.api.domain.model.CodigoErrorTransferencia;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción y validación de {@link Empresa} y {@link Transferencia}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DominioBenchmark {
+
+    private String cuit;
+    private Empresa empresa;
+    private BigDecimal importe;
+    private LocalDate hoy;
+
+    @Setup
+    public void preparar() {
+        cuit = DatosBenchmark.cuits(1)[0];
+        empresa = new Empresa(1L, cuit, "Empresa Benchmark S.A.", null);
+        importe = new BigDecimal("15000.50");
+        hoy = LocalDate.now();
+    }
+
+    @Benchmark
+    public Empresa construirEmpresa() {
+        return new Empresa(1L, cuit, "Empresa Benchmark S.A.", DatosBenchmark.FECHA);
+    }
+
+    @Benchmark
+    public Transferencia construirTransferencia() {
+        return new Transferencia(1L, empresa, importe, "AR123000100123456789", "AR450002001234567890",
+                DatosBenchmark.FECHA);
+    }
+
+    @Benchmark
+    public CodigoErrorTransferencia verificarTransferencia() {
+        return Transferencia.verificar(empresa, importe, "AR123000100123456789", "AR450002001234567890",
+                DatosBenchmark.FECHA, hoy);
+    }
+}
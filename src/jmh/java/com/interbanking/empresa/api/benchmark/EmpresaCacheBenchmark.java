@@ -0,0 +1,113 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.interbanking.empresa.api.MainApplication;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code findByCuit} con y sin la cache de segundo nivel, con CUIT elegidos según una distribución de Zipf
+ * (pocas empresas concentran la mayoría de las búsquedas, como en adhesiones e ingesta).
+ * <p>
+ * Además de la latencia, los contadores {@code consultas} y {@code busquedas} registran las sentencias
+ * que llegaron a la base (estadísticas de Hibernate) y las búsquedas hechas: su cociente es la cantidad
+ * de consultas por búsqueda.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmpresaCacheBenchmark {
+
+    private static final int MUESTRAS = 1 << 16;
+
+    @Param({"10000"})
+    private int empresas;
+
+    @Param({"1.0"})
+    private double exponenteZipf;
+
+    @Param({"false", "true"})
+    private boolean cacheSegundoNivel;
+
+    private ConfigurableApplicationContext contexto;
+    private EmpresaRepositoryPort empresaRepositoryPort;
+    private Statistics estadisticas;
+    private String[] cuits;
+    private int[] indices;
+    private int siguiente;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Contadores {
+        public long consultas;
+        public long busquedas;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            consultas = 0;
+            busquedas = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-cache",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cacheSegundoNivel,
+                        "logging.level.root=WARN")
+                .run();
+        empresaRepositoryPort = contexto.getBean(EmpresaRepositoryPort.class);
+        estadisticas = contexto.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        List<Empresa> nuevas = DatosBenchmark.empresas(empresas);
+        nuevas.forEach(empresa -> empresa.setId(null));
+        cuits = empresaRepositoryPort.saveAll(nuevas).stream()
+                .map(Empresa::getCuit)
+                .toArray(String[]::new);
+        indices = DatosBenchmark.zipf(cuits.length, exponenteZipf, MUESTRAS, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Optional<Empresa> buscarEmpresaPorCuit(Contadores contadores) {
+        long antes = estadisticas.getPrepareStatementCount();
+        Optional<Empresa> empresa = empresaRepositoryPort.findByCuit(cuits[indices[siguiente]]);
+        siguiente = (siguiente + 1) & (MUESTRAS - 1);
+        contadores.consultas += estadisticas.getPrepareStatementCount() - antes;
+        contadores.busquedas++;
+        return empresa;
+    }
+}
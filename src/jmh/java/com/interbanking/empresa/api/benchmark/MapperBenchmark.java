@@ -0,0 +1,57 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.mapper.EmpresaResponseMapper;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.infraestructure.persistence.entity.EmpresaEntity;
+import com.interbanking.empresa.api.infraestructure.persistence.mapper.EmpresaMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mappers entidad/dominio/respuesta que se ejecutan por cada fila de los reportes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final EmpresaMapper empresaMapper = new EmpresaMapper();
+
+    private Empresa empresa;
+    private EmpresaEntity empresaEntity;
+
+    @Setup
+    public void preparar() {
+        empresa = DatosBenchmark.empresas(1).get(0);
+        empresaEntity = empresaMapper.toEntity(empresa);
+    }
+
+    @Benchmark
+    public Empresa empresaToDomain() {
+        return empresaMapper.toDomain(empresaEntity);
+    }
+
+    @Benchmark
+    public EmpresaEntity empresaToEntity() {
+        return empresaMapper.toEntity(empresa);
+    }
+
+    @Benchmark
+    public EmpresaResponse empresaToResponse() {
+        return EmpresaResponseMapper.toResponse(empresa);
+    }
+}
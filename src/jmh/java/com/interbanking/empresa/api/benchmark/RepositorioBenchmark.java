@@ -0,0 +1,127 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.interbanking.empresa.api.MainApplication;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ida y vuelta completa por los adapters de persistencia (JPA/JDBC + mappers) contra H2 en memoria,
+ * con el contexto de Spring de la aplicación sin servidor web.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositorioBenchmark {
+
+    private static final LocalDate DESDE = DatosBenchmark.FECHA.withDayOfMonth(1);
+    private static final LocalDate HASTA = DatosBenchmark.FECHA.withDayOfMonth(DatosBenchmark.FECHA.lengthOfMonth());
+    private static final int TAMANIO_PAGINA = 100;
+
+    @Param({"10000"})
+    private int empresas;
+
+    @Param({"10"})
+    private int transferenciasPorEmpresa;
+
+    private ConfigurableApplicationContext contexto;
+    private EmpresaRepositoryPort empresaRepositoryPort;
+    private TransferenciaRepositoryPort transferenciaRepositoryPort;
+    private List<Empresa> guardadas;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        empresaRepositoryPort = contexto.getBean(EmpresaRepositoryPort.class);
+        transferenciaRepositoryPort = contexto.getBean(TransferenciaRepositoryPort.class);
+
+        List<Empresa> nuevas = DatosBenchmark.empresas(empresas);
+        nuevas.forEach(empresa -> empresa.setId(null));
+        guardadas = empresaRepositoryPort.saveAll(nuevas);
+        List<Transferencia> transferencias = new ArrayList<>();
+        for (Empresa empresa : guardadas) {
+            for (int i = 0; i < transferenciasPorEmpresa; i++) {
+                transferencias.add(transferencia(empresa));
+            }
+            if (transferencias.size() >= 5_000) {
+                transferenciaRepositoryPort.saveAll(transferencias);
+                transferencias.clear();
+            }
+        }
+        if (!transferencias.isEmpty()) {
+            transferenciaRepositoryPort.saveAll(transferencias);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Optional<Empresa> buscarEmpresaPorCuit() {
+        return empresaRepositoryPort.findByCuit(proxima().getCuit());
+    }
+
+    @Benchmark
+    public List<Empresa> paginaEmpresasConTransferencias() {
+        return transferenciaRepositoryPort.findEmpresasConTransferenciasEntre(
+                DESDE, HASTA, proxima().getId() - 1, TAMANIO_PAGINA);
+    }
+
+    @Benchmark
+    public List<EmpresaResponse> adheridasDelMesProyectadas() {
+        return empresaRepositoryPort.findByFechaAdhesionBetween(DESDE, HASTA, EmpresaResponse::new);
+    }
+
+    @Benchmark
+    public Transferencia registrarTransferencia() {
+        return transferenciaRepositoryPort.save(transferencia(proxima()));
+    }
+
+    private Empresa proxima() {
+        Empresa empresa = guardadas.get(siguiente);
+        siguiente = (siguiente + 1) % guardadas.size();
+        return empresa;
+    }
+
+    private static Transferencia transferencia(Empresa empresa) {
+        return new Transferencia(null, empresa, new BigDecimal("1500.50"),
+                "AR123000100123456789", "AR450002001234567890", DatosBenchmark.FECHA);
+    }
+}
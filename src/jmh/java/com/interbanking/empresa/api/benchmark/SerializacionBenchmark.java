@@ -0,0 +1,54 @@
+package com.interbanking.empresa.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.mapper.EmpresaResponseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de {@code List<EmpresaResponse>} con la misma configuración de Jackson que usa
+ * Spring MVC, escribiendo a un stream descartable como lo haría el conversor HTTP
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacionBenchmark {
+
+    @Param({"1000", "100000"})
+    private int cantidad;
+
+    private ObjectWriter writer;
+    private List<EmpresaResponse> empresas;
+
+    @Setup
+    public void preparar() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        empresas = DatosBenchmark.empresas(cantidad).stream()
+                .map(EmpresaResponseMapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public void serializarEmpresas() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), empresas);
+    }
+}
@@ -0,0 +1,102 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaDto;
+import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaResponse;
+import com.interbanking.empresa.api.domain.event.EmpresaAdheridaEvent;
+import com.interbanking.empresa.api.domain.model.Cuit;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adhesión masiva de empresas. Procesa los CUIT en lotes, cada uno en su propia transacción: un
+ * {@code UPDATE} condicional por lote adhiere las empresas que todavía no lo estaban y sólo los CUIT que
+ * no actualizó se consultan, con un {@code IN}, para distinguir ya adherida de inexistente.
+ * Como en la adhesión individual, si otra petición adhiere la misma empresa sólo una de las dos la informa
+ * como adherida y publica el evento.
+ */
+@Slf4j
+@Component
+public class AdhesionEmpresaBatchUseCase {
+
+    static final int TAMANIO_LOTE = 1000;
+
+    private final EmpresaRepositoryPort empresaRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AdhesionEmpresaBatchUseCase(EmpresaRepositoryPort empresaRepositoryPort,
+                                       TransactionTemplate transactionTemplate,
+                                       ApplicationEventPublisher eventPublisher) {
+        this.empresaRepositoryPort = empresaRepositoryPort;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Devuelve el resultado de cada CUIT (sin duplicados) en el orden recibido
+     */
+    public Map<String, AdhesionEmpresaResponse> procesarAdhesiones(List<String> cuits) {
+        List<String> cuitsUnicos = new ArrayList<>(new LinkedHashSet<>(cuits));
+        log.info("Iniciando adhesión masiva de {} empresas", cuitsUnicos.size());
+
+        Map<String, AdhesionEmpresaResponse> resultados = new LinkedHashMap<>();
+        for (int desde = 0; desde < cuitsUnicos.size(); desde += TAMANIO_LOTE) {
+            List<String> lote = cuitsUnicos.subList(desde, Math.min(desde + TAMANIO_LOTE, cuitsUnicos.size()));
+            resultados.putAll(transactionTemplate.execute(status -> procesarLote(lote)));
+        }
+
+        log.info("Adhesión masiva finalizada - {} empresas adheridas de {}",
+                resultados.values().stream().filter(AdhesionEmpresaResponse::isSuccess).count(), cuitsUnicos.size());
+        return resultados;
+    }
+
+    private Map<String, AdhesionEmpresaResponse> procesarLote(List<String> cuits) {
+        // Los CUIT inválidos se resuelven sin consultar la base
+        List<String> cuitsValidos = cuits.stream().filter(Cuit::esValido).toList();
+        Map<String, Empresa> adheridas = porCuit(cuitsValidos.isEmpty() ? List.of()
+                : empresaRepositoryPort.adherirSiNoAdheridas(cuitsValidos, LocalDate.now()));
+        List<String> noActualizados = cuitsValidos.stream()
+                .filter(cuit -> !adheridas.containsKey(cuit))
+                .toList();
+        Map<String, Empresa> existentes = porCuit(noActualizados.isEmpty() ? List.of()
+                : empresaRepositoryPort.findByCuitIn(noActualizados));
+
+        Map<String, AdhesionEmpresaResponse> resultados = new LinkedHashMap<>();
+        for (String cuit : cuits) {
+            String errorCuit = Cuit.error(cuit);
+            if (errorCuit != null) {
+                resultados.put(cuit, AdhesionEmpresaResponse.invalidCuit(errorCuit));
+            } else if (adheridas.containsKey(cuit)) {
+                Empresa empresa = adheridas.get(cuit);
+                resultados.put(cuit, AdhesionEmpresaResponse.success(AdhesionEmpresaDto.from(empresa)));
+                eventPublisher.publishEvent(new EmpresaAdheridaEvent(
+                        empresa.getId(), empresa.getCuit(), empresa.getFechaAdhesion()));
+            } else if (existentes.containsKey(cuit)) {
+                LocalDate fechaAdhesion = existentes.get(cuit).getFechaAdhesion();
+                resultados.put(cuit, AdhesionEmpresaResponse.alreadyAdhered(fechaAdhesion == null
+                        ? "La empresa ya está adherida"
+                        : "La empresa ya está adherida desde " + fechaAdhesion));
+            } else {
+                resultados.put(cuit, AdhesionEmpresaResponse.notFound("La empresa con CUIT " + cuit + " no existe"));
+            }
+        }
+        return resultados;
+    }
+
+    private static Map<String, Empresa> porCuit(List<Empresa> empresas) {
+        return empresas.stream().collect(Collectors.toMap(Empresa::getCuit, Function.identity()));
+    }
+}
@@ -2,54 +2,64 @@ package com.interbanking.empresa.api.application.usecase;
 
 import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaDto;
 import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaResponse;
+import com.interbanking.empresa.api.domain.event.EmpresaAdheridaEvent;
+import com.interbanking.empresa.api.domain.model.Cuit;
 import com.interbanking.empresa.api.domain.model.Empresa;
 import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 @Slf4j
 @Component
 public class AdhesionEmpresaUseCase {
 
     private final EmpresaRepositoryPort empresaRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdhesionEmpresaUseCase(EmpresaRepositoryPort empresaRepositoryPort) {
+    public AdhesionEmpresaUseCase(EmpresaRepositoryPort empresaRepositoryPort, ApplicationEventPublisher eventPublisher) {
         this.empresaRepositoryPort = empresaRepositoryPort;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "unica"}, histogram = true, percentiles = {0.5, 0.99})
     public AdhesionEmpresaResponse procesarAdhesion(String cuit) {
-        log.info("Iniciando proceso de adhesión para empresa con CUIT: {}", cuit);
-
-        return empresaRepositoryPort.findByCuit(cuit)
-                .map(empresa -> {
-                    try {
-                        log.debug("Empresa encontrada: {} - {}", empresa.getCuit(), empresa.getRazonSocial());
-                        empresa.adherir();
-                        Empresa empresaActualizada = empresaRepositoryPort.save(empresa);
-                        AdhesionEmpresaDto dto = mapToDto(empresaActualizada);
-                        log.info("Adhesión exitosa para empresa CUIT: {} - Fecha: {}",
-                                empresaActualizada.getCuit(), empresaActualizada.getFechaAdhesion());
-                        return AdhesionEmpresaResponse.success(dto);
-                    } catch (IllegalStateException e) {
-                        log.warn("Intento de adhesión fallido - Empresa ya adherida CUIT: {} - Error: {}",
-                                empresa.getCuit(), e.getMessage());
-                        return AdhesionEmpresaResponse.alreadyAdhered(e.getMessage());
-                    }
-                })
-                .orElseGet(() -> {
-                    log.warn("Empresa no encontrada con CUIT: {}", cuit);
-                    return AdhesionEmpresaResponse.notFound("La empresa con CUIT " + cuit + " no existe");
-                });
+        log.debug("Iniciando proceso de adhesión para empresa con CUIT: {}", cuit);
+
+        String errorCuit = Cuit.error(cuit);
+        if (errorCuit != null) {
+            log.warn("CUIT inválido: {} - {}", cuit, errorCuit);
+            return AdhesionEmpresaResponse.invalidCuit(errorCuit);
+        }
+
+        // El UPDATE condicional decide solo: si otra petición adhirió la empresa antes, no actualiza
+        // ninguna fila. Sólo en ese caso se lee la empresa, para distinguir inexistente de ya adherida
+        Optional<Empresa> adherida = empresaRepositoryPort.adherirSiNoAdherida(cuit, LocalDate.now());
+        if (adherida.isEmpty()) {
+            return empresaRepositoryPort.findByCuit(cuit)
+                    .map(actual -> yaAdherida(cuit, actual.getFechaAdhesion() == null
+                            ? "La empresa ya está adherida"
+                            : "La empresa ya está adherida desde " + actual.getFechaAdhesion()))
+                    .orElseGet(() -> {
+                        log.warn("Empresa no encontrada con CUIT: {}", cuit);
+                        return AdhesionEmpresaResponse.notFound("La empresa con CUIT " + cuit + " no existe");
+                    });
+        }
+
+        Empresa empresa = adherida.get();
+        eventPublisher.publishEvent(new EmpresaAdheridaEvent(empresa.getId(), empresa.getCuit(), empresa.getFechaAdhesion()));
+        log.info("Adhesión exitosa para empresa CUIT: {} - Fecha: {}", empresa.getCuit(), empresa.getFechaAdhesion());
+        return AdhesionEmpresaResponse.success(AdhesionEmpresaDto.from(empresa));
     }
 
-    private AdhesionEmpresaDto mapToDto(Empresa empresa) {
-        return new AdhesionEmpresaDto(
-                empresa.getId(),
-                empresa.getCuit(),
-                empresa.getRazonSocial(),
-                empresa.getFechaAdhesion()
-        );
+    private AdhesionEmpresaResponse yaAdherida(String cuit, String mensaje) {
+        log.warn("Intento de adhesión fallido - Empresa ya adherida CUIT: {} - Error: {}", cuit, mensaje);
+        return AdhesionEmpresaResponse.alreadyAdhered(mensaje);
     }
 }
@@ -0,0 +1,279 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.application.usecase.dto.request.FilaTransferencia;
+import com.interbanking.empresa.api.application.usecase.dto.response.ResumenIngestaTransferencias;
+import com.interbanking.empresa.api.application.usecase.dto.response.ResumenIngestaTransferencias.ErrorFila;
+import com.interbanking.empresa.api.domain.event.TransferenciasRegistradasEvent;
+import com.interbanking.empresa.api.domain.model.CodigoErrorTransferencia;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import com.interbanking.empresa.api.domain.model.ValidadorLoteTransferencias;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ingesta masiva de transferencias.
+ * <p>
+ * El hilo que invoca lee las filas y arma lotes que deja en una cola acotada; los escritores toman
+ * cada lote, resuelven las empresas por CUIT (con cache por ejecución), lo validan con
+ * {@link ValidadorLoteTransferencias} y lo persisten en una transacción. Si los escritores no dan abasto la cola se
+ * llena y la lectura se detiene, por lo que la memoria queda acotada a
+ * {@code (lotes-en-cola + escritores + 1) x tamanio-lote} filas.
+ */
+@Slf4j
+@Component
+public class IngestaTransferenciasUseCase {
+
+    static final String CODIGO_FORMATO_INVALIDO = "FORMATO_INVALIDO";
+    static final String CODIGO_EMPRESA_INEXISTENTE = "EMPRESA_INEXISTENTE";
+    static final String CODIGO_FUERA_DE_RETENCION = "FECHA_FUERA_DE_RETENCION";
+
+    private static final List<FilaTransferencia> FIN = Collections.emptyList();
+
+    private final TransferenciaRepositoryPort transferenciaRepositoryPort;
+    private final EmpresaRepositoryPort empresaRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanioLote;
+    private final int lotesEnCola;
+    private final int escritores;
+    private final int maxErroresReportados;
+    private final int retencionMeses;
+
+    public IngestaTransferenciasUseCase(TransferenciaRepositoryPort transferenciaRepositoryPort,
+                                        EmpresaRepositoryPort empresaRepositoryPort,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${empresa.ingesta.tamanio-lote:5000}") int tamanioLote,
+                                        @Value("${empresa.ingesta.lotes-en-cola:4}") int lotesEnCola,
+                                        @Value("${empresa.ingesta.escritores:1}") int escritores,
+                                        @Value("${empresa.ingesta.max-errores-reportados:100}") int maxErroresReportados,
+                                        @Value("${empresa.transferencias.particiones.retencion-meses:24}") int retencionMeses) {
+        this.transferenciaRepositoryPort = transferenciaRepositoryPort;
+        this.empresaRepositoryPort = empresaRepositoryPort;
+        this.eventPublisher = eventPublisher;
+        this.tamanioLote = tamanioLote;
+        this.lotesEnCola = lotesEnCola;
+        this.escritores = escritores;
+        this.maxErroresReportados = maxErroresReportados;
+        this.retencionMeses = retencionMeses;
+    }
+
+    public ResumenIngestaTransferencias ingerir(Iterator<FilaTransferencia> filas) {
+        log.info("Iniciando ingesta de transferencias (lote {}, {} lotes en cola, {} escritores)",
+                tamanioLote, lotesEnCola, escritores);
+        long inicio = System.nanoTime();
+        Ingesta ingesta = new Ingesta();
+
+        BlockingQueue<List<FilaTransferencia>> cola = new ArrayBlockingQueue<>(lotesEnCola);
+        ExecutorService executor = Executors.newFixedThreadPool(escritores, tarea -> new Thread(tarea, "ingesta-escritor"));
+        List<Future<?>> tareas = new ArrayList<>(escritores);
+        for (int i = 0; i < escritores; i++) {
+            tareas.add(executor.submit(() -> escribir(cola, ingesta)));
+        }
+
+        try {
+            List<FilaTransferencia> lote = new ArrayList<>(tamanioLote);
+            while (ingesta.falla.get() == null && filas.hasNext()) {
+                lote.add(filas.next());
+                ingesta.leidas.incrementAndGet();
+                if (lote.size() == tamanioLote) {
+                    encolar(cola, lote, tareas);
+                    lote = new ArrayList<>(tamanioLote);
+                }
+            }
+            if (!lote.isEmpty()) {
+                encolar(cola, lote, tareas);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ingesta.falla.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            ingesta.falla.compareAndSet(null, e);
+        } finally {
+            finalizar(cola, tareas, ingesta);
+            executor.shutdown();
+        }
+
+        if (!ingesta.periodos.isEmpty()) {
+            eventPublisher.publishEvent(new TransferenciasRegistradasEvent(Set.copyOf(ingesta.periodos)));
+        }
+        return resumir(ingesta, System.nanoTime() - inicio);
+    }
+
+    private void escribir(BlockingQueue<List<FilaTransferencia>> cola, Ingesta ingesta) {
+        try {
+            List<FilaTransferencia> lote;
+            while ((lote = cola.take()) != FIN) {
+                if (ingesta.falla.get() == null) {
+                    procesarLote(lote, ingesta);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ingesta.falla.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            log.error("Error persistiendo un lote de transferencias", e);
+            ingesta.falla.compareAndSet(null, e);
+        }
+    }
+
+    private void procesarLote(List<FilaTransferencia> lote, Ingesta ingesta) {
+        resolverEmpresas(lote, ingesta);
+
+        LocalDate hoy = LocalDate.now();
+        ValidadorLoteTransferencias validador = new ValidadorLoteTransferencias(hoy);
+        // Los meses anteriores a la retención ya están archivados: no se vuelven a abrir
+        YearMonth horizonte = retencionMeses > 0 ? YearMonth.from(hoy).minusMonths(retencionMeses) : null;
+        List<Transferencia> transferencias = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            FilaTransferencia fila = lote.get(i);
+            if (!fila.isValida()) {
+                ingesta.rechazar(fila.numero(), CODIGO_FORMATO_INVALIDO, fila.error());
+                continue;
+            }
+            if (horizonte != null && fila.fechaTransferencia() != null
+                    && YearMonth.from(fila.fechaTransferencia()).isBefore(horizonte)) {
+                ingesta.rechazar(fila.numero(), CODIGO_FUERA_DE_RETENCION,
+                        "La fecha " + fila.fechaTransferencia() + " es anterior a la retención (" + horizonte + ")");
+                continue;
+            }
+            Optional<Empresa> empresa = ingesta.empresasPorCuit.get(fila.cuit());
+            if (empresa.isEmpty()) {
+                ingesta.rechazar(fila.numero(), CODIGO_EMPRESA_INEXISTENTE,
+                        "La empresa con CUIT " + fila.cuit() + " no existe");
+                continue;
+            }
+            Transferencia transferencia = validador.crear(i, empresa.get(), fila.importe(),
+                    fila.cuentaDebito(), fila.cuentaCredito(), fila.fechaTransferencia());
+            if (transferencia != null) {
+                transferencias.add(transferencia);
+            }
+        }
+        for (int v = 0; v < validador.getCantidadViolaciones(); v++) {
+            CodigoErrorTransferencia codigo = validador.getCodigo(v);
+            ingesta.rechazar(lote.get(validador.getIndice(v)).numero(), codigo.name(), codigo.getMensaje());
+        }
+
+        if (transferencias.isEmpty()) {
+            return;
+        }
+        transferenciaRepositoryPort.saveAll(transferencias);
+        ingesta.insertadas.addAndGet(transferencias.size());
+        transferencias.forEach(t -> ingesta.periodos.add(YearMonth.from(t.getFechaTransferencia())));
+    }
+
+    /**
+     * Busca con una sola consulta los CUIT del lote que todavía no están en la cache de la ejecución
+     */
+    private void resolverEmpresas(List<FilaTransferencia> lote, Ingesta ingesta) {
+        Set<String> faltantes = new LinkedHashSet<>();
+        for (FilaTransferencia fila : lote) {
+            if (fila.isValida() && !ingesta.empresasPorCuit.containsKey(fila.cuit())) {
+                faltantes.add(fila.cuit());
+            }
+        }
+        if (faltantes.isEmpty()) {
+            return;
+        }
+
+        for (Empresa empresa : empresaRepositoryPort.findByCuitIn(faltantes)) {
+            ingesta.empresasPorCuit.put(empresa.getCuit(), Optional.of(empresa));
+        }
+        for (String cuit : faltantes) {
+            ingesta.empresasPorCuit.putIfAbsent(cuit, Optional.empty());
+        }
+    }
+
+    /**
+     * Espera lugar en la cola; deja de esperar si ya no queda ningún escritor activo
+     */
+    private void encolar(BlockingQueue<List<FilaTransferencia>> cola, List<FilaTransferencia> lote,
+                         List<Future<?>> tareas) throws InterruptedException {
+        while (!cola.offer(lote, 100, TimeUnit.MILLISECONDS)) {
+            if (tareas.stream().allMatch(Future::isDone)) {
+                return;
+            }
+        }
+    }
+
+    private void finalizar(BlockingQueue<List<FilaTransferencia>> cola, List<Future<?>> tareas, Ingesta ingesta) {
+        try {
+            for (int i = 0; i < tareas.size(); i++) {
+                encolar(cola, FIN, tareas);
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tareas.forEach(tarea -> tarea.cancel(true));
+            ingesta.falla.compareAndSet(null, e);
+        } catch (ExecutionException e) {
+            ingesta.falla.compareAndSet(null, e.getCause());
+        }
+    }
+
+    private ResumenIngestaTransferencias resumir(Ingesta ingesta, long duracionNanos) {
+        long duracionMs = TimeUnit.NANOSECONDS.toMillis(duracionNanos);
+        long filasPorSegundo = duracionNanos == 0 ? 0 : ingesta.leidas.get() * 1_000_000_000L / duracionNanos;
+        Throwable falla = ingesta.falla.get();
+
+        ResumenIngestaTransferencias resumen = new ResumenIngestaTransferencias(
+                ingesta.leidas.get(), ingesta.insertadas.get(), ingesta.rechazadas.get(),
+                ingesta.errores.stream().sorted(Comparator.comparingLong(ErrorFila::fila)).toList(), duracionMs, filasPorSegundo,
+                falla == null ? null : "La ingesta se interrumpió: " + falla.getMessage());
+
+        if (resumen.isCompleta()) {
+            log.info("Ingesta finalizada - {} filas leídas, {} insertadas, {} rechazadas en {} ms ({} filas/s)",
+                    resumen.leidas(), resumen.insertadas(), resumen.rechazadas(), duracionMs, filasPorSegundo);
+        } else {
+            log.error("Ingesta interrumpida - {} filas leídas, {} insertadas, {} rechazadas en {} ms: {}",
+                    resumen.leidas(), resumen.insertadas(), resumen.rechazadas(), duracionMs, resumen.error());
+        }
+        return resumen;
+    }
+
+    /**
+     * Estado compartido entre el lector y los escritores de una ejecución
+     */
+    private final class Ingesta {
+        private final AtomicLong leidas = new AtomicLong();
+        private final AtomicLong insertadas = new AtomicLong();
+        private final AtomicLong rechazadas = new AtomicLong();
+        private final List<ErrorFila> errores = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, Optional<Empresa>> empresasPorCuit = new ConcurrentHashMap<>();
+        private final Set<YearMonth> periodos = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<Throwable> falla = new AtomicReference<>();
+
+        void rechazar(long fila, String codigo, String mensaje) {
+            if (rechazadas.incrementAndGet() <= maxErroresReportados) {
+                errores.add(new ErrorFila(fila, codigo, mensaje));
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+public class ListarTransferenciasUseCase {
+    private final TransferenciaRepositoryPort transferenciaRepositoryPort;
+
+    public ListarTransferenciasUseCase(TransferenciaRepositoryPort transferenciaRepositoryPort) {
+        this.transferenciaRepositoryPort = transferenciaRepositoryPort;
+    }
+
+    /**
+     * Devuelve una página de hasta {@code limite} transferencias del rango, con su empresa, con id mayor
+     * a {@code despuesDeId} (keyset)
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "pagina"}, histogram = true, percentiles = {0.5, 0.99})
+    public List<Transferencia> ejecutar(LocalDate desde, LocalDate hasta, Long despuesDeId, int limite) {
+        return transferenciaRepositoryPort.findTransferenciasEntre(
+                desde, hasta, despuesDeId == null ? 0L : despuesDeId, limite);
+    }
+}
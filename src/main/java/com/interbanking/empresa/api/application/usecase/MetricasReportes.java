@@ -0,0 +1,24 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tamaño de los resultados de los reportes. Se usa una distribución (máximo y percentiles) en lugar
+ * de un gauge con el último valor, que con peticiones concurrentes sólo reflejaría la última.
+ */
+final class MetricasReportes {
+
+    static final String EMPRESAS_POR_REPORTE = "empresa.reporte.empresas";
+
+    private MetricasReportes() {
+    }
+
+    static DistributionSummary empresasPorReporte(MeterRegistry registry, String reporte) {
+        return DistributionSummary.builder(EMPRESAS_POR_REPORTE)
+                .description("Cantidad de empresas devueltas por reporte")
+                .tag("reporte", reporte)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+}
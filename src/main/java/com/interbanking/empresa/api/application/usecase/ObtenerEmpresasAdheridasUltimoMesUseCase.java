@@ -1,24 +1,67 @@
 package com.interbanking.empresa.api.application.usecase;
 
-import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
 import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.ProyeccionEmpresa;
 import com.interbanking.empresa.api.domain.vo.RangoMes;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Component
 public class ObtenerEmpresasAdheridasUltimoMesUseCase {
 
     private final EmpresaRepositoryPort empresaRepositoryPort;
+    private final DistributionSummary empresasPorReporte;
 
-    public ObtenerEmpresasAdheridasUltimoMesUseCase(EmpresaRepositoryPort empresaRepositoryPort) {
+    public ObtenerEmpresasAdheridasUltimoMesUseCase(EmpresaRepositoryPort empresaRepositoryPort, MeterRegistry meterRegistry) {
         this.empresaRepositoryPort = empresaRepositoryPort;
+        this.empresasPorReporte = MetricasReportes.empresasPorReporte(meterRegistry, "adhesiones");
     }
 
-    public List<Empresa> ejecutar() {
-        RangoMes rango = RangoMes.mesPasado();
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "completo"}, histogram = true, percentiles = {0.5, 0.99})
+    public <T> List<T> ejecutar(ProyeccionEmpresa<T> proyeccion) {
+        return ejecutar(RangoMes.mesPasado(), proyeccion);
+    }
+
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "rango"}, histogram = true, percentiles = {0.5, 0.99})
+    public <T> List<T> ejecutar(RangoMes rango, ProyeccionEmpresa<T> proyeccion) {
+        List<T> empresas = empresaRepositoryPort.findByFechaAdhesionBetween(rango.inicio(), rango.fin(), proyeccion);
+        empresasPorReporte.record(empresas.size());
+        return empresas;
+    }
+
+    /**
+     * Sello de versión del reporte del rango, sin ejecutarlo: cambia con cada adhesión dentro del rango.
+     * De sólo lectura, como el reporte, para leerlo de la misma fuente que {@link #ejecutarVersionado}
+     */
+    @Transactional(readOnly = true)
+    public String version(RangoMes rango) {
+        return empresaRepositoryPort.versionAdhesionesEntre(rango.inicio(), rango.fin());
+    }
+
+    /**
+     * Igual que {@link #ejecutar(RangoMes, ProyeccionEmpresa)}, con el sello leído en la misma transacción
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "versionado"}, histogram = true, percentiles = {0.5, 0.99})
+    @Transactional(readOnly = true)
+    public <T> ReporteVersionado<T> ejecutarVersionado(RangoMes rango, ProyeccionEmpresa<T> proyeccion) {
+        String version = version(rango);
+        return new ReporteVersionado<>(version, ejecutar(rango, proyeccion));
+    }
 
-        return empresaRepositoryPort.findByFechaAdhesionBetween(rango.inicio(), rango.fin());
+    /**
+     * Entrega las empresas del rango a {@code consumidor} a medida que se leen, sin armar la lista
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "stream"}, histogram = true, percentiles = {0.5, 0.99})
+    public <T> void recorrer(RangoMes rango, ProyeccionEmpresa<T> proyeccion, Consumer<? super T> consumidor) {
+        long cantidad = empresaRepositoryPort.recorrerPorFechaAdhesionEntre(
+                rango.inicio(), rango.fin(), proyeccion, consumidor);
+        empresasPorReporte.record(cantidad);
     }
 }
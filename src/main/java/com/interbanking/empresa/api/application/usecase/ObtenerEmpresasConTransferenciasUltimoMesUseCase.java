@@ -1,25 +1,106 @@
 package com.interbanking.empresa.api.application.usecase;
 
-import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.domain.port.ActividadMensualRepositoryPort;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.ProyeccionEmpresa;
 import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
 import com.interbanking.empresa.api.domain.vo.RangoMes;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Component
 public class ObtenerEmpresasConTransferenciasUltimoMesUseCase {
+    private final ActividadMensualRepositoryPort actividadMensualRepositoryPort;
     private final TransferenciaRepositoryPort transferenciaRepositoryPort;
+    private final EmpresaRepositoryPort empresaRepositoryPort;
+    private final DistributionSummary empresasPorReporte;
+    private final DistributionSummary empresasPorPagina;
 
-    public ObtenerEmpresasConTransferenciasUltimoMesUseCase(TransferenciaRepositoryPort transferenciaRepositoryPort) {
+    public ObtenerEmpresasConTransferenciasUltimoMesUseCase(ActividadMensualRepositoryPort actividadMensualRepositoryPort,
+                                                           TransferenciaRepositoryPort transferenciaRepositoryPort,
+                                                           EmpresaRepositoryPort empresaRepositoryPort,
+                                                           MeterRegistry meterRegistry) {
+        this.actividadMensualRepositoryPort = actividadMensualRepositoryPort;
         this.transferenciaRepositoryPort = transferenciaRepositoryPort;
+        this.empresaRepositoryPort = empresaRepositoryPort;
+        this.empresasPorReporte = MetricasReportes.empresasPorReporte(meterRegistry, "transferencias");
+        this.empresasPorPagina = MetricasReportes.empresasPorReporte(meterRegistry, "transferencias-pagina");
     }
 
-    public List<Empresa> ejecutar() {
-        RangoMes rango = RangoMes.mesPasado();
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "completo"}, histogram = true, percentiles = {0.5, 0.99})
+    public <T> List<T> ejecutar(ProyeccionEmpresa<T> proyeccion) {
+        return ejecutar(RangoMes.mesPasado(), proyeccion);
+    }
+
+    /**
+     * Un mes completo se resuelve con el rollup mensual; una parte de un mes, con las transferencias
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "rango"}, histogram = true, percentiles = {0.5, 0.99})
+    public <T> List<T> ejecutar(RangoMes rango, ProyeccionEmpresa<T> proyeccion) {
+        List<T> empresas = rango.mesCompleto()
+                ? actividadMensualRepositoryPort.findEmpresasConActividadEn(rango.periodo(), proyeccion)
+                : transferenciaRepositoryPort.findEmpresasConTransferenciasEntre(rango.inicio(), rango.fin(), proyeccion);
+        empresasPorReporte.record(empresas.size());
+        return empresas;
+    }
+
+    /**
+     * Sello de versión del reporte del rango, sin ejecutarlo: cambia con cada transferencia del rango y
+     * con cada adhesión, porque el reporte incluye la fecha de adhesión de cada empresa. Sus dos lecturas
+     * van en una transacción, en la misma conexión (con réplicas, en la misma réplica)
+     */
+    @Transactional(readOnly = true)
+    public String version(RangoMes rango) {
+        return transferenciaRepositoryPort.versionTransferenciasEntre(rango.inicio(), rango.fin())
+                + "-" + empresaRepositoryPort.versionAdhesiones();
+    }
 
-        List<Empresa> empresas = transferenciaRepositoryPort.findEmpresasConTransferenciasEntre(rango.inicio(), rango.fin());
+    /**
+     * Igual que {@link #ejecutar(RangoMes, ProyeccionEmpresa)}, con el sello leído en la misma transacción
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "versionado"}, histogram = true, percentiles = {0.5, 0.99})
+    @Transactional(readOnly = true)
+    public <T> ReporteVersionado<T> ejecutarVersionado(RangoMes rango, ProyeccionEmpresa<T> proyeccion) {
+        String version = version(rango);
+        return new ReporteVersionado<>(version, ejecutar(rango, proyeccion));
+    }
+
+    /**
+     * Entrega las empresas del rango a {@code consumidor} a medida que se leen, sin armar la lista
+     * (salvo en meses incompletos, que no tienen rollup)
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "stream"}, histogram = true, percentiles = {0.5, 0.99})
+    public <T> void recorrer(RangoMes rango, ProyeccionEmpresa<T> proyeccion, Consumer<? super T> consumidor) {
+        long cantidad;
+        if (rango.mesCompleto()) {
+            cantidad = actividadMensualRepositoryPort.recorrerEmpresasConActividadEn(
+                    rango.periodo(), proyeccion, consumidor);
+        } else {
+            List<T> empresas = transferenciaRepositoryPort.findEmpresasConTransferenciasEntre(
+                    rango.inicio(), rango.fin(), proyeccion);
+            empresas.forEach(consumidor);
+            cantidad = empresas.size();
+        }
+        empresasPorReporte.record(cantidad);
+    }
+
+    /**
+     * Devuelve una página de hasta {@code limite} empresas con id mayor a {@code despuesDeId} (keyset)
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "pagina"}, histogram = true, percentiles = {0.5, 0.99})
+    public <T> List<T> ejecutar(Long despuesDeId, int limite, ProyeccionEmpresa<T> proyeccion) {
+        RangoMes rango = RangoMes.mesPasado();
 
-        return empresas.stream().toList();
+        List<T> pagina = actividadMensualRepositoryPort.findEmpresasConActividadEn(
+                rango.periodo(), despuesDeId == null ? 0L : despuesDeId, limite, proyeccion);
+        empresasPorPagina.record(pagina.size());
+        return pagina;
     }
 }
@@ -0,0 +1,47 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
+import com.interbanking.empresa.api.domain.vo.ResumenTransferencias;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class ObtenerResumenTransferenciasUseCase {
+    private final TransferenciaRepositoryPort transferenciaRepositoryPort;
+    private final EmpresaRepositoryPort empresaRepositoryPort;
+
+    public ObtenerResumenTransferenciasUseCase(TransferenciaRepositoryPort transferenciaRepositoryPort,
+                                               EmpresaRepositoryPort empresaRepositoryPort) {
+        this.transferenciaRepositoryPort = transferenciaRepositoryPort;
+        this.empresaRepositoryPort = empresaRepositoryPort;
+    }
+
+    /**
+     * Resumen de una empresa; vacío si la empresa no existe. Sólo se consulta la empresa cuando no
+     * tuvo transferencias en el rango, para distinguir "sin movimientos" de "inexistente".
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "empresa"}, histogram = true, percentiles = {0.5, 0.99})
+    public Optional<ResumenTransferencias> ejecutar(String cuit, LocalDate desde, LocalDate hasta) {
+        List<ResumenTransferencias> resumen = transferenciaRepositoryPort.resumirPorEmpresa(desde, hasta, List.of(cuit));
+        if (!resumen.isEmpty()) {
+            return Optional.of(resumen.get(0));
+        }
+        return empresaRepositoryPort.findByCuit(cuit)
+                .map(empresa -> ResumenTransferencias.sinTransferencias(cuit));
+    }
+
+    /**
+     * Resumen de las empresas de {@code cuits} que tuvieron transferencias en el rango, o de todas las
+     * que tuvieron si {@code cuits} es {@code null}
+     */
+    @Timed(value = "empresa.caso.uso", extraTags = {"variante", "lote"}, histogram = true, percentiles = {0.5, 0.99})
+    public List<ResumenTransferencias> ejecutarVarias(Collection<String> cuits, LocalDate desde, LocalDate hasta) {
+        return transferenciaRepositoryPort.resumirPorEmpresa(desde, hasta, cuits);
+    }
+}
@@ -0,0 +1,32 @@
+package com.interbanking.empresa.api.application.usecase.dto.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fila leída de un archivo de ingesta. Si no se pudo interpretar, {@code error} describe el motivo
+ * y el resto de los campos puede ser nulo.
+ */
+public record FilaTransferencia(
+        long numero,
+        String cuit,
+        BigDecimal importe,
+        String cuentaDebito,
+        String cuentaCredito,
+        LocalDate fechaTransferencia,
+        String error
+) {
+
+    public static FilaTransferencia valida(long numero, String cuit, BigDecimal importe, String cuentaDebito,
+                                           String cuentaCredito, LocalDate fechaTransferencia) {
+        return new FilaTransferencia(numero, cuit, importe, cuentaDebito, cuentaCredito, fechaTransferencia, null);
+    }
+
+    public static FilaTransferencia invalida(long numero, String error) {
+        return new FilaTransferencia(numero, null, null, null, null, null, error);
+    }
+
+    public boolean isValida() {
+        return error == null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.interbanking.empresa.api.application.usecase.dto.response;
 
+import com.interbanking.empresa.api.domain.model.Empresa;
+
 import java.time.LocalDate;
 
 public record AdhesionEmpresaDto(
@@ -7,4 +9,14 @@ public record AdhesionEmpresaDto(
         String cuit,
         String razonSocial,
         LocalDate fechaAdhesion
-) {}
+) {
+
+    public static AdhesionEmpresaDto from(Empresa empresa) {
+        return new AdhesionEmpresaDto(
+                empresa.getId(),
+                empresa.getCuit(),
+                empresa.getRazonSocial(),
+                empresa.getFechaAdhesion()
+        );
+    }
+}
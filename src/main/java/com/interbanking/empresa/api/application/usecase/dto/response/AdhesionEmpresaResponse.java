@@ -26,6 +26,10 @@ public class AdhesionEmpresaResponse {
         return new AdhesionEmpresaResponse(false, message, null,  HttpStatus.NOT_FOUND);
     }
 
+    public static AdhesionEmpresaResponse invalidCuit(String message) {
+        return new AdhesionEmpresaResponse(false, message, null, HttpStatus.BAD_REQUEST);
+    }
+
     public static AdhesionEmpresaResponse alreadyAdhered(String message) {
         return new AdhesionEmpresaResponse(false, message, null, HttpStatus.CONFLICT);
     }
@@ -0,0 +1,11 @@
+package com.interbanking.empresa.api.application.usecase.dto.response;
+
+import java.util.List;
+
+/**
+ * Empresas de un reporte junto con el sello de versión leído en la misma transacción, antes que
+ * las empresas: si cambian entre una lectura y otra, el reporte puede ser más nuevo que el sello
+ * pero nunca más viejo
+ */
+public record ReporteVersionado<T>(String version, List<T> empresas) {
+}
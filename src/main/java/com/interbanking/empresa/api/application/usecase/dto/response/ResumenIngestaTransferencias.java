@@ -0,0 +1,28 @@
+package com.interbanking.empresa.api.application.usecase.dto.response;
+
+import java.util.List;
+
+/**
+ * Resultado de una ingesta de transferencias. Cada lote se confirma en su propia transacción, así que
+ * si {@code error} no es nulo la ingesta se interrumpió con {@code insertadas} filas ya persistidas.
+ */
+public record ResumenIngestaTransferencias(
+        long leidas,
+        long insertadas,
+        long rechazadas,
+        List<ErrorFila> errores,
+        long duracionMs,
+        long filasPorSegundo,
+        String error
+) {
+
+    /**
+     * Fila rechazada: {@code codigo} es un {@code CodigoErrorTransferencia}, {@code FORMATO_INVALIDO},
+     * {@code EMPRESA_INEXISTENTE} o {@code FECHA_FUERA_DE_RETENCION}
+     */
+    public record ErrorFila(long fila, String codigo, String mensaje) {}
+
+    public boolean isCompleta() {
+        return error == null;
+    }
+}
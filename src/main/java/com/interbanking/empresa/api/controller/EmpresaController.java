@@ -1,51 +1,226 @@
 package com.interbanking.empresa.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.interbanking.empresa.api.application.usecase.AdhesionEmpresaBatchUseCase;
 import com.interbanking.empresa.api.application.usecase.AdhesionEmpresaUseCase;
 import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasAdheridasUltimoMesUseCase;
 import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasConTransferenciasUltimoMesUseCase;
+import com.interbanking.empresa.api.application.usecase.ObtenerResumenTransferenciasUseCase;
 import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaResponse;
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache.TipoReporte;
+import com.interbanking.empresa.api.controller.dto.request.AdhesionBatchRequest;
+import com.interbanking.empresa.api.controller.dto.response.AdhesionBatchItemResponse;
 import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
-import com.interbanking.empresa.api.controller.mapper.EmpresaResponseMapper;
+import com.interbanking.empresa.api.controller.dto.response.ResumenTransferenciasResponse;
+import com.interbanking.empresa.api.controller.formato.FormatoReporte;
+import com.interbanking.empresa.api.controller.reporte.ReportesPorRango;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/empresas")
 public class EmpresaController {
 
+    static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+    static final int LIMITE_MAXIMO_PAGINA = 1000;
+    static final int FILAS_POR_FLUSH = 500;
+    static final String PARAM_STREAM = "stream=true";
+    static final int MAXIMO_MESES_POR_RANGO = 24;
+    static final int MAXIMO_CUITS_POR_RESUMEN = 1000;
+    static final Duration MAXIMA_EDAD_MES_CERRADO = Duration.ofHours(1);
+    static final String CODIFICACION_GZIP = "gzip";
+
     private final AdhesionEmpresaUseCase adhesionEmpresaUseCase;
+    private final AdhesionEmpresaBatchUseCase adhesionEmpresaBatchUseCase;
     private final ObtenerEmpresasAdheridasUltimoMesUseCase obtenerEmpresasAdheridasUltimoMesUseCase;
     private final ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUltimoMesUseCase;
+    private final ObjectMapper objectMapper;
+    private final ReporteEmpresasCache reporteEmpresasCache;
+    private final ReportesPorRango reportesPorRango;
+    private final ObtenerResumenTransferenciasUseCase obtenerResumenTransferenciasUseCase;
 
     public EmpresaController(AdhesionEmpresaUseCase adhesionEmpresaUseCase,
+                             AdhesionEmpresaBatchUseCase adhesionEmpresaBatchUseCase,
                              ObtenerEmpresasAdheridasUltimoMesUseCase obtenerEmpresasAdheridasUltimoMesUseCase,
-                             ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUltimoMesUseCase) {
+                             ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUltimoMesUseCase,
+                             ObjectMapper objectMapper,
+                             ReporteEmpresasCache reporteEmpresasCache,
+                             ReportesPorRango reportesPorRango,
+                             ObtenerResumenTransferenciasUseCase obtenerResumenTransferenciasUseCase) {
         this.adhesionEmpresaUseCase = adhesionEmpresaUseCase;
+        this.adhesionEmpresaBatchUseCase = adhesionEmpresaBatchUseCase;
         this.obtenerEmpresasAdheridasUltimoMesUseCase = obtenerEmpresasAdheridasUltimoMesUseCase;
         this.obtenerEmpresasConTransferenciasUltimoMesUseCase = obtenerEmpresasConTransferenciasUltimoMesUseCase;
+        this.objectMapper = objectMapper;
+        this.reporteEmpresasCache = reporteEmpresasCache;
+        this.reportesPorRango = reportesPorRango;
+        this.obtenerResumenTransferenciasUseCase = obtenerResumenTransferenciasUseCase;
     }
 
+    /**
+     * GET condicional: el ETag sale del sello de versión del reporte, así que con {@code If-None-Match}
+     * vigente se responde 304 sin ejecutar la consulta. El formato se negocia con {@code Accept} (JSON,
+     * CBOR, Smile o Protobuf) y, por encima del umbral de compresión, se entrega con gzip si el cliente
+     * lo acepta.
+     */
     @GetMapping("/transferencias/ultimo-mes")
-    public ResponseEntity<List<EmpresaResponse>> getEmpresasConTransferenciasUltimoMes() {
-        List<EmpresaResponse> empresas = obtenerEmpresasConTransferenciasUltimoMesUseCase.ejecutar().stream()
-                .map(EmpresaResponseMapper::toResponse)
-                .toList();
+    public ResponseEntity<byte[]> getEmpresasConTransferenciasUltimoMes(@RequestHeader HttpHeaders headers) {
+        RangoMes rango = RangoMes.mesPasado();
+        return reporteCondicional(TipoReporte.TRANSFERENCIAS, rango, headers,
+                obtenerEmpresasConTransferenciasUltimoMesUseCase.version(rango), () ->
+                        obtenerEmpresasConTransferenciasUltimoMesUseCase.ejecutarVersionado(rango, EmpresaResponse::new));
+    }
+
+    /**
+     * Modo paginado por cursor: devuelve hasta {@code limit} empresas con id mayor a {@code after}.
+     * Si la página está completa, el header {@value #HEADER_NEXT_CURSOR} indica el cursor siguiente.
+     */
+    @GetMapping(value = "/transferencias/ultimo-mes", params = "limit")
+    public ResponseEntity<List<EmpresaResponse>> getEmpresasConTransferenciasUltimoMesPaginado(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit") int limit) {
+
+        if (limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int limite = Math.min(limit, LIMITE_MAXIMO_PAGINA);
+        List<EmpresaResponse> empresas = obtenerEmpresasConTransferenciasUltimoMesUseCase.ejecutar(
+                after, limite, EmpresaResponse::new);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (empresas.size() == limite) {
+            response.header(HEADER_NEXT_CURSOR, String.valueOf(empresas.get(empresas.size() - 1).id()));
+        }
+        return response.body(empresas);
+    }
 
-        return ResponseEntity.ok(empresas);
+    /**
+     * Modo streaming JSON ({@code ?stream=true}): el array se escribe a medida que avanza el cursor,
+     * sin pasar por la cache ni materializar la lista; se hace flush cada {@value #FILAS_POR_FLUSH} empresas.
+     */
+    @GetMapping(value = "/transferencias/ultimo-mes", params = PARAM_STREAM, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamJsonEmpresasConTransferenciasUltimoMes() {
+        RangoMes rango = RangoMes.mesPasado();
+        return streaming(MediaType.APPLICATION_JSON, consumidor ->
+                obtenerEmpresasConTransferenciasUltimoMesUseCase.recorrer(rango, EmpresaResponse::new, consumidor));
+    }
 
+    /**
+     * Modo streaming NDJSON: una empresa por línea, escritas a medida que avanza el cursor,
+     * con flush cada {@value #FILAS_POR_FLUSH} empresas.
+     */
+    @GetMapping(value = "/transferencias/ultimo-mes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmpresasConTransferenciasUltimoMes() {
+        RangoMes rango = RangoMes.mesPasado();
+        return streaming(MediaType.APPLICATION_NDJSON, consumidor ->
+                obtenerEmpresasConTransferenciasUltimoMesUseCase.recorrer(rango, EmpresaResponse::new, consumidor));
     }
 
+    /**
+     * GET condicional con formato y compresión negociados, igual que el de transferencias
+     */
     @GetMapping("/adhesiones/ultimo-mes")
-    public ResponseEntity<List<EmpresaResponse>> getEmpresasAdheridasUltimoMes() {
-        List<EmpresaResponse> empresas = obtenerEmpresasAdheridasUltimoMesUseCase.ejecutar().stream()
-                .map(EmpresaResponseMapper::toResponse)
-                .toList();
+    public ResponseEntity<byte[]> getEmpresasAdheridasUltimoMes(@RequestHeader HttpHeaders headers) {
+        RangoMes rango = RangoMes.mesPasado();
+        return reporteCondicional(TipoReporte.ADHESIONES, rango, headers,
+                obtenerEmpresasAdheridasUltimoMesUseCase.version(rango), () ->
+                        obtenerEmpresasAdheridasUltimoMesUseCase.ejecutarVersionado(rango, EmpresaResponse::new));
+    }
+
 
-        return ResponseEntity.ok(empresas);
+    /**
+     * Modo streaming JSON ({@code ?stream=true}), igual que el de transferencias
+     */
+    @GetMapping(value = "/adhesiones/ultimo-mes", params = PARAM_STREAM, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamJsonEmpresasAdheridasUltimoMes() {
+        RangoMes rango = RangoMes.mesPasado();
+        return streaming(MediaType.APPLICATION_JSON, consumidor ->
+                obtenerEmpresasAdheridasUltimoMesUseCase.recorrer(rango, EmpresaResponse::new, consumidor));
     }
 
+    /**
+     * Reporte por mes de las empresas con transferencias entre {@code desde} y {@code hasta} (inclusive,
+     * hasta {@value #MAXIMO_MESES_POR_RANGO} meses). Los meses incompletos del borde se calculan sobre
+     * las transferencias de esos días.
+     */
+    @GetMapping("/transferencias")
+    public ResponseEntity<byte[]> getEmpresasConTransferenciasPorMes(
+            @RequestParam(name = "desde") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(name = "hasta") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        return reportePorMes(TipoReporte.TRANSFERENCIAS, desde, hasta);
+    }
+
+    /**
+     * Reporte por mes de las empresas adheridas entre {@code desde} y {@code hasta} (inclusive,
+     * hasta {@value #MAXIMO_MESES_POR_RANGO} meses)
+     */
+    @GetMapping("/adhesiones")
+    public ResponseEntity<byte[]> getEmpresasAdheridasPorMes(
+            @RequestParam(name = "desde") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(name = "hasta") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        return reportePorMes(TipoReporte.ADHESIONES, desde, hasta);
+    }
+
+    /**
+     * Totales de las transferencias de la empresa entre {@code desde} y {@code hasta} (inclusive, hasta
+     * {@value #MAXIMO_MESES_POR_RANGO} meses): cantidad, importe total y máximo, y cuentas distintas
+     */
+    @GetMapping("/{cuit}/transferencias/resumen")
+    public ResponseEntity<ResumenTransferenciasResponse> getResumenTransferencias(
+            @PathVariable String cuit,
+            @RequestParam(name = "desde") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(name = "hasta") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        if (!rangoValido(desde, hasta)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return obtenerResumenTransferenciasUseCase.ejecutar(cuit, desde, hasta)
+                .map(resumen -> ResponseEntity.ok(ResumenTransferenciasResponse.de(resumen, desde, hasta)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Variante masiva: los totales de las empresas indicadas con {@code cuit} (repetible, hasta
+     * {@value #MAXIMO_CUITS_POR_RESUMEN}) o, sin {@code cuit}, de todas las que tuvieron transferencias
+     * en el rango. Las empresas sin transferencias no aparecen.
+     */
+    @GetMapping("/transferencias/resumen")
+    public ResponseEntity<List<ResumenTransferenciasResponse>> getResumenTransferenciasPorEmpresa(
+            @RequestParam(name = "cuit", required = false) List<String> cuits,
+            @RequestParam(name = "desde") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(name = "hasta") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        if (!rangoValido(desde, hasta) || (cuits != null && cuits.size() > MAXIMO_CUITS_POR_RESUMEN)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(obtenerResumenTransferenciasUseCase.ejecutarVarias(cuits, desde, hasta).stream()
+                .map(resumen -> ResumenTransferenciasResponse.de(resumen, desde, hasta))
+                .toList());
+    }
 
     @PatchMapping("/{cuit}/adhesion")
     public ResponseEntity<String> adhesionEmpresa(@PathVariable String cuit) {
@@ -58,4 +233,192 @@ public class EmpresaController {
 
         return ResponseEntity.ok().body(response.getMessage());
     }
+
+    @PostMapping("/adhesiones:batch")
+    public ResponseEntity<List<AdhesionBatchItemResponse>> adhesionEmpresas(@RequestBody AdhesionBatchRequest request) {
+        if (request.cuits() == null || request.cuits().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<AdhesionBatchItemResponse> resultados = adhesionEmpresaBatchUseCase.procesarAdhesiones(request.cuits())
+                .entrySet().stream()
+                .map(resultado -> new AdhesionBatchItemResponse(
+                        resultado.getKey(),
+                        resultado.getValue().isSuccess(),
+                        resultado.getValue().getMessage(),
+                        resultado.getValue().getEmpresa(),
+                        resultado.getValue().getHttpStatus().value()))
+                .toList();
+
+        return ResponseEntity.ok(resultados);
+    }
+
+    /**
+     * Escribe las empresas que entrega {@code recorrido} directamente en la respuesta, como array JSON
+     * o como NDJSON según {@code tipo}. Los errores de escritura cortan el recorrido (y el cursor).
+     */
+    private ResponseEntity<StreamingResponseBody> streaming(MediaType tipo, Consumer<Consumer<EmpresaResponse>> recorrido) {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.equals(tipo);
+        StreamingResponseBody body = outputStream -> {
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                if (ndjson) {
+                    generator.setRootValueSeparator(null);
+                } else {
+                    generator.writeStartArray();
+                }
+                int[] filas = {0};
+                try {
+                    recorrido.accept(empresa -> {
+                        try {
+                            writer.writeValue(generator, empresa);
+                            if (ndjson) {
+                                generator.writeRaw('\n');
+                            }
+                            if (++filas[0] % FILAS_POR_FLUSH == 0) {
+                                generator.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(tipo)
+                .body(body);
+    }
+
+    /**
+     * Responde 304 si {@code If-None-Match} incluye el ETag de {@code version} en el formato negociado (con o
+     * sin gzip); si no, el reporte de la cache o de {@code cargar}, con el ETag de la versión con la que se
+     * cargó. Cada formato y codificación es una representación distinta, con su propio ETag fuerte.
+     */
+    private ResponseEntity<byte[]> reporteCondicional(TipoReporte tipo, RangoMes rango, HttpHeaders headers, String version,
+                                                      Supplier<ReporteVersionado<EmpresaResponse>> cargar) {
+        Optional<FormatoReporte> negociado = FormatoReporte.negociar(headers.getAccept());
+        if (negociado.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        FormatoReporte formato = negociado.get();
+
+        String ifNoneMatch = String.join(",", headers.getOrEmpty(HttpHeaders.IF_NONE_MATCH));
+        String etag = etag(tipo, rango, version, formato, false);
+        String etagGzip = etag(tipo, rango, version, formato, true);
+        if (coincide(ifNoneMatch, etag) || coincide(ifNoneMatch, etagGzip)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(coincide(ifNoneMatch, etag) ? etag : etagGzip)
+                    .cacheControl(cacheControl(rango))
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ReporteEmpresasCache.Reporte reporte = reporteEmpresasCache.obtener(tipo, rango, formato, version, cargar);
+        boolean gzip = reporte.cuerpoGzip() != null && aceptaGzip(headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag(tipo, rango, reporte.version(), formato, gzip))
+                .cacheControl(cacheControl(rango))
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(formato.getMediaType());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, CODIFICACION_GZIP);
+        }
+        return response.body(gzip ? reporte.cuerpoGzip() : reporte.cuerpo());
+    }
+
+    static String etag(TipoReporte tipo, RangoMes rango, String version, FormatoReporte formato, boolean gzip) {
+        return "\"" + tipo.name().toLowerCase() + "-" + rango.periodo() + "-" + version
+                + (formato == FormatoReporte.JSON ? "" : "-" + formato.name().toLowerCase())
+                + (gzip ? "-" + CODIFICACION_GZIP : "") + "\"";
+    }
+
+    /**
+     * {@code true} si {@code Accept-Encoding} acepta gzip con calidad mayor a cero (RFC 9110): una entrada
+     * {@code gzip} explícita manda sobre el comodín {@code *}, que sólo cuenta si gzip no aparece
+     */
+    static boolean aceptaGzip(List<String> acceptEncoding) {
+        double calidadGzip = -1;
+        double calidadComodin = -1;
+        for (String valor : acceptEncoding) {
+            for (String codificacion : valor.split(",")) {
+                String[] partes = codificacion.split(";");
+                String nombre = partes[0].trim();
+                if (nombre.equalsIgnoreCase(CODIFICACION_GZIP)) {
+                    calidadGzip = Math.max(calidadGzip, calidad(partes));
+                } else if (nombre.equals("*")) {
+                    calidadComodin = Math.max(calidadComodin, calidad(partes));
+                }
+            }
+        }
+        return (calidadGzip >= 0 ? calidadGzip : calidadComodin) > 0;
+    }
+
+    /**
+     * Valor del parámetro {@code q} de una codificación, 1 si no lo tiene y 0 si no es un número
+     */
+    private static double calidad(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim();
+            if (parametro.length() > 1 && Character.toLowerCase(parametro.charAt(0)) == 'q'
+                    && parametro.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parametro.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Comparación débil de {@code If-None-Match} (RFC 9110): una lista de ETags, con o sin {@code W/}, o {@code *}
+     */
+    static boolean coincide(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*") || valor.equals(etag) || valor.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Los meses cerrados se pueden cachear en proxies y CDN, pero no más allá del cambio de mes: a partir
+     * de ahí "ultimo-mes" es otro período. Los meses en curso se revalidan siempre.
+     */
+    private static CacheControl cacheControl(RangoMes rango) {
+        LocalDateTime ahora = LocalDateTime.now();
+        if (!rango.cerrado(ahora.toLocalDate())) {
+            return CacheControl.noCache();
+        }
+        Duration hastaCambioDeMes = Duration.between(ahora, YearMonth.from(ahora).plusMonths(1).atDay(1).atStartOfDay());
+        Duration maximaEdad = hastaCambioDeMes.compareTo(MAXIMA_EDAD_MES_CERRADO) < 0 ? hastaCambioDeMes : MAXIMA_EDAD_MES_CERRADO;
+        return CacheControl.maxAge(maximaEdad).cachePublic().mustRevalidate();
+    }
+
+    private ResponseEntity<byte[]> reportePorMes(TipoReporte tipo, LocalDate desde, LocalDate hasta) {
+        if (!rangoValido(desde, hasta)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reportesPorRango.obtener(tipo, desde, hasta));
+    }
+
+    private static boolean rangoValido(LocalDate desde, LocalDate hasta) {
+        return !hasta.isBefore(desde) && RangoMes.cantidadMeses(desde, hasta) <= MAXIMO_MESES_POR_RANGO;
+    }
 }
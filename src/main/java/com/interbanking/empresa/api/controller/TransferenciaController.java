@@ -0,0 +1,86 @@
+package com.interbanking.empresa.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interbanking.empresa.api.application.usecase.IngestaTransferenciasUseCase;
+import com.interbanking.empresa.api.application.usecase.ListarTransferenciasUseCase;
+import com.interbanking.empresa.api.application.usecase.dto.response.ResumenIngestaTransferencias;
+import com.interbanking.empresa.api.controller.dto.response.TransferenciaResponse;
+import com.interbanking.empresa.api.infraestructure.ingesta.FormatoIngesta;
+import com.interbanking.empresa.api.infraestructure.ingesta.LectorTransferencias;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/transferencias")
+public class TransferenciaController {
+
+    private final IngestaTransferenciasUseCase ingestaTransferenciasUseCase;
+    private final ListarTransferenciasUseCase listarTransferenciasUseCase;
+    private final ObjectMapper objectMapper;
+
+    public TransferenciaController(IngestaTransferenciasUseCase ingestaTransferenciasUseCase,
+                                   ListarTransferenciasUseCase listarTransferenciasUseCase,
+                                   ObjectMapper objectMapper) {
+        this.ingestaTransferenciasUseCase = ingestaTransferenciasUseCase;
+        this.listarTransferenciasUseCase = listarTransferenciasUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Transferencias entre {@code desde} y {@code hasta} con los datos de su empresa, paginadas por cursor
+     * como los reportes de empresas: hasta {@code limit} con id mayor a {@code after}, y el header
+     * {@value EmpresaController#HEADER_NEXT_CURSOR} si la página está completa
+     */
+    @GetMapping
+    public ResponseEntity<List<TransferenciaResponse>> listarTransferencias(
+            @RequestParam(name = "desde") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(name = "hasta") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit") int limit) {
+
+        if (limit <= 0 || hasta.isBefore(desde)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int limite = Math.min(limit, EmpresaController.LIMITE_MAXIMO_PAGINA);
+        List<TransferenciaResponse> transferencias = listarTransferenciasUseCase.ejecutar(desde, hasta, after, limite)
+                .stream()
+                .map(TransferenciaResponse::de)
+                .toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (transferencias.size() == limite) {
+            response.header(EmpresaController.HEADER_NEXT_CURSOR,
+                    String.valueOf(transferencias.get(transferencias.size() - 1).id()));
+        }
+        return response.body(transferencias);
+    }
+
+    @PostMapping(value = "/ingesta", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ResumenIngestaTransferencias> ingerirTransferencias(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream cuerpo) throws IOException {
+        FormatoIngesta formato = FormatoIngesta.desdeContentType(contentType)
+                .orElseThrow(() -> new IllegalArgumentException("Content-Type no soportado: " + contentType));
+
+        try (LectorTransferencias lector = new LectorTransferencias(cuerpo, formato, objectMapper)) {
+            ResumenIngestaTransferencias resumen = ingestaTransferenciasUseCase.ingerir(lector);
+            HttpStatus status = resumen.isCompleta() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR;
+            return ResponseEntity.status(status).body(resumen);
+        }
+    }
+}
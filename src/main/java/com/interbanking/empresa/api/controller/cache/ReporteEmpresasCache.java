@@ -0,0 +1,237 @@
+package com.interbanking.empresa.api.controller.cache;
+
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.formato.CodificadorReportes;
+import com.interbanking.empresa.api.controller.formato.FormatoReporte;
+import com.interbanking.empresa.api.domain.event.EmpresaAdheridaEvent;
+import com.interbanking.empresa.api.domain.event.TransferenciasRegistradasEvent;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache en memoria de los reportes mensuales (el del mes pasado y los meses cerrados de los reportes
+ * por rango), ya serializados en el formato pedido y, a partir de {@code server.compression.min-response-size},
+ * también comprimidos con gzip: cada cuerpo se serializa y comprime una vez por carga y no por request.
+ * <p>
+ * Las entradas se indexan por tipo de reporte, {@link RangoMes} y formato, se desalojan por LRU al superar
+ * la cantidad de entradas o de bytes configurada y se descartan completas cuando cambia el mes
+ * (el "mes pasado" pasa a ser otro). Al adherirse una empresa sólo se invalidan las entradas
+ * que la contienen o cuyo rango incluye la nueva fecha de adhesión, y al registrarse transferencias
+ * los reportes de transferencias de los meses afectados.
+ */
+@Slf4j
+@Component
+public class ReporteEmpresasCache {
+
+    public enum TipoReporte {
+        TRANSFERENCIAS,
+        ADHESIONES
+    }
+
+    /**
+     * Reporte serializado y la versión con la que se cargó; {@code cuerpoGzip} es {@code null} si el
+     * cuerpo no llega al umbral de compresión
+     */
+    public record Reporte(String version, byte[] cuerpo, byte[] cuerpoGzip) {}
+
+    private record Clave(TipoReporte tipo, RangoMes rango, FormatoReporte formato) {}
+
+    private record Entrada(byte[] cuerpo, byte[] cuerpoGzip, long[] idsOrdenados, String version) {
+
+        boolean contiene(Long id) {
+            return id != null && Arrays.binarySearch(idsOrdenados, id) >= 0;
+        }
+
+        long bytes() {
+            return cuerpo.length + (cuerpoGzip == null ? 0 : cuerpoGzip.length);
+        }
+    }
+
+    private final CodificadorReportes codificador;
+    private final long umbralCompresion;
+    private final int maxEntradas;
+    private final long maxBytes;
+    private final Clock clock;
+
+    private final LinkedHashMap<Clave, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesEnCache;
+    private long version;
+    private RangoMes rangoVigente;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+
+    @Autowired
+    public ReporteEmpresasCache(CodificadorReportes codificador,
+                                @Value("${server.compression.min-response-size:2KB}") DataSize umbralCompresion,
+                                @Value("${empresa.reportes.cache.max-entradas:64}") int maxEntradas,
+                                @Value("${empresa.reportes.cache.max-bytes:67108864}") long maxBytes) {
+        this(codificador, umbralCompresion, maxEntradas, maxBytes, Clock.systemDefaultZone());
+    }
+
+    ReporteEmpresasCache(CodificadorReportes codificador, DataSize umbralCompresion, int maxEntradas, long maxBytes,
+                         Clock clock) {
+        this.codificador = codificador;
+        this.umbralCompresion = umbralCompresion.toBytes();
+        this.maxEntradas = maxEntradas;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    /**
+     * Devuelve el reporte serializado en JSON, cargándolo con {@code cargar} si no está en cache
+     */
+    public byte[] obtener(TipoReporte tipo, RangoMes rango, Supplier<List<EmpresaResponse>> cargar) {
+        return obtener(new Clave(tipo, rango, FormatoReporte.JSON), null,
+                () -> new ReporteVersionado<>(null, cargar.get())).cuerpo();
+    }
+
+    /**
+     * Igual que {@link #obtener(TipoReporte, RangoMes, Supplier)}, pero una entrada cacheada con otra
+     * versión que {@code versionReporte} se vuelve a cargar: el cuerpo siempre corresponde a la versión
+     * devuelta, aunque el cambio no haya pasado por esta instancia
+     */
+    public Reporte obtener(TipoReporte tipo, RangoMes rango, FormatoReporte formato, String versionReporte,
+                           Supplier<ReporteVersionado<EmpresaResponse>> cargar) {
+        Entrada entrada = obtener(new Clave(tipo, rango, formato), versionReporte, cargar);
+        return new Reporte(entrada.version(), entrada.cuerpo(), entrada.cuerpoGzip());
+    }
+
+    private Entrada obtener(Clave clave, String versionReporte, Supplier<ReporteVersionado<EmpresaResponse>> cargar) {
+        long versionLeida;
+        synchronized (this) {
+            verificarCambioDeMes();
+            Entrada entrada = entradas.get(clave);
+            if (entrada != null && (versionReporte == null || versionReporte.equals(entrada.version()))) {
+                aciertos.increment();
+                return entrada;
+            }
+            versionLeida = version;
+        }
+
+        fallos.increment();
+        ReporteVersionado<EmpresaResponse> reporte = cargar.get();
+        byte[] cuerpo = codificador.codificar(clave.formato(), reporte.empresas());
+        Entrada entrada = new Entrada(cuerpo,
+                cuerpo.length < umbralCompresion ? null : CodificadorReportes.gzip(cuerpo),
+                reporte.empresas().stream().mapToLong(EmpresaResponse::id).sorted().toArray(),
+                reporte.version());
+
+        synchronized (this) {
+            // Si hubo una invalidación mientras se cargaba, el resultado puede estar desactualizado
+            if (versionLeida == version) {
+                guardar(clave, entrada);
+            }
+        }
+        return entrada;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEmpresaAdherida(EmpresaAdheridaEvent event) {
+        version++;
+        desalojar((clave, entrada) -> afectadaPorAdhesion(clave, entrada, event),
+                "adhesión de empresa CUIT: " + event.cuit());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTransferenciasRegistradas(TransferenciasRegistradasEvent event) {
+        version++;
+        desalojar((clave, entrada) -> clave.tipo() == TipoReporte.TRANSFERENCIAS
+                        && event.periodos().contains(clave.rango().periodo()),
+                "transferencias registradas en " + event.periodos());
+    }
+
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    public long getDesalojos() {
+        return desalojos.sum();
+    }
+
+    public synchronized int getEntradas() {
+        return entradas.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytesEnCache;
+    }
+
+    private void desalojar(BiPredicate<Clave, Entrada> afectada, String motivo) {
+        Iterator<Map.Entry<Clave, Entrada>> iterator = entradas.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Clave, Entrada> item = iterator.next();
+            if (afectada.test(item.getKey(), item.getValue())) {
+                log.debug("Invalidando reporte {} {} por {}", item.getKey().tipo(), item.getKey().rango(), motivo);
+                bytesEnCache -= item.getValue().bytes();
+                desalojos.increment();
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean afectadaPorAdhesion(Clave clave, Entrada entrada, EmpresaAdheridaEvent event) {
+        if (entrada.contiene(event.id())) {
+            return true;
+        }
+        return clave.tipo() == TipoReporte.ADHESIONES
+                && event.fechaAdhesion() != null
+                && clave.rango().contiene(event.fechaAdhesion());
+    }
+
+    private void verificarCambioDeMes() {
+        RangoMes actual = RangoMes.mesPasado(LocalDate.now(clock));
+        if (actual.equals(rangoVigente)) {
+            return;
+        }
+        if (rangoVigente != null) {
+            log.info("Cambio de mes detectado ({} -> {}), se descartan {} reportes en cache",
+                    rangoVigente.periodo(), actual.periodo(), entradas.size());
+            desalojos.add(entradas.size());
+            entradas.clear();
+            bytesEnCache = 0;
+            version++;
+        }
+        rangoVigente = actual;
+    }
+
+    private void guardar(Clave clave, Entrada entrada) {
+        if (entrada.bytes() > maxBytes) {
+            return;
+        }
+        Entrada anterior = entradas.put(clave, entrada);
+        if (anterior != null) {
+            bytesEnCache -= anterior.bytes();
+        }
+        bytesEnCache += entrada.bytes();
+
+        Iterator<Entrada> masAntiguas = entradas.values().iterator();
+        while (entradas.size() > maxEntradas || bytesEnCache > maxBytes) {
+            bytesEnCache -= masAntiguas.next().bytes();
+            masAntiguas.remove();
+            desalojos.increment();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.interbanking.empresa.api.controller.dto.request;
+
+import java.util.List;
+
+public record AdhesionBatchRequest(
+        List<String> cuits
+) {}
@@ -0,0 +1,11 @@
+package com.interbanking.empresa.api.controller.dto.response;
+
+import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaDto;
+
+public record AdhesionBatchItemResponse(
+        String cuit,
+        boolean success,
+        String message,
+        AdhesionEmpresaDto empresa,
+        int status
+) {}
@@ -0,0 +1,23 @@
+package com.interbanking.empresa.api.controller.dto.response;
+
+import com.interbanking.empresa.api.domain.vo.ResumenTransferencias;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ResumenTransferenciasResponse(
+        String cuit,
+        LocalDate desde,
+        LocalDate hasta,
+        long cantidadTransferencias,
+        BigDecimal importeTotal,
+        BigDecimal importeMaximo,
+        long cuentasDebitoDistintas,
+        long cuentasCreditoDistintas
+) {
+
+    public static ResumenTransferenciasResponse de(ResumenTransferencias resumen, LocalDate desde, LocalDate hasta) {
+        return new ResumenTransferenciasResponse(resumen.cuit(), desde, hasta, resumen.cantidadTransferencias(),
+                resumen.importeTotal(), resumen.importeMaximo(), resumen.cuentasDebito(), resumen.cuentasCredito());
+    }
+}
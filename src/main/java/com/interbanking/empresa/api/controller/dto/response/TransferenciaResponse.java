@@ -0,0 +1,24 @@
+package com.interbanking.empresa.api.controller.dto.response;
+
+import com.interbanking.empresa.api.domain.model.Transferencia;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransferenciaResponse(
+        Long id,
+        String cuit,
+        String razonSocial,
+        BigDecimal importe,
+        String cuentaDebito,
+        String cuentaCredito,
+        LocalDate fechaTransferencia
+) {
+
+    public static TransferenciaResponse de(Transferencia transferencia) {
+        return new TransferenciaResponse(transferencia.getId(), transferencia.getEmpresa().getCuit(),
+                transferencia.getEmpresa().getRazonSocial(), transferencia.getImporte(),
+                transferencia.getCuentaDebito(), transferencia.getCuentaCredito(),
+                transferencia.getFechaTransferencia());
+    }
+}
@@ -0,0 +1,59 @@
+package com.interbanking.empresa.api.controller.formato;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializa los reportes de empresas en cada {@link FormatoReporte}. JSON usa el {@code ObjectMapper} de
+ * la aplicación; CBOR y Smile, mappers de Jackson con las fechas como texto, igual que en JSON.
+ */
+@Component
+public class CodificadorReportes {
+
+    private final ObjectMapper json;
+    private final ObjectMapper cbor;
+    private final ObjectMapper smile;
+
+    public CodificadorReportes(ObjectMapper objectMapper) {
+        this.json = objectMapper;
+        this.cbor = Jackson2ObjectMapperBuilder.cbor()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.smile = Jackson2ObjectMapperBuilder.smile()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public byte[] codificar(FormatoReporte formato, List<EmpresaResponse> empresas) {
+        try {
+            return switch (formato) {
+                case JSON -> json.writeValueAsBytes(empresas);
+                case CBOR -> cbor.writeValueAsBytes(empresas);
+                case SMILE -> smile.writeValueAsBytes(empresas);
+                case PROTOBUF -> EmpresasProtobuf.codificar(empresas);
+            };
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el reporte en " + formato, e);
+        }
+    }
+
+    public static byte[] gzip(byte[] cuerpo) {
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream(Math.max(64, cuerpo.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+            gzip.write(cuerpo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return comprimido.toByteArray();
+    }
+}
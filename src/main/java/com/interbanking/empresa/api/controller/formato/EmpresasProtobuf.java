@@ -0,0 +1,101 @@
+package com.interbanking.empresa.api.controller.formato;
+
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Codifica una lista de empresas como el mensaje {@code Empresas} de {@code src/main/proto/empresas.proto},
+ * escribiendo el formato de cable de Protobuf directamente (sin protobuf-java ni código generado)
+ */
+final class EmpresasProtobuf {
+
+    static final int TIPO_VARINT = 0;
+    static final int TIPO_LONGITUD = 2;
+
+    static final int CAMPO_EMPRESAS = 1;
+    static final int CAMPO_ID = 1;
+    static final int CAMPO_CUIT = 2;
+    static final int CAMPO_RAZON_SOCIAL = 3;
+    static final int CAMPO_FECHA_ADHESION = 4;
+
+    private EmpresasProtobuf() {
+    }
+
+    static byte[] codificar(List<EmpresaResponse> empresas) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(Math.max(32, empresas.size() * 40));
+        for (EmpresaResponse empresa : empresas) {
+            byte[] cuit = utf8(empresa.cuit());
+            byte[] razonSocial = utf8(empresa.razonSocial());
+
+            int tamanio = 0;
+            if (empresa.id() != null && empresa.id() != 0) {
+                tamanio += 1 + tamanioVarint(empresa.id());
+            }
+            tamanio += tamanioTexto(cuit) + tamanioTexto(razonSocial);
+            if (empresa.fechaAdhesion() != null) {
+                tamanio += 1 + tamanioVarint(empresa.fechaAdhesion().toEpochDay());
+            }
+
+            escribirVarint(salida, clave(CAMPO_EMPRESAS, TIPO_LONGITUD));
+            escribirVarint(salida, tamanio);
+            if (empresa.id() != null && empresa.id() != 0) {
+                escribirVarint(salida, clave(CAMPO_ID, TIPO_VARINT));
+                escribirVarint(salida, empresa.id());
+            }
+            escribirTexto(salida, CAMPO_CUIT, cuit);
+            escribirTexto(salida, CAMPO_RAZON_SOCIAL, razonSocial);
+            if (empresa.fechaAdhesion() != null) {
+                escribirVarint(salida, clave(CAMPO_FECHA_ADHESION, TIPO_VARINT));
+                escribirVarint(salida, empresa.fechaAdhesion().toEpochDay());
+            }
+        }
+        return salida.toByteArray();
+    }
+
+    private static int clave(int campo, int tipo) {
+        return campo << 3 | tipo;
+    }
+
+    private static byte[] utf8(String texto) {
+        return texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Los textos vacíos o nulos no se escriben: en proto3 equivalen al valor por defecto
+     */
+    private static int tamanioTexto(byte[] texto) {
+        return texto == null || texto.length == 0 ? 0 : 1 + tamanioVarint(texto.length) + texto.length;
+    }
+
+    private static void escribirTexto(ByteArrayOutputStream salida, int campo, byte[] texto) {
+        if (texto == null || texto.length == 0) {
+            return;
+        }
+        escribirVarint(salida, clave(campo, TIPO_LONGITUD));
+        escribirVarint(salida, texto.length);
+        salida.writeBytes(texto);
+    }
+
+    /**
+     * Los negativos ocupan diez bytes, como un int64 de Protobuf
+     */
+    private static int tamanioVarint(long valor) {
+        int bytes = 1;
+        while ((valor & ~0x7FL) != 0) {
+            valor >>>= 7;
+            bytes++;
+        }
+        return bytes;
+    }
+
+    private static void escribirVarint(ByteArrayOutputStream salida, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            salida.write((int) (valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        salida.write((int) valor);
+    }
+}
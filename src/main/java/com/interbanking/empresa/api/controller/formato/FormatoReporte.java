@@ -0,0 +1,44 @@
+package com.interbanking.empresa.api.controller.formato;
+
+import org.springframework.http.MediaType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Formatos en que se entregan los reportes de empresas ya serializados: JSON, CBOR y Smile (Jackson)
+ * y Protobuf con el esquema de {@code src/main/proto/empresas.proto}
+ */
+public enum FormatoReporte {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    PROTOBUF(new MediaType("application", "x-protobuf"));
+
+    private final MediaType mediaType;
+
+    FormatoReporte(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Primer formato aceptado por {@code aceptados} (header {@code Accept}), por calidad y, a igual
+     * calidad, en el orden del header; JSON si no hay header o es un comodín. Vacío si no se acepta ninguno.
+     */
+    public static Optional<FormatoReporte> negociar(List<MediaType> aceptados) {
+        if (aceptados.isEmpty()) {
+            return Optional.of(JSON);
+        }
+        return aceptados.stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .filter(aceptado -> aceptado.getQualityValue() > 0)
+                .flatMap(aceptado -> List.of(values()).stream()
+                        .filter(formato -> aceptado.includes(formato.mediaType)))
+                .findFirst();
+    }
+}
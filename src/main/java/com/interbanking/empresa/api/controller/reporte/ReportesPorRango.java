@@ -0,0 +1,153 @@
+package com.interbanking.empresa.api.controller.reporte;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasAdheridasUltimoMesUseCase;
+import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasConTransferenciasUltimoMesUseCase;
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache.TipoReporte;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.formato.FormatoReporte;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Reportes de empresas para un rango arbitrario de fechas, partido en meses con {@link RangoMes#particionar}.
+ * <p>
+ * Los meses se resuelven en paralelo (hasta {@code empresa.reportes.rango.paralelismo} a la vez). Los ya
+ * cerrados se sirven desde {@link ReporteEmpresasCache}, compartiendo las entradas con los reportes del
+ * mes pasado, y como ellos se validan contra el sello de versión del mes en cada pedido: una ingesta con
+ * fechas pasadas o una adhesión hecha en otra instancia no dejan un mes cerrado desactualizado. El mes en
+ * curso se consulta siempre.
+ */
+@Component
+public class ReportesPorRango {
+
+    private final ReporteEmpresasCache reporteEmpresasCache;
+    private final ObtenerEmpresasAdheridasUltimoMesUseCase obtenerEmpresasAdheridasUseCase;
+    private final ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUseCase;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final Clock clock;
+
+    @Autowired
+    public ReportesPorRango(ReporteEmpresasCache reporteEmpresasCache,
+                            ObtenerEmpresasAdheridasUltimoMesUseCase obtenerEmpresasAdheridasUseCase,
+                            ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUseCase,
+                            ObjectMapper objectMapper,
+                            @Value("${empresa.reportes.rango.paralelismo:4}") int paralelismo) {
+        this(reporteEmpresasCache, obtenerEmpresasAdheridasUseCase, obtenerEmpresasConTransferenciasUseCase, objectMapper,
+                Executors.newFixedThreadPool(paralelismo, tarea -> {
+                    Thread thread = new Thread(tarea, "reporte-mes");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                Clock.systemDefaultZone());
+    }
+
+    ReportesPorRango(ReporteEmpresasCache reporteEmpresasCache,
+                     ObtenerEmpresasAdheridasUltimoMesUseCase obtenerEmpresasAdheridasUseCase,
+                     ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUseCase,
+                     ObjectMapper objectMapper,
+                     ExecutorService executor,
+                     Clock clock) {
+        this.reporteEmpresasCache = reporteEmpresasCache;
+        this.obtenerEmpresasAdheridasUseCase = obtenerEmpresasAdheridasUseCase;
+        this.obtenerEmpresasConTransferenciasUseCase = obtenerEmpresasConTransferenciasUseCase;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Devuelve el reporte serializado como un array con un objeto por mes, en orden:
+     * {@code [{"periodo":"2025-01","desde":"2025-01-01","hasta":"2025-01-31","empresas":[...]}, ...]}
+     */
+    public byte[] obtener(TipoReporte tipo, LocalDate desde, LocalDate hasta) {
+        LocalDate hoy = LocalDate.now(clock);
+        List<RangoMes> meses = RangoMes.particionar(desde, hasta);
+        List<CompletableFuture<byte[]>> reportes = meses.stream()
+                .map(rango -> CompletableFuture.supplyAsync(() -> reporteDelMes(tipo, rango, hoy), executor))
+                .toList();
+
+        try {
+            return serializar(meses, reportes.stream().map(CompletableFuture::join).toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void cerrar() {
+        executor.shutdownNow();
+    }
+
+    private byte[] reporteDelMes(TipoReporte tipo, RangoMes rango, LocalDate hoy) {
+        if (rango.cerrado(hoy)) {
+            String version = switch (tipo) {
+                case ADHESIONES -> obtenerEmpresasAdheridasUseCase.version(rango);
+                case TRANSFERENCIAS -> obtenerEmpresasConTransferenciasUseCase.version(rango);
+            };
+            Supplier<ReporteVersionado<EmpresaResponse>> cargar = switch (tipo) {
+                case ADHESIONES -> () -> obtenerEmpresasAdheridasUseCase.ejecutarVersionado(rango, EmpresaResponse::new);
+                case TRANSFERENCIAS -> () -> obtenerEmpresasConTransferenciasUseCase.ejecutarVersionado(rango, EmpresaResponse::new);
+            };
+            return reporteEmpresasCache.obtener(tipo, rango, FormatoReporte.JSON, version, cargar).cuerpo();
+        }
+        List<EmpresaResponse> empresas = switch (tipo) {
+            case ADHESIONES -> obtenerEmpresasAdheridasUseCase.ejecutar(rango, EmpresaResponse::new);
+            case TRANSFERENCIAS -> obtenerEmpresasConTransferenciasUseCase.ejecutar(rango, EmpresaResponse::new);
+        };
+        try {
+            return objectMapper.writeValueAsBytes(empresas);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el reporte", e);
+        }
+    }
+
+    /**
+     * Arma la respuesta sin volver a serializar las empresas: cada mes ya es un array JSON
+     */
+    private byte[] serializar(List<RangoMes> meses, List<byte[]> empresasPorMes) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(
+                empresasPorMes.stream().mapToInt(empresas -> empresas.length + 80).sum() + 2);
+        try (JsonGenerator generator = objectMapper.createGenerator(salida)) {
+            generator.writeStartArray();
+            for (int i = 0; i < meses.size(); i++) {
+                RangoMes rango = meses.get(i);
+                generator.writeStartObject();
+                generator.writeStringField("periodo", rango.periodo().toString());
+                generator.writeStringField("desde", rango.inicio().toString());
+                generator.writeStringField("hasta", rango.fin().toString());
+                generator.writeFieldName("empresas");
+                generator.writeRawValue(new String(empresasPorMes.get(i), StandardCharsets.UTF_8));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return salida.toByteArray();
+    }
+}
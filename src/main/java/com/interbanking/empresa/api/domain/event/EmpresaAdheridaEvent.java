@@ -0,0 +1,9 @@
+package com.interbanking.empresa.api.domain.event;
+
+import java.time.LocalDate;
+
+public record EmpresaAdheridaEvent(
+        Long id,
+        String cuit,
+        LocalDate fechaAdhesion
+) {}
@@ -0,0 +1,8 @@
+package com.interbanking.empresa.api.domain.event;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+public record TransferenciasRegistradasEvent(
+        Set<YearMonth> periodos
+) {}
@@ -0,0 +1,29 @@
+package com.interbanking.empresa.api.domain.model;
+
+/**
+ * Reglas de negocio de {@link Transferencia} que puede violar una fila, con su mensaje
+ */
+public enum CodigoErrorTransferencia {
+
+    EMPRESA_NULA("La empresa no puede ser nula"),
+    IMPORTE_NULO("El importe no puede ser nulo"),
+    IMPORTE_NO_POSITIVO("El importe debe ser mayor a cero"),
+    IMPORTE_DECIMALES("El importe no puede tener más de 2 decimales"),
+    CUENTA_DEBITO_VACIA("La cuenta débito no puede estar vacía"),
+    CUENTA_DEBITO_LARGA("La cuenta débito no puede exceder 34 caracteres"),
+    CUENTA_CREDITO_VACIA("La cuenta crédito no puede estar vacía"),
+    CUENTA_CREDITO_LARGA("La cuenta crédito no puede exceder 34 caracteres"),
+    CUENTAS_IGUALES("Las cuentas débito y crédito deben ser diferentes"),
+    FECHA_NULA("La fecha de transferencia no puede ser nula"),
+    FECHA_FUTURA("La fecha de transferencia no puede ser futura");
+
+    private final String mensaje;
+
+    CodigoErrorTransferencia(String mensaje) {
+        this.mensaje = mensaje;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+}
@@ -0,0 +1,158 @@
+package com.interbanking.empresa.api.domain.model;
+
+/**
+ * CUIT validado (11 dígitos con dígito verificador módulo 11 de AFIP), representado como {@code long}.
+ * <p>
+ * La validación recorre los caracteres una sola vez, sin expresiones regulares ni objetos
+ * intermedios, para poder aplicarla en cada entrada de la API antes de consultar la base.
+ */
+public final class Cuit implements Comparable<Cuit> {
+
+    public static final String MENSAJE_VACIO = "El CUIT no puede estar vacío";
+    public static final String MENSAJE_LONGITUD = "El CUIT debe tener exactamente 11 dígitos";
+    public static final String MENSAJE_DIGITO_VERIFICADOR = "El dígito verificador del CUIT no es válido";
+
+    private static final int LONGITUD = 11;
+    private static final long MAXIMO = 99_999_999_999L;
+    private static final int[] PESOS = {5, 4, 3, 2, 7, 6, 5, 4, 3, 2};
+
+    private final long valor;
+
+    private Cuit(long valor) {
+        this.valor = valor;
+    }
+
+    /**
+     * Valida el CUIT y lo convierte a su representación numérica
+     */
+    public static Cuit of(String cuit) {
+        validar(cuit);
+        return new Cuit(aLong(cuit));
+    }
+
+    /**
+     * Reconstruye un CUIT a partir de su valor numérico (por ejemplo, una clave almacenada como {@code long})
+     */
+    public static Cuit of(long valor) {
+        if (valor < 0 || valor > MAXIMO) {
+            throw new IllegalArgumentException(MENSAJE_LONGITUD);
+        }
+        if (!digitoVerificadorValido(valor)) {
+            throw new IllegalArgumentException(MENSAJE_DIGITO_VERIFICADOR);
+        }
+        return new Cuit(valor);
+    }
+
+    public static boolean esValido(CharSequence cuit) {
+        return error(cuit) == null;
+    }
+
+    /**
+     * Lanza {@link IllegalArgumentException} con el motivo si el CUIT no es válido
+     */
+    public static void validar(CharSequence cuit) {
+        String error = error(cuit);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+    }
+
+    /**
+     * Devuelve el motivo por el que el CUIT no es válido, o {@code null} si lo es
+     */
+    public static String error(CharSequence cuit) {
+        if (vacio(cuit)) {
+            return MENSAJE_VACIO;
+        }
+        if (cuit.length() != LONGITUD) {
+            return MENSAJE_LONGITUD;
+        }
+        int suma = 0;
+        for (int i = 0; i < LONGITUD; i++) {
+            char c = cuit.charAt(i);
+            if (c < '0' || c > '9') {
+                return MENSAJE_LONGITUD;
+            }
+            if (i < PESOS.length) {
+                suma += (c - '0') * PESOS[i];
+            }
+        }
+        return digitoVerificador(suma) == cuit.charAt(LONGITUD - 1) - '0' ? null : MENSAJE_DIGITO_VERIFICADOR;
+    }
+
+    public long getValor() {
+        return valor;
+    }
+
+    @Override
+    public int compareTo(Cuit otro) {
+        return Long.compare(valor, otro.valor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Cuit otro && valor == otro.valor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(valor);
+    }
+
+    /**
+     * Los 11 dígitos, con ceros a la izquierda
+     */
+    @Override
+    public String toString() {
+        char[] digitos = new char[LONGITUD];
+        long resto = valor;
+        for (int i = LONGITUD - 1; i >= 0; i--) {
+            digitos[i] = (char) ('0' + resto % 10);
+            resto /= 10;
+        }
+        return new String(digitos);
+    }
+
+    private static boolean vacio(CharSequence cuit) {
+        if (cuit == null) {
+            return true;
+        }
+        for (int i = 0; i < cuit.length(); i++) {
+            if (cuit.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long aLong(CharSequence cuit) {
+        long resultado = 0;
+        for (int i = 0; i < LONGITUD; i++) {
+            resultado = resultado * 10 + (cuit.charAt(i) - '0');
+        }
+        return resultado;
+    }
+
+    private static boolean digitoVerificadorValido(long valor) {
+        int verificador = (int) (valor % 10);
+        long resto = valor / 10;
+        int suma = 0;
+        for (int i = PESOS.length - 1; i >= 0; i--) {
+            suma += (int) (resto % 10) * PESOS[i];
+            resto /= 10;
+        }
+        return digitoVerificador(suma) == verificador;
+    }
+
+    /**
+     * Dígito verificador para la suma ponderada de los primeros 10 dígitos; -1 si no existe
+     * (resto 1: AFIP no asigna esos CUIT con ese prefijo)
+     */
+    private static int digitoVerificador(int suma) {
+        int digito = 11 - suma % 11;
+        if (digito == 11) {
+            return 0;
+        }
+        return digito == 10 ? -1 : digito;
+    }
+}
@@ -32,15 +32,10 @@ public class Empresa {
     }
 
     /**
-     * Valida que el CUIT tenga el formato correcto (11 dígitos)
+     * Valida que el CUIT tenga el formato correcto (11 dígitos) y un dígito verificador válido
      */
     private void validateCuit() {
-        if (cuit == null || cuit.trim().isEmpty()) {
-            throw new IllegalArgumentException("El CUIT no puede estar vacío");
-        }
-        if (!cuit.matches("\\d{11}")) {
-            throw new IllegalArgumentException("El CUIT debe tener exactamente 11 dígitos");
-        }
+        Cuit.validar(cuit);
     }
 
     /**
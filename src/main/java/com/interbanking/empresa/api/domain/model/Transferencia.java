@@ -29,78 +29,130 @@ public class Transferencia {
      * Valida las reglas de negocio de la transferencia
      */
     private void validateBusinessRules() {
-        validateEmpresa();
-        validateImporte();
-        validateCuentas();
-        validateFechaTransferencia();
+        lanzarSi(verificar(empresa, importe, cuentaDebito, cuentaCredito, fechaTransferencia, LocalDate.now()));
     }
 
     /**
-     * Valida que la empresa no sea nula
+     * Devuelve la primera regla de negocio que no se cumple, o {@code null} si los datos son válidos.
+     * No lanza excepciones ni reserva memoria, para validar lotes grandes con una única fecha "hoy".
      */
-    private void validateEmpresa() {
-        if (empresa == null) {
-            throw new IllegalArgumentException("La empresa no puede ser nula");
+    public static CodigoErrorTransferencia verificar(Empresa empresa, BigDecimal importe, String cuentaDebito,
+                                                     String cuentaCredito, LocalDate fechaTransferencia, LocalDate hoy) {
+        CodigoErrorTransferencia violacion = verificarEmpresa(empresa);
+        if (violacion == null) {
+            violacion = verificarImporte(importe);
+        }
+        if (violacion == null) {
+            violacion = verificarCuentas(cuentaDebito, cuentaCredito);
+        }
+        if (violacion == null) {
+            violacion = verificarFechaTransferencia(fechaTransferencia, hoy);
         }
+        return violacion;
+    }
+
+    /**
+     * Crea una transferencia cuyos datos ya pasaron por {@link #verificar}, sin volver a validarlos
+     */
+    static Transferencia validada(Empresa empresa, BigDecimal importe, String cuentaDebito,
+                                  String cuentaCredito, LocalDate fechaTransferencia) {
+        Transferencia transferencia = new Transferencia();
+        transferencia.empresa = empresa;
+        transferencia.importe = importe;
+        transferencia.cuentaDebito = cuentaDebito;
+        transferencia.cuentaCredito = cuentaCredito;
+        transferencia.fechaTransferencia = fechaTransferencia;
+        return transferencia;
+    }
+
+    /**
+     * Valida que la empresa no sea nula
+     */
+    private static CodigoErrorTransferencia verificarEmpresa(Empresa empresa) {
+        return empresa == null ? CodigoErrorTransferencia.EMPRESA_NULA : null;
     }
 
     /**
      * Valida que el importe sea válido
      */
-    private void validateImporte() {
+    private static CodigoErrorTransferencia verificarImporte(BigDecimal importe) {
         if (importe == null) {
-            throw new IllegalArgumentException("El importe no puede ser nulo");
+            return CodigoErrorTransferencia.IMPORTE_NULO;
         }
-        if (importe.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("El importe debe ser mayor a cero");
+        if (importe.signum() <= 0) {
+            return CodigoErrorTransferencia.IMPORTE_NO_POSITIVO;
         }
         if (importe.scale() > 2) {
-            throw new IllegalArgumentException("El importe no puede tener más de 2 decimales");
+            return CodigoErrorTransferencia.IMPORTE_DECIMALES;
         }
+        return null;
     }
 
     /**
      * Valida que las cuentas sean válidas
      */
-    private void validateCuentas() {
-        validateCuentaDebito();
-        validateCuentaCredito();
-        validateCuentasDiferentes();
+    private static CodigoErrorTransferencia verificarCuentas(String cuentaDebito, String cuentaCredito) {
+        CodigoErrorTransferencia violacion = verificarCuentaDebito(cuentaDebito);
+        if (violacion == null) {
+            violacion = verificarCuentaCredito(cuentaCredito);
+        }
+        if (violacion == null && cuentaDebito.equals(cuentaCredito)) {
+            violacion = CodigoErrorTransferencia.CUENTAS_IGUALES;
+        }
+        return violacion;
     }
 
-    private void validateCuentaDebito() {
-        if (cuentaDebito == null || cuentaDebito.trim().isEmpty()) {
-            throw new IllegalArgumentException("La cuenta débito no puede estar vacía");
+    private static CodigoErrorTransferencia verificarCuentaDebito(String cuentaDebito) {
+        if (vacia(cuentaDebito)) {
+            return CodigoErrorTransferencia.CUENTA_DEBITO_VACIA;
         }
         if (cuentaDebito.length() > 34) {
-            throw new IllegalArgumentException("La cuenta débito no puede exceder 34 caracteres");
+            return CodigoErrorTransferencia.CUENTA_DEBITO_LARGA;
         }
+        return null;
     }
 
-    private void validateCuentaCredito() {
-        if (cuentaCredito == null || cuentaCredito.trim().isEmpty()) {
-            throw new IllegalArgumentException("La cuenta crédito no puede estar vacía");
+    private static CodigoErrorTransferencia verificarCuentaCredito(String cuentaCredito) {
+        if (vacia(cuentaCredito)) {
+            return CodigoErrorTransferencia.CUENTA_CREDITO_VACIA;
         }
         if (cuentaCredito.length() > 34) {
-            throw new IllegalArgumentException("La cuenta crédito no puede exceder 34 caracteres");
+            return CodigoErrorTransferencia.CUENTA_CREDITO_LARGA;
         }
+        return null;
     }
 
-    private void validateCuentasDiferentes() {
-        if (cuentaDebito.equals(cuentaCredito)) {
-            throw new IllegalArgumentException("Las cuentas débito y crédito deben ser diferentes");
+    /**
+     * Valida que la fecha de transferencia sea válida
+     */
+    private static CodigoErrorTransferencia verificarFechaTransferencia(LocalDate fechaTransferencia, LocalDate hoy) {
+        if (fechaTransferencia == null) {
+            return CodigoErrorTransferencia.FECHA_NULA;
         }
+        if (fechaTransferencia.isAfter(hoy)) {
+            return CodigoErrorTransferencia.FECHA_FUTURA;
+        }
+        return null;
     }
 
     /**
-     * Valida que la fecha de transferencia sea válida
+     * Equivale a {@code cuenta.trim().isEmpty()} sin crear el String recortado
      */
-    private void validateFechaTransferencia() {
-        if (fechaTransferencia == null) {
-            throw new IllegalArgumentException("La fecha de transferencia no puede ser nula");
+    private static boolean vacia(String cuenta) {
+        if (cuenta == null) {
+            return true;
         }
-        if (fechaTransferencia.isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("La fecha de transferencia no puede ser futura");
+        for (int i = 0; i < cuenta.length(); i++) {
+            if (cuenta.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void lanzarSi(CodigoErrorTransferencia violacion) {
+        if (violacion != null) {
+            throw new IllegalArgumentException(violacion.getMensaje());
         }
     }
 
@@ -122,7 +174,7 @@ public class Transferencia {
 
     public void setEmpresa(Empresa empresa) {
         this.empresa = empresa;
-        validateEmpresa();
+        lanzarSi(verificarEmpresa(empresa));
     }
 
     public BigDecimal getImporte() {
@@ -131,7 +183,7 @@ public class Transferencia {
 
     public void setImporte(BigDecimal importe) {
         this.importe = importe;
-        validateImporte();
+        lanzarSi(verificarImporte(importe));
     }
 
     public String getCuentaDebito() {
@@ -140,7 +192,7 @@ public class Transferencia {
 
     public void setCuentaDebito(String cuentaDebito) {
         this.cuentaDebito = cuentaDebito;
-        validateCuentaDebito();
+        lanzarSi(verificarCuentaDebito(cuentaDebito));
     }
 
     public String getCuentaCredito() {
@@ -149,7 +201,7 @@ public class Transferencia {
 
     public void setCuentaCredito(String cuentaCredito) {
         this.cuentaCredito = cuentaCredito;
-        validateCuentaCredito();
+        lanzarSi(verificarCuentaCredito(cuentaCredito));
     }
 
     public LocalDate getFechaTransferencia() {
@@ -158,7 +210,7 @@ public class Transferencia {
 
     public void setFechaTransferencia(LocalDate fechaTransferencia) {
         this.fechaTransferencia = fechaTransferencia;
-        validateFechaTransferencia();
+        lanzarSi(verificarFechaTransferencia(fechaTransferencia, LocalDate.now()));
     }
 
     @Override
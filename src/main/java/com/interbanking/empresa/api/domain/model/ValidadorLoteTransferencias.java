@@ -0,0 +1,64 @@
+package com.interbanking.empresa.api.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Validación de un lote de transferencias con las reglas de {@link Transferencia}.
+ * <p>
+ * Usa una única fecha "hoy" para todo el lote y, en lugar de lanzar una excepción por fila inválida,
+ * registra el código de la regla violada junto con el índice de la fila en el lote.
+ */
+public final class ValidadorLoteTransferencias {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private final LocalDate hoy;
+    private int[] indices = new int[CAPACIDAD_INICIAL];
+    private CodigoErrorTransferencia[] codigos = new CodigoErrorTransferencia[CAPACIDAD_INICIAL];
+    private int cantidadViolaciones;
+
+    public ValidadorLoteTransferencias(LocalDate hoy) {
+        this.hoy = hoy;
+    }
+
+    /**
+     * Valida la fila {@code indice} del lote y devuelve la transferencia, o {@code null} si viola alguna regla
+     */
+    public Transferencia crear(int indice, Empresa empresa, BigDecimal importe, String cuentaDebito,
+                               String cuentaCredito, LocalDate fechaTransferencia) {
+        CodigoErrorTransferencia violacion = Transferencia.verificar(
+                empresa, importe, cuentaDebito, cuentaCredito, fechaTransferencia, hoy);
+        if (violacion != null) {
+            registrar(indice, violacion);
+            return null;
+        }
+        return Transferencia.validada(empresa, importe, cuentaDebito, cuentaCredito, fechaTransferencia);
+    }
+
+    public int getCantidadViolaciones() {
+        return cantidadViolaciones;
+    }
+
+    /**
+     * Índice en el lote de la fila de la violación {@code violacion} (en orden de registro)
+     */
+    public int getIndice(int violacion) {
+        return indices[violacion];
+    }
+
+    public CodigoErrorTransferencia getCodigo(int violacion) {
+        return codigos[violacion];
+    }
+
+    private void registrar(int indice, CodigoErrorTransferencia codigo) {
+        if (cantidadViolaciones == indices.length) {
+            indices = Arrays.copyOf(indices, cantidadViolaciones * 2);
+            codigos = Arrays.copyOf(codigos, cantidadViolaciones * 2);
+        }
+        indices[cantidadViolaciones] = indice;
+        codigos[cantidadViolaciones] = codigo;
+        cantidadViolaciones++;
+    }
+}
@@ -0,0 +1,23 @@
+package com.interbanking.empresa.api.domain.port;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Lectura del rollup mensual de actividad por empresa. Las consultas son de sólo lectura y
+ * proyectan cada fila con {@code proyeccion}, sin materializar entidades.
+ */
+public interface ActividadMensualRepositoryPort {
+    <T> List<T> findEmpresasConActividadEn(YearMonth periodo, ProyeccionEmpresa<T> proyeccion);
+
+    <T> List<T> findEmpresasConActividadEn(YearMonth periodo, long despuesDeId, int limite,
+                                           ProyeccionEmpresa<T> proyeccion);
+
+    /**
+     * Entrega las empresas del período a {@code consumidor} a medida que las lee el cursor, sin armar
+     * la lista. Devuelve la cantidad de filas recorridas.
+     */
+    <T> long recorrerEmpresasConActividadEn(YearMonth periodo, ProyeccionEmpresa<T> proyeccion,
+                                            Consumer<? super T> consumidor);
+}
@@ -3,13 +3,54 @@ package com.interbanking.empresa.api.domain.port;
 import com.interbanking.empresa.api.domain.model.Empresa;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EmpresaRepositoryPort {
     Empresa save(Empresa empresa);
 
     Optional<Empresa> findByCuit(String cuit);
 
-    List<Empresa> findByFechaAdhesionBetween(LocalDate inicio, LocalDate fin);
+    List<Empresa> findByCuitIn(Collection<String> cuits);
+
+    /**
+     * Registra la adhesión sólo si la empresa no estaba adherida (UPDATE condicional) y devuelve la empresa
+     * adherida. Vacío si no se actualizó ninguna fila: la empresa no existe o ya estaba adherida.
+     */
+    Optional<Empresa> adherirSiNoAdherida(String cuit, LocalDate fechaAdhesion);
+
+    /**
+     * Igual que {@link #adherirSiNoAdherida} para varios CUIT en una sola sentencia: devuelve sólo las
+     * empresas que adhirió, en cualquier orden
+     */
+    List<Empresa> adherirSiNoAdheridas(Collection<String> cuits, LocalDate fechaAdhesion);
+
+    /**
+     * Persiste las empresas en lote (JDBC batching) dentro de la transacción en curso
+     */
+    List<Empresa> saveAll(List<Empresa> empresas);
+
+    /**
+     * Consulta de sólo lectura que proyecta cada fila con {@code proyeccion}, sin materializar entidades
+     */
+    <T> List<T> findByFechaAdhesionBetween(LocalDate inicio, LocalDate fin, ProyeccionEmpresa<T> proyeccion);
+
+    /**
+     * Igual que {@link #findByFechaAdhesionBetween} pero entrega las filas a {@code consumidor} a medida que
+     * las lee el cursor, sin armar la lista. Devuelve la cantidad de filas recorridas.
+     */
+    <T> long recorrerPorFechaAdhesionEntre(LocalDate inicio, LocalDate fin, ProyeccionEmpresa<T> proyeccion,
+                                           Consumer<? super T> consumidor);
+
+    /**
+     * Sello que cambia cada vez que se adhiere una empresa con fecha entre {@code inicio} y {@code fin}
+     */
+    String versionAdhesionesEntre(LocalDate inicio, LocalDate fin);
+
+    /**
+     * Sello que cambia con cada adhesión, de cualquier fecha (las adhesiones se registran con la fecha del día)
+     */
+    String versionAdhesiones();
 }
@@ -0,0 +1,12 @@
+package com.interbanking.empresa.api.domain.port;
+
+import java.time.LocalDate;
+
+/**
+ * Construye la representación de salida de una empresa directamente desde las columnas leídas,
+ * sin pasar por la entidad JPA ni por {@code Empresa} (por ejemplo, {@code EmpresaResponse::new})
+ */
+@FunctionalInterface
+public interface ProyeccionEmpresa<T> {
+    T proyectar(Long id, String cuit, String razonSocial, LocalDate fechaAdhesion);
+}
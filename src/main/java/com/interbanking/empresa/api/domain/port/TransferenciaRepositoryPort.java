@@ -1,10 +1,55 @@
 package com.interbanking.empresa.api.domain.port;
 
 import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import com.interbanking.empresa.api.domain.vo.ResumenTransferencias;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TransferenciaRepositoryPort {
+    /**
+     * Registra la transferencia y acumula su importe en el rollup mensual de la empresa
+     */
+    Transferencia save(Transferencia transferencia);
+
+    /**
+     * Registra el lote en una única transacción con inserts multi-fila en batch y acumula el rollup
+     * mensual con una sola sentencia por empresa y período
+     */
+    void saveAll(List<Transferencia> transferencias);
+
     List<Empresa> findEmpresasConTransferenciasEntre(LocalDate desde, LocalDate hasta);
+
+    /**
+     * Empresas con transferencias entre {@code desde} y {@code hasta} (días completos), leídas de las
+     * transferencias y no del rollup, para rangos que no cubren un mes entero. Sólo lectura, ordenadas por id.
+     */
+    <T> List<T> findEmpresasConTransferenciasEntre(LocalDate desde, LocalDate hasta, ProyeccionEmpresa<T> proyeccion);
+
+    /**
+     * Página de empresas con transferencias en el rango, ordenadas por id y posteriores al cursor
+     */
+    List<Empresa> findEmpresasConTransferenciasEntre(LocalDate desde, LocalDate hasta, long despuesDeId, int limite);
+
+    /**
+     * Página de transferencias entre {@code desde} y {@code hasta} (días completos), cada una con su empresa,
+     * ordenadas por id y posteriores al cursor. La cantidad de consultas no depende del tamaño de la página.
+     */
+    List<Transferencia> findTransferenciasEntre(LocalDate desde, LocalDate hasta, long despuesDeId, int limite);
+
+    /**
+     * Totales por empresa de las transferencias entre {@code desde} y {@code hasta} (días completos), con
+     * una única consulta agrupada por empresa: los meses completos salen de los acumulados mensuales y
+     * sólo los días sueltos de los bordes se leen de las transferencias. Con {@code cuits} en {@code null}
+     * incluye todas las empresas con transferencias en el rango. Ordenados por id de empresa.
+     */
+    List<ResumenTransferencias> resumirPorEmpresa(LocalDate desde, LocalDate hasta, Collection<String> cuits);
+
+    /**
+     * Sello que cambia cada vez que se registra una transferencia entre {@code desde} y {@code hasta}
+     * (cantidad e id máximo de las particiones que cubren el rango), sin recorrer las transferencias
+     */
+    String versionTransferenciasEntre(LocalDate desde, LocalDate hasta);
 }
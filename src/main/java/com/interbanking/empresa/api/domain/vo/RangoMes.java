@@ -1,14 +1,83 @@
 package com.interbanking.empresa.api.domain.vo;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Rango de fechas (inclusivo) dentro de un mismo mes: el mes completo o una parte, como queda
+ * el primer o el último mes al {@linkplain #particionar particionar} un rango arbitrario.
+ */
 public record RangoMes(LocalDate inicio, LocalDate fin) {
 
+    public RangoMes {
+        if (inicio == null || fin == null) {
+            throw new IllegalArgumentException("El rango debe tener fecha de inicio y de fin");
+        }
+        if (fin.isBefore(inicio)) {
+            throw new IllegalArgumentException("La fecha de fin no puede ser anterior a la de inicio");
+        }
+        if (!YearMonth.from(inicio).equals(YearMonth.from(fin))) {
+            throw new IllegalArgumentException("El rango debe estar dentro de un mismo mes");
+        }
+    }
+
     public static RangoMes mesPasado() {
-        LocalDate mesPasado = LocalDate.now().minusMonths(1);
-        LocalDate inicio = LocalDate.from(mesPasado.withDayOfMonth(1).atStartOfDay());
-        LocalDate fin = LocalDate.from(mesPasado.withDayOfMonth(mesPasado.lengthOfMonth()).atTime(LocalTime.MAX));
-        return new RangoMes(inicio, fin);
+        return mesPasado(LocalDate.now());
+    }
+
+    public static RangoMes mesPasado(LocalDate hoy) {
+        return de(YearMonth.from(hoy).minusMonths(1));
+    }
+
+    public static RangoMes de(YearMonth periodo) {
+        return new RangoMes(periodo.atDay(1), periodo.atEndOfMonth());
+    }
+
+    /**
+     * Parte el rango {@code [desde, hasta]} en un {@code RangoMes} por mes, en orden; sólo el primero
+     * y el último pueden ser meses incompletos
+     */
+    public static List<RangoMes> particionar(LocalDate desde, LocalDate hasta) {
+        if (hasta.isBefore(desde)) {
+            throw new IllegalArgumentException("La fecha de fin no puede ser anterior a la de inicio");
+        }
+        List<RangoMes> meses = new ArrayList<>(cantidadMeses(desde, hasta));
+        LocalDate inicio = desde;
+        while (!inicio.isAfter(hasta)) {
+            LocalDate finDeMes = YearMonth.from(inicio).atEndOfMonth();
+            LocalDate fin = finDeMes.isBefore(hasta) ? finDeMes : hasta;
+            meses.add(new RangoMes(inicio, fin));
+            inicio = fin.plusDays(1);
+        }
+        return meses;
+    }
+
+    /**
+     * Cantidad de meses calendario que toca el rango {@code [desde, hasta]}
+     */
+    public static int cantidadMeses(LocalDate desde, LocalDate hasta) {
+        return (int) ChronoUnit.MONTHS.between(YearMonth.from(desde), YearMonth.from(hasta)) + 1;
+    }
+
+    public boolean contiene(LocalDate fecha) {
+        return !fecha.isBefore(inicio) && !fecha.isAfter(fin);
+    }
+
+    public YearMonth periodo() {
+        return YearMonth.from(inicio);
+    }
+
+    public boolean mesCompleto() {
+        return inicio.getDayOfMonth() == 1 && fin.equals(periodo().atEndOfMonth());
+    }
+
+    /**
+     * {@code true} si el mes del rango ya terminó respecto de {@code hoy}
+     */
+    public boolean cerrado(LocalDate hoy) {
+        return periodo().isBefore(YearMonth.from(hoy));
     }
 }
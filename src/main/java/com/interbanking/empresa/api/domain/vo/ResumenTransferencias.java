@@ -0,0 +1,21 @@
+package com.interbanking.empresa.api.domain.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * Totales de las transferencias de una empresa en un rango de fechas. {@code importeMaximo} es
+ * {@code null} si no hubo transferencias.
+ */
+public record ResumenTransferencias(
+        String cuit,
+        long cantidadTransferencias,
+        BigDecimal importeTotal,
+        BigDecimal importeMaximo,
+        long cuentasDebito,
+        long cuentasCredito
+) {
+
+    public static ResumenTransferencias sinTransferencias(String cuit) {
+        return new ResumenTransferencias(cuit, 0, BigDecimal.ZERO, null, 0, 0);
+    }
+}
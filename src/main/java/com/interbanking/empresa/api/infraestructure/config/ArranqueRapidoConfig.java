@@ -0,0 +1,74 @@
+package com.interbanking.empresa.api.infraestructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.type.MethodMetadata;
+
+/**
+ * Configuración del perfil {@code rapido}, el que usan el procesamiento AOT y el archivo CDS del perfil
+ * Maven {@code arranque-rapido}: difiere lo que sólo se usa en desarrollo (springdoc y la consola H2)
+ * hasta el primer request que lo necesite.
+ */
+@Slf4j
+@Configuration
+@Profile("rapido")
+public class ArranqueRapidoConfig {
+
+    static final String PAQUETE_SPRINGDOC = "org.springdoc.";
+    static final String PAQUETE_H2 = "org.h2.";
+
+    /**
+     * Marca como lazy los beans de springdoc que no fijaron su inicialización con {@code @Lazy}. Con AOT se
+     * aplica durante el build y la marca queda en las definiciones generadas.
+     */
+    @Bean
+    static BeanFactoryPostProcessor springdocDiferido() {
+        return beanFactory -> {
+            int diferidos = 0;
+            for (String nombre : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definicion = beanFactory.getBeanDefinition(nombre);
+                if (definicion instanceof AbstractBeanDefinition abstracta && abstracta.getLazyInit() == null
+                        && esDeSpringdoc(definicion)) {
+                    abstracta.setLazyInit(true);
+                    diferidos++;
+                }
+            }
+            log.debug("Beans de springdoc diferidos: {}", diferidos);
+        };
+    }
+
+    /**
+     * El servlet de la consola H2 se registra con load-on-startup 1; sin eso se inicializa con el primer
+     * request a {@code spring.h2.console.path}
+     */
+    @Bean
+    static BeanPostProcessor consolaH2Diferida() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof ServletRegistrationBean<?> registro
+                        && registro.getServlet().getClass().getName().startsWith(PAQUETE_H2)) {
+                    registro.setLoadOnStartup(-1);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static boolean esDeSpringdoc(BeanDefinition definicion) {
+        String clase = definicion.getBeanClassName();
+        if (clase == null && definicion instanceof AnnotatedBeanDefinition anotada) {
+            MethodMetadata metodoFabrica = anotada.getFactoryMethodMetadata();
+            clase = metodoFabrica == null ? null : metodoFabrica.getDeclaringClassName();
+        }
+        return clase != null && clase.startsWith(PAQUETE_SPRINGDOC);
+    }
+}
@@ -0,0 +1,115 @@
+package com.interbanking.empresa.api.infraestructure.config;
+
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache;
+import com.interbanking.empresa.api.infraestructure.diagnostico.DiagnosticoPinning;
+import com.interbanking.empresa.api.infraestructure.persistence.datasource.LimitadorConcurrenciaDataSource;
+import com.interbanking.empresa.api.infraestructure.persistence.datasource.ReplicasLectura;
+import com.interbanking.empresa.api.infraestructure.persistence.datasource.SentenciasLentasDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Métricas de la aplicación (expuestas en {@code /actuator/prometheus}).
+ * <p>
+ * Los casos de uso y los adapters de persistencia se miden con {@code @Timed}; acá se registra el
+ * aspecto que lo procesa, las métricas por consulta de Hibernate y los contadores que ya llevan la
+ * cache de reportes, el limitador de conexiones, las réplicas de lectura y el diagnóstico de pinning.
+ * Las estadísticas generales de Hibernate ({@code hibernate.*}) y las de cada pool de Hikari
+ * ({@code hikaricp.*}) las registra Spring Boot.
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Tiempo de ejecución por consulta JPQL (timer {@code hibernate.query}, con la consulta como tag)
+     */
+    @Bean
+    MeterBinder metricasConsultasHibernate(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactory.class),
+                "entityManagerFactory", Tags.empty());
+    }
+
+    @Bean
+    MeterBinder metricasCacheReportes(ReporteEmpresasCache cache) {
+        return registry -> {
+            FunctionCounter.builder("empresa.reportes.cache.aciertos", cache, ReporteEmpresasCache::getAciertos)
+                    .register(registry);
+            FunctionCounter.builder("empresa.reportes.cache.fallos", cache, ReporteEmpresasCache::getFallos)
+                    .register(registry);
+            FunctionCounter.builder("empresa.reportes.cache.desalojos", cache, ReporteEmpresasCache::getDesalojos)
+                    .register(registry);
+            Gauge.builder("empresa.reportes.cache.entradas", cache, ReporteEmpresasCache::getEntradas)
+                    .register(registry);
+            Gauge.builder("empresa.reportes.cache.bytes", cache, ReporteEmpresasCache::getBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Sólo con el perfil {@code virtual}, donde cada pool está envuelto por un limitador (tag {@code pool}).
+     * El principal puede estar envuelto además por {@link SqlLentaConfig}
+     */
+    @Bean
+    MeterBinder metricasLimitadorJdbc(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(dataSource -> dataSource instanceof SentenciasLentasDataSource medido
+                        ? medido.getTargetDataSource() : dataSource)
+                .filter(LimitadorConcurrenciaDataSource.class::isInstance)
+                .map(LimitadorConcurrenciaDataSource.class::cast)
+                .forEach(limitador -> {
+                    String pool = limitador.getTargetDataSource() instanceof HikariDataSource hikari
+                            ? hikari.getPoolName() : "dataSource";
+                    Gauge.builder("empresa.jdbc.limitador.max", limitador, LimitadorConcurrenciaDataSource::getMaxConcurrentes)
+                            .tag("pool", pool)
+                            .register(registry);
+                    Gauge.builder("empresa.jdbc.limitador.disponibles", limitador, LimitadorConcurrenciaDataSource::getPermisosDisponibles)
+                            .tag("pool", pool)
+                            .register(registry);
+                    Gauge.builder("empresa.jdbc.limitador.en.espera", limitador, LimitadorConcurrenciaDataSource::getEnEspera)
+                            .tag("pool", pool)
+                            .register(registry);
+                });
+    }
+
+    /**
+     * Sólo con pools de lectura separados: retraso de cada réplica y si recibe lecturas (tag {@code replica})
+     */
+    @Bean
+    MeterBinder metricasReplicasLectura(ObjectProvider<ReplicasLectura> replicasLectura) {
+        return registry -> replicasLectura.ifAvailable(replicas -> replicas.getDataSources().keySet().forEach(nombre -> {
+            Gauge.builder("empresa.jdbc.replica.retraso", replicas, r -> r.getRetrasoMs(nombre))
+                    .tag("replica", nombre)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("empresa.jdbc.replica.disponible", replicas, r -> r.getDisponibles().contains(nombre) ? 1 : 0)
+                    .tag("replica", nombre)
+                    .register(registry);
+        }));
+    }
+
+    @Bean
+    MeterBinder metricasPinning(ObjectProvider<DiagnosticoPinning> diagnostico) {
+        return registry -> diagnostico.ifAvailable(pinning ->
+                FunctionCounter.builder("empresa.virtual.threads.pinning", pinning, DiagnosticoPinning::getEventos)
+                        .register(registry));
+    }
+}
@@ -0,0 +1,90 @@
+package com.interbanking.empresa.api.infraestructure.config;
+
+import com.interbanking.empresa.api.infraestructure.persistence.datasource.LecturaEscrituraDataSource;
+import com.interbanking.empresa.api.infraestructure.persistence.datasource.ReplicasLectura;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pools separados ({@code empresa.datasource.pool-lectura.enabled=true}): las transacciones de sólo lectura
+ * ({@code ObtenerEmpresas*}, listados) usan pools de lectura y las escrituras ({@code AdhesionEmpresaUseCase},
+ * ingesta) el de {@code spring.datasource.hikari}.
+ * <p>
+ * Sin {@code empresa.datasource.replicas.urls} hay un pool de lectura sobre la misma base; con réplicas,
+ * uno por réplica. Los de lectura se configuran con {@code empresa.datasource.lectura.hikari.*} y usan el
+ * usuario y la clave del primario. Al definir el DataSource acá, Spring Boot no crea el suyo.
+ */
+@Configuration
+@ConditionalOnProperty(name = "empresa.datasource.pool-lectura.enabled", havingValue = "true")
+public class PoolLecturaConfig {
+
+    private static final String PREFIJO_LECTURA = "empresa.datasource.lectura.hikari";
+    private static final String PROPIEDAD_REPLICAS = "empresa.datasource.replicas.urls";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource escrituraDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Los pools de lectura no son beans: se crean acá (uno por URL) y los cierra {@link ReplicasLectura#close()}
+     */
+    @Bean
+    ReplicasLectura replicasLectura(@Qualifier("escrituraDataSource") DataSource escritura,
+                                    DataSourceProperties properties,
+                                    Environment environment,
+                                    ObjectProvider<MeterRegistry> meterRegistry,
+                                    @Value("${empresa.datasource.replicas.retraso-maximo:5s}") Duration retrasoMaximo) {
+        Binder binder = Binder.get(environment);
+        List<String> urls = binder.bind(PROPIEDAD_REPLICAS, Bindable.listOf(String.class)).orElse(List.of());
+        if (urls.isEmpty()) {
+            return ReplicasLectura.delPrimario("lectura",
+                    poolLectura(properties, binder, meterRegistry, properties.determineUrl(), ""));
+        }
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.put("replica-" + i, poolLectura(properties, binder, meterRegistry, urls.get(i), "-" + i));
+        }
+        return new ReplicasLectura(escritura, replicas, retrasoMaximo, Clock.systemDefaultZone());
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("escrituraDataSource") DataSource escritura, ReplicasLectura replicasLectura) {
+        return new LazyConnectionDataSourceProxy(new LecturaEscrituraDataSource(escritura, replicasLectura));
+    }
+
+    private static HikariDataSource poolLectura(DataSourceProperties properties, Binder binder,
+                                                ObjectProvider<MeterRegistry> meterRegistry, String url, String sufijo) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        binder.bind(PREFIJO_LECTURA, Bindable.ofInstance(pool));
+        pool.setPoolName(pool.getPoolName() + sufijo);
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return pool;
+    }
+}
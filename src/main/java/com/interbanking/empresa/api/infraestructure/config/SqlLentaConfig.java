@@ -0,0 +1,53 @@
+package com.interbanking.empresa.api.infraestructure.config;
+
+import com.interbanking.empresa.api.infraestructure.persistence.datasource.SentenciasLentasDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Log de sentencias lentas ({@code empresa.log.sql-lenta.umbral-ms}, {@code 0} lo desactiva) para todo el JDBC
+ * de la aplicación: Hibernate y los {@code JdbcTemplate} de los adapters.
+ */
+@Slf4j
+@Configuration
+public class SqlLentaConfig {
+
+    static final String DATA_SOURCE = "dataSource";
+
+    /**
+     * Envuelve el DataSource principal, el que usan JPA y los {@code JdbcTemplate}, en un
+     * {@link SentenciasLentasDataSource}. Con pools separados ({@link PoolLecturaConfig}) es el que enruta,
+     * así que también se miden las lecturas en réplicas.
+     */
+    @Bean
+    static BeanPostProcessor registroSentenciasLentas(@Value("${empresa.log.sql-lenta.umbral-ms:0}") long umbralMs) {
+        return new RegistroSentenciasLentas(Duration.ofMillis(umbralMs));
+    }
+
+    /**
+     * Se aplica después de los post-procesadores que reconocen el pool por su tipo ({@link VirtualThreadsConfig})
+     */
+    private record RegistroSentenciasLentas(Duration umbral) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (umbral.isZero() || umbral.isNegative() || !DATA_SOURCE.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            log.info("Sentencias JDBC de más de {} ms en el log {}", umbral.toMillis(), SentenciasLentasDataSource.LOGGER);
+            return new SentenciasLentasDataSource(dataSource, umbral);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
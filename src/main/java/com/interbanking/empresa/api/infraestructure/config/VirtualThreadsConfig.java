@@ -0,0 +1,61 @@
+package com.interbanking.empresa.api.infraestructure.config;
+
+import com.interbanking.empresa.api.infraestructure.persistence.datasource.LimitadorConcurrenciaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Configuración del perfil {@code virtual}: requests y casos de uso sobre virtual threads
+ * ({@code spring.threads.virtual.enabled}) con la concurrencia JDBC acotada.
+ */
+@Slf4j
+@Configuration
+@Profile("virtual")
+public class VirtualThreadsConfig {
+
+    /**
+     * Envuelve cada pool de Hikari en un {@link LimitadorConcurrenciaDataSource}. Se limita la conexión y no
+     * cada llamada a un adapter porque los casos de uso {@code @Transactional} toman la conexión al
+     * abrir la transacción, antes de llegar a la persistencia. Con pools separados
+     * ({@link PoolLecturaConfig}) se limita el de escritura y no el DataSource que enruta; los de lectura no
+     * son beans y los acotan su tamaño y su {@code connection-timeout}.
+     */
+    @Bean
+    static BeanPostProcessor limitadorConcurrenciaJdbc(
+            @Value("${empresa.jdbc.limitador.max-concurrentes:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrentes,
+            @Value("${empresa.jdbc.limitador.espera-maxima:5s}") Duration esperaMaxima) {
+        return new LimitadorConcurrenciaJdbc(maxConcurrentes, esperaMaxima);
+    }
+
+    /**
+     * Se aplica antes que {@link SqlLentaConfig}, que también envuelve el DataSource principal: el pool
+     * se reconoce por su tipo
+     */
+    private record LimitadorConcurrenciaJdbc(int maxConcurrentes, Duration esperaMaxima)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                int max = Math.min(maxConcurrentes, pool.getMaximumPoolSize());
+                log.info("Limitando DataSource '{}' a {} conexiones concurrentes (espera máxima {})",
+                        beanName, max, esperaMaxima);
+                return new LimitadorConcurrenciaDataSource(pool, max, esperaMaxima);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
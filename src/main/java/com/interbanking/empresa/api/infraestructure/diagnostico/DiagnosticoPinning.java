@@ -0,0 +1,100 @@
+package com.interbanking.empresa.api.infraestructure.diagnostico;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Escucha con JFR los eventos {@code jdk.VirtualThreadPinned} y los atribuye al primer método de la
+ * aplicación en la pila (por ejemplo, el adapter invocado desde {@code AdhesionEmpresaUseCase}
+ * dentro de su transacción), para detectar bloqueos con el virtual thread fijado a su carrier.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "empresa.virtual-threads.diagnostico-pinning.enabled", havingValue = "true")
+public class DiagnosticoPinning implements SmartLifecycle {
+
+    private static final String EVENTO_PINNED = "jdk.VirtualThreadPinned";
+    private static final String PAQUETE_APLICACION = "com.interbanking.empresa.api.";
+    private static final String METODO_DESCONOCIDO = "desconocido";
+
+    private final Duration umbral;
+    private final Map<String, LongAdder> eventosPorMetodo = new ConcurrentHashMap<>();
+    private final LongAdder eventos = new LongAdder();
+    private RecordingStream stream;
+
+    public DiagnosticoPinning(@Value("${empresa.virtual-threads.diagnostico-pinning.umbral:20ms}") Duration umbral) {
+        this.umbral = umbral;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENTO_PINNED).withThreshold(umbral).withStackTrace();
+        stream.onEvent(EVENTO_PINNED, this::registrar);
+        stream.startAsync();
+        log.info("Diagnóstico de pinning de virtual threads activo (umbral {})", umbral);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    public long getEventos() {
+        return eventos.sum();
+    }
+
+    /**
+     * Cantidad de eventos de pinning por método de la aplicación, ordenados por nombre
+     */
+    public Map<String, Long> getEventosPorMetodo() {
+        Map<String, Long> resultado = new TreeMap<>();
+        eventosPorMetodo.forEach((metodo, cantidad) -> resultado.put(metodo, cantidad.sum()));
+        return resultado;
+    }
+
+    void registrar(RecordedEvent evento) {
+        String metodo = metodoDeAplicacion(evento.getStackTrace());
+        eventos.increment();
+        eventosPorMetodo.computeIfAbsent(metodo, clave -> new LongAdder()).increment();
+        log.warn("Virtual thread fijado a su carrier durante {} ms en {}", evento.getDuration().toMillis(), metodo);
+    }
+
+    private static String metodoDeAplicacion(RecordedStackTrace pila) {
+        if (pila == null) {
+            return METODO_DESCONOCIDO;
+        }
+        for (RecordedFrame frame : pila.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String tipo = frame.getMethod().getType().getName();
+            // Se saltean los proxies CGLIB de Spring (@Transactional) para quedarse con la clase real
+            if (tipo.startsWith(PAQUETE_APLICACION) && !tipo.contains("$$")) {
+                return tipo.substring(PAQUETE_APLICACION.length()) + "." + frame.getMethod().getName();
+            }
+        }
+        return METODO_DESCONOCIDO;
+    }
+}
@@ -0,0 +1,81 @@
+package com.interbanking.empresa.api.infraestructure.diagnostico;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Registra cuánto tardó el arranque: el tiempo de la aplicación (hasta {@link ApplicationReadyEvent}), el
+ * del proceso (incluye el arranque de la JVM) y las clases cargadas, indicando si se usó AOT y CDS.
+ * <p>
+ * Con {@code empresa.arranque.informe} agrega una fila CSV a ese archivo, y con {@code empresa.arranque.salir}
+ * termina la aplicación apenas queda lista: así el perfil Maven {@code arranque-rapido} mide cada variante.
+ */
+@Slf4j
+@Component
+public class InformeArranque implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final String ENCABEZADO = "variante,aplicacion_ms,proceso_ms,clases,aot,cds";
+
+    private final String archivo;
+    private final String variante;
+    private final boolean salir;
+
+    public InformeArranque(@Value("${empresa.arranque.informe:}") String archivo,
+                           @Value("${empresa.arranque.variante:}") String variante,
+                           @Value("${empresa.arranque.salir:false}") boolean salir) {
+        this.archivo = archivo;
+        this.variante = variante;
+        this.salir = salir;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent evento) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        long aplicacionMs = evento.getTimeTaken() == null ? -1 : evento.getTimeTaken().toMillis();
+        long procesoMs = runtime.getUptime();
+        int clases = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        boolean aot = AotDetector.useGeneratedArtifacts();
+        boolean cds = runtime.getInputArguments().stream().anyMatch(argumento -> argumento.startsWith("-XX:SharedArchiveFile"));
+
+        log.info("Arranque: aplicación {} ms, proceso {} ms, {} clases cargadas (AOT: {}, CDS: {})",
+                aplicacionMs, procesoMs, clases, aot, cds);
+        if (!archivo.isBlank()) {
+            registrar(Path.of(archivo), fila(variante, aplicacionMs, procesoMs, clases, aot, cds));
+        }
+        if (salir) {
+            System.exit(SpringApplication.exit(evento.getApplicationContext()));
+        }
+    }
+
+    static String fila(String variante, long aplicacionMs, long procesoMs, int clases, boolean aot, boolean cds) {
+        return String.join(",", variante, String.valueOf(aplicacionMs), String.valueOf(procesoMs),
+                String.valueOf(clases), String.valueOf(aot), String.valueOf(cds));
+    }
+
+    static void registrar(Path informe, String fila) {
+        try {
+            if (informe.getParent() != null) {
+                Files.createDirectories(informe.getParent());
+            }
+            String contenido = (Files.exists(informe) ? "" : ENCABEZADO + System.lineSeparator()) + fila + System.lineSeparator();
+            Files.writeString(informe, contenido, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.interbanking.empresa.api.infraestructure.ingesta;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+public enum FormatoIngesta {
+
+    CSV(MediaType.parseMediaType("text/csv"), List.of(".csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON, List.of(".ndjson", ".jsonl"));
+
+    private final MediaType mediaType;
+    private final List<String> extensiones;
+
+    FormatoIngesta(MediaType mediaType, List<String> extensiones) {
+        this.mediaType = mediaType;
+        this.extensiones = extensiones;
+    }
+
+    public static Optional<FormatoIngesta> desdeContentType(MediaType contentType) {
+        return Arrays.stream(values())
+                .filter(formato -> formato.mediaType.isCompatibleWith(contentType))
+                .findFirst();
+    }
+
+    public static Optional<FormatoIngesta> desdeArchivo(String nombre) {
+        String nombreEnMinusculas = nombre.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(formato -> formato.extensiones.stream().anyMatch(nombreEnMinusculas::endsWith))
+                .findFirst();
+    }
+}
@@ -0,0 +1,56 @@
+package com.interbanking.empresa.api.infraestructure.ingesta;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interbanking.empresa.api.application.usecase.IngestaTransferenciasUseCase;
+import com.interbanking.empresa.api.application.usecase.dto.response.ResumenIngestaTransferencias;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Ingesta de un archivo de transferencias al iniciar la aplicación:
+ * {@code java -jar app.jar --empresa.ingesta.archivo=transferencias.csv --spring.main.web-application-type=none}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "empresa.ingesta.archivo")
+public class IngestaTransferenciasRunner implements ApplicationRunner {
+
+    private final IngestaTransferenciasUseCase ingestaTransferenciasUseCase;
+    private final ObjectMapper objectMapper;
+    private final Path archivo;
+
+    public IngestaTransferenciasRunner(IngestaTransferenciasUseCase ingestaTransferenciasUseCase,
+                                       ObjectMapper objectMapper,
+                                       @Value("${empresa.ingesta.archivo}") Path archivo) {
+        this.ingestaTransferenciasUseCase = ingestaTransferenciasUseCase;
+        this.objectMapper = objectMapper;
+        this.archivo = archivo;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        FormatoIngesta formato = FormatoIngesta.desdeArchivo(archivo.getFileName().toString())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Formato de archivo no soportado (se espera .csv, .ndjson o .jsonl): " + archivo));
+        log.info("Ingestando archivo {} ({})", archivo, formato);
+
+        ResumenIngestaTransferencias resumen;
+        try (InputStream entrada = Files.newInputStream(archivo);
+             LectorTransferencias lector = new LectorTransferencias(entrada, formato, objectMapper)) {
+            resumen = ingestaTransferenciasUseCase.ingerir(lector);
+        }
+
+        resumen.errores().forEach(error -> log.warn("Fila {} rechazada: {}", error.fila(), error.mensaje()));
+        if (!resumen.isCompleta()) {
+            throw new IllegalStateException(resumen.error());
+        }
+    }
+}
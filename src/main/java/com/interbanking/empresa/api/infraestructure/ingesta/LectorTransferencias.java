@@ -0,0 +1,129 @@
+package com.interbanking.empresa.api.infraestructure.ingesta;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.interbanking.empresa.api.application.usecase.dto.request.FilaTransferencia;
+import com.interbanking.empresa.api.domain.model.Cuit;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lee transferencias de a una línea por vez (CSV o NDJSON) sin cargar el archivo en memoria.
+ * <p>
+ * CSV: {@code cuit,importe,cuenta_debito,cuenta_credito,fecha_transferencia} con fecha ISO
+ * ({@code yyyy-MM-dd}); la primera línea se ignora si es el encabezado. NDJSON: un objeto por línea
+ * con los campos {@code cuit}, {@code importe}, {@code cuentaDebito}, {@code cuentaCredito} y
+ * {@code fechaTransferencia}. Las líneas que no se pueden interpretar se devuelven como filas
+ * inválidas con su número de línea.
+ */
+public class LectorTransferencias implements Iterator<FilaTransferencia>, Closeable {
+
+    private static final int COLUMNAS_CSV = 5;
+
+    record RegistroJson(String cuit, BigDecimal importe, String cuentaDebito, String cuentaCredito,
+                        LocalDate fechaTransferencia) {}
+
+    private final BufferedReader reader;
+    private final FormatoIngesta formato;
+    private final ObjectReader lectorJson;
+    private long numeroLinea;
+    private FilaTransferencia siguiente;
+
+    public LectorTransferencias(InputStream entrada, FormatoIngesta formato, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 64 * 1024);
+        this.formato = formato;
+        this.lectorJson = objectMapper.readerFor(RegistroJson.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (siguiente == null) {
+            siguiente = leerSiguiente();
+        }
+        return siguiente != null;
+    }
+
+    @Override
+    public FilaTransferencia next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        FilaTransferencia fila = siguiente;
+        siguiente = null;
+        return fila;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private FilaTransferencia leerSiguiente() {
+        try {
+            String linea;
+            while ((linea = reader.readLine()) != null) {
+                numeroLinea++;
+                if (linea.isBlank() || esEncabezado(linea)) {
+                    continue;
+                }
+                return formato == FormatoIngesta.CSV ? parsearCsv(linea) : parsearJson(linea);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error leyendo la línea " + (numeroLinea + 1), e);
+        }
+    }
+
+    private boolean esEncabezado(String linea) {
+        return formato == FormatoIngesta.CSV && numeroLinea == 1 && linea.regionMatches(true, 0, "cuit", 0, 4);
+    }
+
+    private FilaTransferencia parsearCsv(String linea) {
+        String[] campos = linea.split(",", -1);
+        if (campos.length != COLUMNAS_CSV) {
+            return FilaTransferencia.invalida(numeroLinea,
+                    "Se esperaban " + COLUMNAS_CSV + " columnas y se encontraron " + campos.length);
+        }
+        String importe = campos[1].trim();
+        String fecha = campos[4].trim();
+        try {
+            return crearFila(campos[0].trim(), importe.isEmpty() ? null : new BigDecimal(importe),
+                    campos[2].trim(), campos[3].trim(), fecha.isEmpty() ? null : LocalDate.parse(fecha));
+        } catch (NumberFormatException e) {
+            return FilaTransferencia.invalida(numeroLinea, "Importe inválido: " + importe);
+        } catch (DateTimeParseException e) {
+            return FilaTransferencia.invalida(numeroLinea, "Fecha de transferencia inválida: " + fecha);
+        }
+    }
+
+    private FilaTransferencia parsearJson(String linea) {
+        try {
+            RegistroJson registro = lectorJson.readValue(linea);
+            return crearFila(registro.cuit(), registro.importe(), registro.cuentaDebito(),
+                    registro.cuentaCredito(), registro.fechaTransferencia());
+        } catch (JsonProcessingException e) {
+            return FilaTransferencia.invalida(numeroLinea, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    private FilaTransferencia crearFila(String cuit, BigDecimal importe, String cuentaDebito,
+                                        String cuentaCredito, LocalDate fechaTransferencia) {
+        String errorCuit = Cuit.error(cuit);
+        if (errorCuit != null) {
+            return FilaTransferencia.invalida(numeroLinea, errorCuit);
+        }
+        return FilaTransferencia.valida(numeroLinea, cuit, importe, cuentaDebito, cuentaCredito, fechaTransferencia);
+    }
+}
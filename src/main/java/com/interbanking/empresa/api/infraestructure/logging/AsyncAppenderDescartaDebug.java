@@ -0,0 +1,19 @@
+package com.interbanking.empresa.api.infraestructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * {@link AsyncAppender} que, cuando la cola se está llenando, descarta sólo DEBUG y TRACE.
+ * <p>
+ * El de Logback también descarta INFO; acá INFO, WARN y ERROR esperan lugar en la cola, así que un
+ * pico de carga puede perder detalle de depuración pero no adhesiones ni errores.
+ */
+public class AsyncAppenderDescartaDebug extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,48 @@
+package com.interbanking.empresa.api.infraestructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deja pasar uno de cada {@code cadaCuantos} eventos de un logger (por defecto {@code org.hibernate.SQL_SLOW})
+ * y descarta el resto antes de armar el evento. Los demás loggers no se ven afectados.
+ * <p>
+ * Con muchas consultas lentas a la vez (por ejemplo, la base saturada) alcanza una muestra para
+ * diagnosticar, y el log no suma contención sobre los mismos requests que ya están lentos.
+ */
+public class MuestreoTurboFilter extends TurboFilter {
+
+    private final AtomicLong eventos = new AtomicLong();
+    private String logger = "org.hibernate.SQL_SLOW";
+    private int cadaCuantos = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || !this.logger.equals(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return eventos.getAndIncrement() % cadaCuantos == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (cadaCuantos < 1) {
+            addError("cadaCuantos debe ser mayor a cero: " + cadaCuantos);
+            return;
+        }
+        super.start();
+    }
+
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    public void setCadaCuantos(int cadaCuantos) {
+        this.cadaCuantos = cadaCuantos;
+    }
+}
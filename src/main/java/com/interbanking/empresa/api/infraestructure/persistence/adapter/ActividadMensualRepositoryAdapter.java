@@ -0,0 +1,64 @@
+package com.interbanking.empresa.api.infraestructure.persistence.adapter;
+
+import com.interbanking.empresa.api.domain.port.ActividadMensualRepositoryPort;
+import com.interbanking.empresa.api.domain.port.ProyeccionEmpresa;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@Timed(value = "empresa.repositorio", histogram = true, percentiles = {0.5, 0.99})
+@Transactional(readOnly = true)
+public class ActividadMensualRepositoryAdapter implements ActividadMensualRepositoryPort {
+
+    private static final String SQL_EMPRESAS_CON_ACTIVIDAD = "SELECT " + FilasEmpresa.COLUMNAS + " " +
+            "FROM empresa_actividad_mensual a JOIN empresa e ON e.id = a.id_empresa " +
+            "WHERE a.periodo = :periodo " +
+            "ORDER BY a.id_empresa";
+
+    private static final String SQL_EMPRESAS_CON_ACTIVIDAD_DESPUES_DE = "SELECT " + FilasEmpresa.COLUMNAS + " " +
+            "FROM empresa_actividad_mensual a JOIN empresa e ON e.id = a.id_empresa " +
+            "WHERE a.periodo = :periodo AND a.id_empresa > :despuesDeId " +
+            "ORDER BY a.id_empresa " +
+            "FETCH FIRST :limite ROWS ONLY";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate jdbcCursor;
+
+    public ActividadMensualRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate,
+                                             @Value("${empresa.reportes.streaming.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcCursor = FilasEmpresa.conFetchSize(jdbcTemplate, fetchSize);
+    }
+
+    @Override
+    public <T> List<T> findEmpresasConActividadEn(YearMonth periodo, ProyeccionEmpresa<T> proyeccion) {
+        return jdbcTemplate.query(SQL_EMPRESAS_CON_ACTIVIDAD,
+                new MapSqlParameterSource("periodo", periodo.atDay(1)),
+                FilasEmpresa.proyectadas(proyeccion));
+    }
+
+    @Override
+    public <T> List<T> findEmpresasConActividadEn(YearMonth periodo, long despuesDeId, int limite,
+                                                  ProyeccionEmpresa<T> proyeccion) {
+        return jdbcTemplate.query(SQL_EMPRESAS_CON_ACTIVIDAD_DESPUES_DE,
+                new MapSqlParameterSource("periodo", periodo.atDay(1))
+                        .addValue("despuesDeId", despuesDeId)
+                        .addValue("limite", limite),
+                FilasEmpresa.proyectadas(proyeccion));
+    }
+
+    @Override
+    public <T> long recorrerEmpresasConActividadEn(YearMonth periodo, ProyeccionEmpresa<T> proyeccion,
+                                                   Consumer<? super T> consumidor) {
+        return FilasEmpresa.recorrer(jdbcCursor, SQL_EMPRESAS_CON_ACTIVIDAD,
+                new MapSqlParameterSource("periodo", periodo.atDay(1)), proyeccion, consumidor);
+    }
+}
@@ -2,23 +2,66 @@ package com.interbanking.empresa.api.infraestructure.persistence.adapter;
 
 import com.interbanking.empresa.api.domain.model.Empresa;
 import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.ProyeccionEmpresa;
 import com.interbanking.empresa.api.infraestructure.persistence.entity.EmpresaEntity;
 import com.interbanking.empresa.api.infraestructure.persistence.mapper.EmpresaMapper;
 import com.interbanking.empresa.api.infraestructure.persistence.repository.EmpresaJpaRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
+@Timed(value = "empresa.repositorio", histogram = true, percentiles = {0.5, 0.99})
 public class EmpresaRepositoryAdapter implements EmpresaRepositoryPort {
 
+    private static final String SQL_ADHERIDAS_ENTRE = "SELECT " + FilasEmpresa.COLUMNAS + " " +
+            "FROM empresa e " +
+            "WHERE e.fecha_adhesion BETWEEN :desde AND :hasta";
+
+    // FINAL TABLE (el RETURNING de H2) devuelve la fila actualizada en la misma sentencia
+    private static final String SQL_ADHERIR_SI_NO_ADHERIDA = "SELECT " + FilasEmpresa.COLUMNAS + " " +
+            "FROM FINAL TABLE (UPDATE empresa SET fecha_adhesion = :fechaAdhesion " +
+            "WHERE cuit = :cuit AND fecha_adhesion IS NULL) e";
+    private static final String SQL_ADHERIR_NO_ADHERIDAS = "SELECT " + FilasEmpresa.COLUMNAS + " " +
+            "FROM FINAL TABLE (UPDATE empresa SET fecha_adhesion = :fechaAdhesion " +
+            "WHERE cuit IN (:cuits) AND fecha_adhesion IS NULL) e";
+
+    // Con el índice sobre fecha_adhesion: un rango del índice y un lookup del máximo
+    private static final String SQL_VERSION_ADHESIONES_ENTRE = "SELECT COUNT(*), MAX(fecha_adhesion) FROM empresa " +
+            "WHERE fecha_adhesion BETWEEN :desde AND :hasta";
+    private static final String SQL_VERSION_ADHESIONES = "SELECT fecha_adhesion, COUNT(*) FROM empresa " +
+            "WHERE fecha_adhesion = (SELECT MAX(fecha_adhesion) FROM empresa) GROUP BY fecha_adhesion";
+
     private final EmpresaJpaRepository empresaJpaRepository;
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate jdbcCursor;
     private final EmpresaMapper empresaMapper;
 
-    public EmpresaRepositoryAdapter(EmpresaJpaRepository empresaJpaRepository, EmpresaMapper empresaMapper) {
+    public EmpresaRepositoryAdapter(EmpresaJpaRepository empresaJpaRepository,
+                                    EntityManager entityManager,
+                                    NamedParameterJdbcTemplate jdbcTemplate,
+                                    EmpresaMapper empresaMapper,
+                                    @Value("${empresa.reportes.streaming.fetch-size:500}") int fetchSize) {
         this.empresaJpaRepository = empresaJpaRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcCursor = FilasEmpresa.conFetchSize(jdbcTemplate, fetchSize);
         this.empresaMapper = empresaMapper;
     }
 
@@ -29,17 +72,121 @@ public class EmpresaRepositoryAdapter implements EmpresaRepositoryPort {
         return empresaMapper.toDomain(savedEntity);
     }
 
+    /**
+     * Búsqueda por natural id: con la cache caliente se resuelve sin consultar la base
+     * ({@code cuit -> id} en la región {@value EmpresaEntity#REGION_CUIT} y la empresa en {@value EmpresaEntity#REGION}).
+     * No es de sólo lectura para que, con réplicas, lea del primario: lo que lee queda en la cache y una
+     * réplica atrasada la llenaría con empresas sin su adhesión
+     */
     @Override
+    @Transactional
     public Optional<Empresa> findByCuit(String cuit) {
-        return empresaJpaRepository.findByCuit(cuit)
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(EmpresaEntity.class)
+                .loadOptional(cuit)
                 .map(empresaMapper::toDomain);
     }
 
     @Override
-    public List<Empresa> findByFechaAdhesionBetween(LocalDate desde, LocalDate hasta) {
-        List<EmpresaEntity> entities = empresaJpaRepository.findByFechaAdhesionBetween(desde, hasta);
-        return entities.stream()
+    public List<Empresa> findByCuitIn(Collection<String> cuits) {
+        return empresaJpaRepository.findByCuitIn(cuits).stream()
+                .map(empresaMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * UPDATE condicional por JDBC: un UPDATE JPQL invalidaría la región completa de empresas en cada
+     * adhesión. La fila actualizada vuelve en la misma sentencia, así que no hace falta cargar la empresa
+     * para conocer su id: se desaloja sólo esa empresa, y otra vez al terminar la transacción por si otra
+     * lectura la volvió a cachear antes. Si no se actualiza ninguna fila no hay nada que desalojar: quien la
+     * adhirió ya lo hizo.
+     */
+    @Override
+    @Transactional
+    public Optional<Empresa> adherirSiNoAdherida(String cuit, LocalDate fechaAdhesion) {
+        Optional<Empresa> adherida = jdbcTemplate.query(SQL_ADHERIR_SI_NO_ADHERIDA,
+                        new MapSqlParameterSource("cuit", cuit).addValue("fechaAdhesion", fechaAdhesion),
+                        FilasEmpresa.proyectadas(Empresa::new))
+                .stream()
+                .findFirst();
+        adherida.ifPresent(empresa -> desalojar(List.of(empresa.getId())));
+        return adherida;
+    }
+
+    /**
+     * Mismo UPDATE condicional con {@code IN}: una sentencia por lote y un solo desalojo de sus empresas
+     */
+    @Override
+    @Transactional
+    public List<Empresa> adherirSiNoAdheridas(Collection<String> cuits, LocalDate fechaAdhesion) {
+        if (cuits.isEmpty()) {
+            return List.of();
+        }
+        List<Empresa> adheridas = jdbcTemplate.query(SQL_ADHERIR_NO_ADHERIDAS,
+                new MapSqlParameterSource("cuits", cuits).addValue("fechaAdhesion", fechaAdhesion),
+                FilasEmpresa.proyectadas(Empresa::new));
+        if (!adheridas.isEmpty()) {
+            desalojar(adheridas.stream().map(Empresa::getId).toList());
+        }
+        return adheridas;
+    }
+
+    @Override
+    public List<Empresa> saveAll(List<Empresa> empresas) {
+        List<EmpresaEntity> entities = empresas.stream()
+                .map(empresaMapper::toEntity)
+                .toList();
+        return empresaJpaRepository.saveAllAndFlush(entities).stream()
                 .map(empresaMapper::toDomain)
                 .toList();
     }
+
+    private void desalojar(List<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(EmpresaEntity.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(id -> cache.evict(EmpresaEntity.class, id));
+                }
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByFechaAdhesionBetween(LocalDate desde, LocalDate hasta, ProyeccionEmpresa<T> proyeccion) {
+        return jdbcTemplate.query(SQL_ADHERIDAS_ENTRE,
+                new MapSqlParameterSource("desde", desde).addValue("hasta", hasta),
+                FilasEmpresa.proyectadas(proyeccion));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> long recorrerPorFechaAdhesionEntre(LocalDate desde, LocalDate hasta, ProyeccionEmpresa<T> proyeccion,
+                                                  Consumer<? super T> consumidor) {
+        return FilasEmpresa.recorrer(jdbcCursor, SQL_ADHERIDAS_ENTRE,
+                new MapSqlParameterSource("desde", desde).addValue("hasta", hasta), proyeccion, consumidor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String versionAdhesionesEntre(LocalDate desde, LocalDate hasta) {
+        return jdbcTemplate.queryForObject(SQL_VERSION_ADHESIONES_ENTRE,
+                new MapSqlParameterSource("desde", desde).addValue("hasta", hasta),
+                (rs, fila) -> rs.getLong(1) + "." + rs.getObject(2, LocalDate.class));
+    }
+
+    /**
+     * Una adhesión no se deshace y siempre lleva la fecha del día: cada una sube la fecha máxima o
+     * la cantidad de empresas adheridas en esa fecha
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String versionAdhesiones() {
+        return jdbcTemplate.query(SQL_VERSION_ADHESIONES, Map.of(), rs -> rs.next()
+                ? rs.getObject(1, LocalDate.class) + "." + rs.getLong(2)
+                : "0");
+    }
 }
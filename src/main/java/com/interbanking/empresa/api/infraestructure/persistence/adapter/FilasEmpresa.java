@@ -0,0 +1,54 @@
+package com.interbanking.empresa.api.infraestructure.persistence.adapter;
+
+import com.interbanking.empresa.api.domain.port.ProyeccionEmpresa;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Lectura de empresas por JDBC para los reportes: cada fila va directo a la proyección pedida,
+ * sin entidad, contexto de persistencia ni revalidación del dominio
+ */
+final class FilasEmpresa {
+
+    /**
+     * Columnas en el orden que espera {@link #proyectadas}; {@code e} es el alias de {@code empresa}
+     */
+    static final String COLUMNAS = "e.id, e.cuit, e.razon_social, e.fecha_adhesion";
+
+    private FilasEmpresa() {
+    }
+
+    static <T> RowMapper<T> proyectadas(ProyeccionEmpresa<T> proyeccion) {
+        return (rs, fila) -> proyeccion.proyectar(
+                rs.getLong(1), rs.getString(2), rs.getString(3), rs.getObject(4, LocalDate.class));
+    }
+
+    /**
+     * Template para recorrer reportes con cursor: el driver trae de a {@code fetchSize} filas.
+     * En motores como PostgreSQL el cursor sólo se respeta dentro de una transacción (sin autocommit).
+     */
+    static NamedParameterJdbcTemplate conFetchSize(NamedParameterJdbcTemplate jdbcTemplate, int fetchSize) {
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        cursor.setFetchSize(fetchSize);
+        return new NamedParameterJdbcTemplate(cursor);
+    }
+
+    /**
+     * Proyecta y entrega cada fila a {@code consumidor} mientras avanza el cursor; devuelve la cantidad de filas
+     */
+    static <T> long recorrer(NamedParameterJdbcTemplate jdbcTemplate, String sql, SqlParameterSource parametros,
+                             ProyeccionEmpresa<T> proyeccion, Consumer<? super T> consumidor) {
+        RowMapper<T> filas = proyectadas(proyeccion);
+        long[] cantidad = {0};
+        jdbcTemplate.query(sql, parametros, rs -> {
+            consumidor.accept(filas.mapRow(rs, (int) cantidad[0]));
+            cantidad[0]++;
+        });
+        return cantidad[0];
+    }
+}
@@ -1,32 +1,411 @@
 package com.interbanking.empresa.api.infraestructure.persistence.adapter;
 
 import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import com.interbanking.empresa.api.domain.port.ProyeccionEmpresa;
 import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
-import com.interbanking.empresa.api.infraestructure.persistence.entity.EmpresaEntity;
-import com.interbanking.empresa.api.infraestructure.persistence.mapper.EmpresaMapper;
-import com.interbanking.empresa.api.infraestructure.persistence.repository.TransferenciaJpaRepository;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import com.interbanking.empresa.api.domain.vo.ResumenTransferencias;
+import com.interbanking.empresa.api.infraestructure.persistence.particion.ParticionesTransferencia;
+import com.interbanking.empresa.api.infraestructure.persistence.repository.EmpresaActividadMensualJpaRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
+/**
+ * Las transferencias se guardan en una tabla por mes ({@link ParticionesTransferencia}): las escrituras
+ * se rutean a la partición de cada fecha y las consultas por rango sólo leen las particiones que lo cubren.
+ * Las escrituras resuelven sus particiones antes de abrir la transacción, para que el DDL de un mes nuevo
+ * no corra mientras la conexión del lote está tomada.
+ */
 @Component
+@Timed(value = "empresa.repositorio", histogram = true, percentiles = {0.5, 0.99})
 public class TransferenciaRepositoryAdapter implements TransferenciaRepositoryPort {
 
-    private final TransferenciaJpaRepository transferenciaJpaRepository;
-    private final EmpresaMapper empresaMapper;
+    private static final String EXISTE_EN_PARTICION = "EXISTS (SELECT 1 FROM %s t WHERE t.id_empresa = e.id " +
+            "AND t.fecha_transferencia >= :desde AND t.fecha_transferencia < :hastaExclusivo)";
 
-    public TransferenciaRepositoryAdapter(TransferenciaJpaRepository transferenciaJpaRepository, EmpresaMapper empresaMapper) {
-        this.transferenciaJpaRepository = transferenciaJpaRepository;
-        this.empresaMapper = empresaMapper;
+    // Cada partición aporta a lo sumo una página, ya ordenada por id, y sólo el resultado se une con la empresa
+    private static final String PAGINA_DE_PARTICION = "(SELECT id, importe, id_empresa, cuenta_debito, " +
+            "cuenta_credito, fecha_transferencia FROM %s WHERE fecha_transferencia >= :desde " +
+            "AND fecha_transferencia < :hastaExclusivo AND id > :despuesDeId ORDER BY id FETCH FIRST :limite ROWS ONLY)";
+    private static final String SQL_TRANSFERENCIAS_ENTRE = "SELECT t.id, t.importe, t.cuenta_debito, " +
+            "t.cuenta_credito, t.fecha_transferencia, " + FilasEmpresa.COLUMNAS + " FROM (%s) t " +
+            "JOIN empresa e ON e.id = t.id_empresa ORDER BY t.id FETCH FIRST :limite ROWS ONLY";
+
+    private static final RowMapper<Transferencia> FILA_TRANSFERENCIA = (rs, fila) -> Transferencia.builder()
+            .id(rs.getLong(1))
+            .importe(rs.getBigDecimal(2))
+            .cuentaDebito(rs.getString(3))
+            .cuentaCredito(rs.getString(4))
+            .fechaTransferencia(rs.getObject(5, LocalDateTime.class).toLocalDate())
+            .empresa(new Empresa(rs.getLong(6), rs.getString(7), rs.getString(8), rs.getObject(9, LocalDate.class)))
+            .build();
+
+    private static final String SQL_REGISTRAR_CUENTA = "MERGE INTO empresa_cuenta_mensual c " +
+            "USING (VALUES (CAST(:periodo AS DATE), CAST(:idEmpresa AS BIGINT), CAST(:tipo AS CHAR(1)), " +
+            "CAST(:cuenta AS VARCHAR(34)))) AS s (periodo, id_empresa, tipo, cuenta) " +
+            "ON c.periodo = s.periodo AND c.id_empresa = s.id_empresa AND c.tipo = s.tipo AND c.cuenta = s.cuenta " +
+            "WHEN NOT MATCHED THEN INSERT (periodo, id_empresa, tipo, cuenta) " +
+            "VALUES (s.periodo, s.id_empresa, s.tipo, s.cuenta)";
+
+    // Fuentes del resumen: todas con las mismas columnas para unirlas y agrupar una sola vez por empresa
+    private static final String RESUMEN_DESDE_ACUMULADOS = "SELECT a.id_empresa, a.cantidad_transferencias AS cantidad, " +
+            "a.importe_total AS importe, a.importe_maximo AS maximo, CAST(NULL AS VARCHAR(34)) AS debito, " +
+            "CAST(NULL AS VARCHAR(34)) AS credito FROM empresa_actividad_mensual a " +
+            "WHERE a.periodo BETWEEN :primerMes AND :ultimoMes";
+    private static final String RESUMEN_DESDE_CUENTAS = "SELECT c.id_empresa, 0, 0, NULL, " +
+            "CASE WHEN c.tipo = 'D' THEN c.cuenta END, CASE WHEN c.tipo = 'C' THEN c.cuenta END " +
+            "FROM empresa_cuenta_mensual c WHERE c.periodo BETWEEN :primerMes AND :ultimoMes";
+    private static final String RESUMEN_DESDE_PARTICION = "SELECT t.id_empresa, 1, t.importe, t.importe, " +
+            "t.cuenta_debito, t.cuenta_credito FROM %s t " +
+            "WHERE t.fecha_transferencia >= :desde%2$d AND t.fecha_transferencia < :hastaExclusivo%2$d";
+    private static final String FILTRO_CUITS = " AND %s.id_empresa IN (SELECT f.id FROM empresa f WHERE f.cuit IN (:cuits))";
+
+    // COUNT(*) y MAX(id) sin filtro: H2 los resuelve con el índice, sin recorrer la partición
+    private static final String SQL_VERSION_PARTICION = "SELECT COUNT(*), MAX(id) FROM %s";
+
+    private static final int FILAS_POR_INSERT = 50;
+
+    private static final Comparator<ClaveActividad> ORDEN_ACTIVIDAD = Comparator
+            .comparing(ClaveActividad::periodo)
+            .thenComparingLong(ClaveActividad::idEmpresa);
+
+    private static final Comparator<ClaveCuenta> ORDEN_CUENTAS = Comparator
+            .comparing(ClaveCuenta::periodo)
+            .thenComparingLong(ClaveCuenta::idEmpresa)
+            .thenComparing(ClaveCuenta::tipo)
+            .thenComparing(ClaveCuenta::cuenta);
+
+    private record ClaveActividad(LocalDate periodo, long idEmpresa) {}
+
+    private record ClaveCuenta(LocalDate periodo, long idEmpresa, String tipo, String cuenta) {}
+
+    private static final class DeltaActividad {
+        private long cantidad;
+        private BigDecimal importe = BigDecimal.ZERO;
+        private BigDecimal maximo;
+        private LocalDate primera;
+        private LocalDate ultima;
+
+        void sumar(Transferencia transferencia) {
+            LocalDate fecha = transferencia.getFechaTransferencia();
+            cantidad++;
+            importe = importe.add(transferencia.getImporte());
+            maximo = maximo == null ? transferencia.getImporte() : maximo.max(transferencia.getImporte());
+            primera = primera == null || fecha.isBefore(primera) ? fecha : primera;
+            ultima = ultima == null || fecha.isAfter(ultima) ? fecha : ultima;
+        }
+    }
+
+    private final EmpresaActividadMensualJpaRepository actividadMensualJpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ParticionesTransferencia particiones;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransferenciaRepositoryAdapter(EmpresaActividadMensualJpaRepository actividadMensualJpaRepository,
+                                          NamedParameterJdbcTemplate jdbcTemplate,
+                                          ParticionesTransferencia particiones,
+                                          TransactionTemplate transactionTemplate) {
+        this.actividadMensualJpaRepository = actividadMensualJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.particiones = particiones;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Transferencia save(Transferencia transferencia) {
+        String tabla = particiones.asegurar(YearMonth.from(transferencia.getFechaTransferencia()));
+        return transactionTemplate.execute(estado -> insertarUna(tabla, transferencia));
+    }
+
+    private Transferencia insertarUna(String tabla, Transferencia transferencia) {
+        LocalDate fecha = transferencia.getFechaTransferencia();
+        KeyHolder id = new GeneratedKeyHolder();
+        jdbcTemplate.getJdbcOperations().update(conexion -> {
+            PreparedStatement ps = conexion.prepareStatement(insertMultiFila(tabla, 1), new String[]{"ID"});
+            asignarFilas(ps, List.of(transferencia));
+            return ps;
+        }, id);
+        actividadMensualJpaRepository.acumular(fecha.withDayOfMonth(1), transferencia.getEmpresa().getId(), 1,
+                transferencia.getImporte(), transferencia.getImporte(), fecha, fecha);
+        registrarCuentas(List.of(transferencia));
+        return Transferencia.builder()
+                .id(id.getKeyAs(Long.class))
+                .empresa(transferencia.getEmpresa())
+                .importe(transferencia.getImporte())
+                .cuentaDebito(transferencia.getCuentaDebito())
+                .cuentaCredito(transferencia.getCuentaCredito())
+                .fechaTransferencia(fecha)
+                .build();
+    }
+
+    /**
+     * Agrupa el lote por mes e inserta cada grupo en su partición, todo en una transacción
+     */
+    @Override
+    public void saveAll(List<Transferencia> transferencias) {
+        if (transferencias.isEmpty()) {
+            return;
+        }
+        Map<YearMonth, List<Transferencia>> porMes = new TreeMap<>();
+        for (Transferencia transferencia : transferencias) {
+            porMes.computeIfAbsent(YearMonth.from(transferencia.getFechaTransferencia()), k -> new ArrayList<>())
+                    .add(transferencia);
+        }
+        Map<String, List<Transferencia>> porTabla = new LinkedHashMap<>();
+        porMes.forEach((periodo, delMes) -> porTabla.put(particiones.asegurar(periodo), delMes));
+        transactionTemplate.executeWithoutResult(estado -> {
+            porTabla.forEach(this::insertar);
+            acumularActividad(transferencias);
+            registrarCuentas(transferencias);
+        });
     }
 
     @Override
     public List<Empresa> findEmpresasConTransferenciasEntre(LocalDate inicioMesPasado, LocalDate finMesPasado) {
-        List<EmpresaEntity> entities = transferenciaJpaRepository.findEmpresasConTransferenciasEntre(inicioMesPasado, finMesPasado);
-        return entities.stream()
-                .map(empresaMapper::toDomain)
-                .toList();
+        return findEmpresasConTransferenciasEntre(inicioMesPasado, finMesPasado, Empresa::new);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Empresa> findEmpresasConTransferenciasEntre(LocalDate desde, LocalDate hasta, long despuesDeId, int limite) {
+        List<String> tablas = particiones.cubriendo(desde, hasta);
+        if (tablas.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                sqlEmpresasConTransferencias(tablas, "e.id > :despuesDeId AND ", " FETCH FIRST :limite ROWS ONLY"),
+                parametrosRango(desde, hasta).addValue("despuesDeId", despuesDeId).addValue("limite", limite),
+                FilasEmpresa.proyectadas(Empresa::new));
+    }
+
+    /**
+     * Lee sólo las particiones del rango, no la vista que une todas, y trae la empresa de cada
+     * transferencia en el mismo SELECT
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transferencia> findTransferenciasEntre(LocalDate desde, LocalDate hasta, long despuesDeId, int limite) {
+        List<String> tablas = particiones.cubriendo(desde, hasta);
+        if (tablas.isEmpty()) {
+            return List.of();
+        }
+        String paginas = tablas.stream()
+                .map(PAGINA_DE_PARTICION::formatted)
+                .collect(Collectors.joining(" UNION ALL "));
+        return jdbcTemplate.query(SQL_TRANSFERENCIAS_ENTRE.formatted(paginas),
+                parametrosRango(desde, hasta).addValue("despuesDeId", despuesDeId).addValue("limite", limite),
+                FILA_TRANSFERENCIA);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findEmpresasConTransferenciasEntre(LocalDate desde, LocalDate hasta, ProyeccionEmpresa<T> proyeccion) {
+        List<String> tablas = particiones.cubriendo(desde, hasta);
+        if (tablas.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(sqlEmpresasConTransferencias(tablas, "", ""),
+                parametrosRango(desde, hasta), FilasEmpresa.proyectadas(proyeccion));
+    }
+
+    /**
+     * Las filas sólo se insertan y los ids crecen, así que la cantidad y el id máximo de cada partición
+     * cambian con cada transferencia nueva. Toma las particiones completas: puede cambiar por transferencias
+     * del mismo mes fuera del rango, nunca quedar igual con una del rango.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String versionTransferenciasEntre(LocalDate desde, LocalDate hasta) {
+        List<String> tablas = particiones.cubriendo(desde, hasta);
+        if (tablas.isEmpty()) {
+            return "0";
+        }
+        JdbcOperations jdbc = jdbcTemplate.getJdbcOperations();
+        return tablas.stream()
+                .map(tabla -> jdbc.queryForObject(SQL_VERSION_PARTICION.formatted(tabla),
+                        (rs, fila) -> rs.getLong(1) + "." + rs.getLong(2)))
+                .collect(Collectors.joining("-"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumenTransferencias> resumirPorEmpresa(LocalDate desde, LocalDate hasta, Collection<String> cuits) {
+        if (cuits != null && cuits.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource parametros = new MapSqlParameterSource();
+        List<String> fuentes = new ArrayList<>();
+
+        List<RangoMes> meses = RangoMes.particionar(desde, hasta);
+        List<RangoMes> completos = meses.stream().filter(RangoMes::mesCompleto).toList();
+        if (!completos.isEmpty()) {
+            parametros.addValue("primerMes", completos.get(0).inicio())
+                    .addValue("ultimoMes", completos.get(completos.size() - 1).inicio());
+            fuentes.add(RESUMEN_DESDE_ACUMULADOS + filtroCuits("a", cuits));
+            fuentes.add(RESUMEN_DESDE_CUENTAS + filtroCuits("c", cuits));
+        }
+        // Sólo el primer y el último mes pueden estar incompletos
+        for (RangoMes borde : meses) {
+            if (borde.mesCompleto()) {
+                continue;
+            }
+            for (String tabla : particiones.cubriendo(borde.inicio(), borde.fin())) {
+                int indice = fuentes.size();
+                parametros.addValue("desde" + indice, borde.inicio())
+                        .addValue("hastaExclusivo" + indice, borde.fin().plusDays(1));
+                fuentes.add(RESUMEN_DESDE_PARTICION.formatted(tabla, indice) + filtroCuits("t", cuits));
+            }
+        }
+        if (fuentes.isEmpty()) {
+            return List.of();
+        }
+        if (cuits != null) {
+            parametros.addValue("cuits", cuits);
+        }
+
+        String sql = "SELECT e.cuit, SUM(x.cantidad), SUM(x.importe), MAX(x.maximo), " +
+                "COUNT(DISTINCT x.debito), COUNT(DISTINCT x.credito) FROM (" +
+                String.join(" UNION ALL ", fuentes) + ") x JOIN empresa e ON e.id = x.id_empresa " +
+                "GROUP BY x.id_empresa, e.cuit ORDER BY x.id_empresa";
+        return jdbcTemplate.query(sql, parametros, (rs, fila) -> new ResumenTransferencias(
+                rs.getString(1), rs.getLong(2), rs.getBigDecimal(3), rs.getBigDecimal(4), rs.getLong(5), rs.getLong(6)));
+    }
+
+    private static String filtroCuits(String alias, Collection<String> cuits) {
+        return cuits == null ? "" : FILTRO_CUITS.formatted(alias);
+    }
+
+    /**
+     * Semi-join contra cada partición del rango: un mes es un único EXISTS, como la consulta sin particionar
+     */
+    private static String sqlEmpresasConTransferencias(List<String> tablas, String filtro, String limite) {
+        return "SELECT " + FilasEmpresa.COLUMNAS + " FROM empresa e WHERE " + filtro +
+                tablas.stream()
+                        .map(EXISTE_EN_PARTICION::formatted)
+                        .collect(Collectors.joining(" OR ", "(", ")")) +
+                " ORDER BY e.id" + limite;
+    }
+
+    private static MapSqlParameterSource parametrosRango(LocalDate desde, LocalDate hasta) {
+        return new MapSqlParameterSource("desde", desde).addValue("hastaExclusivo", hasta.plusDays(1));
+    }
+
+    /**
+     * Inserta de a {@value #FILAS_POR_INSERT} filas por sentencia, enviando las sentencias completas
+     * en un único batch JDBC y el resto en una sentencia final
+     */
+    private void insertar(String tabla, List<Transferencia> transferencias) {
+        JdbcOperations jdbc = jdbcTemplate.getJdbcOperations();
+        int sentenciasCompletas = transferencias.size() / FILAS_POR_INSERT;
+        if (sentenciasCompletas > 0) {
+            jdbc.batchUpdate(insertMultiFila(tabla, FILAS_POR_INSERT), new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    asignarFilas(ps, transferencias.subList(i * FILAS_POR_INSERT, (i + 1) * FILAS_POR_INSERT));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return sentenciasCompletas;
+                }
+            });
+        }
+
+        List<Transferencia> resto = transferencias.subList(sentenciasCompletas * FILAS_POR_INSERT, transferencias.size());
+        if (!resto.isEmpty()) {
+            jdbc.update(insertMultiFila(tabla, resto.size()), ps -> asignarFilas(ps, resto));
+        }
+    }
+
+    /**
+     * Un MERGE por empresa y período del lote, ordenados por clave para que lotes concurrentes
+     * bloqueen las filas del rollup siempre en el mismo orden
+     */
+    private void acumularActividad(List<Transferencia> transferencias) {
+        Map<ClaveActividad, DeltaActividad> deltas = new TreeMap<>(ORDEN_ACTIVIDAD);
+        for (Transferencia transferencia : transferencias) {
+            ClaveActividad clave = new ClaveActividad(
+                    transferencia.getFechaTransferencia().withDayOfMonth(1), transferencia.getEmpresa().getId());
+            deltas.computeIfAbsent(clave, k -> new DeltaActividad()).sumar(transferencia);
+        }
+
+        SqlParameterSource[] parametros = deltas.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("periodo", entry.getKey().periodo())
+                        .addValue("idEmpresa", entry.getKey().idEmpresa())
+                        .addValue("cantidad", entry.getValue().cantidad)
+                        .addValue("importe", entry.getValue().importe)
+                        .addValue("maximo", entry.getValue().maximo)
+                        .addValue("primera", entry.getValue().primera)
+                        .addValue("ultima", entry.getValue().ultima))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(EmpresaActividadMensualJpaRepository.SQL_ACUMULAR, parametros);
     }
-}
 
+    /**
+     * Registra las cuentas de débito y crédito nuevas de cada empresa y período, una vez por cuenta del
+     * lote y en el mismo orden por clave que el rollup
+     */
+    private void registrarCuentas(List<Transferencia> transferencias) {
+        TreeSet<ClaveCuenta> cuentas = new TreeSet<>(ORDEN_CUENTAS);
+        for (Transferencia transferencia : transferencias) {
+            LocalDate periodo = transferencia.getFechaTransferencia().withDayOfMonth(1);
+            long idEmpresa = transferencia.getEmpresa().getId();
+            cuentas.add(new ClaveCuenta(periodo, idEmpresa, "D", transferencia.getCuentaDebito()));
+            cuentas.add(new ClaveCuenta(periodo, idEmpresa, "C", transferencia.getCuentaCredito()));
+        }
+
+        SqlParameterSource[] parametros = cuentas.stream()
+                .map(clave -> new MapSqlParameterSource()
+                        .addValue("periodo", clave.periodo())
+                        .addValue("idEmpresa", clave.idEmpresa())
+                        .addValue("tipo", clave.tipo())
+                        .addValue("cuenta", clave.cuenta()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(SQL_REGISTRAR_CUENTA, parametros);
+    }
+
+    private static void asignarFilas(PreparedStatement ps, List<Transferencia> filas) throws SQLException {
+        int indice = 1;
+        for (Transferencia transferencia : filas) {
+            ps.setBigDecimal(indice++, transferencia.getImporte());
+            ps.setLong(indice++, transferencia.getEmpresa().getId());
+            ps.setString(indice++, transferencia.getCuentaDebito());
+            ps.setString(indice++, transferencia.getCuentaCredito());
+            ps.setObject(indice++, transferencia.getFechaTransferencia().atStartOfDay());
+        }
+    }
+
+    private static String insertMultiFila(String tabla, int filas) {
+        return "INSERT INTO " + tabla + " (importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia) VALUES "
+                + String.join(", ", Collections.nCopies(filas, "(?, ?, ?, ?, ?)"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Envía las transacciones {@code @Transactional(readOnly = true)} (reportes, listados) a los DataSources de
+ * lectura ({@link ReplicasLectura}) y el resto (adhesiones, ingesta) al de escritura, para que los reportes
+ * largos no dejen sin conexiones a las adhesiones. Si no hay una réplica disponible, la lectura va al de
+ * escritura.
+ * <p>
+ * Debe usarse detrás de un {@link LazyConnectionDataSourceProxy}: el transaction manager pide la conexión
+ * al abrir la transacción, antes de marcarla como de sólo lectura, y el proxy demora la conexión real
+ * hasta la primera sentencia.
+ */
+public class LecturaEscrituraDataSource extends AbstractRoutingDataSource {
+
+    public static final String ESCRITURA = "escritura";
+
+    private final ReplicasLectura lecturas;
+
+    public LecturaEscrituraDataSource(DataSource escritura, ReplicasLectura lecturas) {
+        this.lecturas = lecturas;
+        Map<Object, Object> destinos = new HashMap<>(lecturas.getDataSources());
+        destinos.put(ESCRITURA, escritura);
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(escritura);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ESCRITURA;
+        }
+        return lecturas.elegir().orElse(ESCRITURA);
+    }
+}
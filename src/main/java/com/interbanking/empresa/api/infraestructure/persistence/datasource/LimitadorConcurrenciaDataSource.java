@@ -0,0 +1,120 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita con un semáforo la cantidad de conexiones JDBC en uso simultáneo.
+ * <p>
+ * Con virtual threads cada request tiene su propio hilo, así que miles de peticiones pueden
+ * llegar juntas a la capa de persistencia. El permiso se toma al pedir la conexión y se libera al
+ * cerrarla; quien no lo obtiene dentro de la espera máxima recibe un
+ * {@link SQLTransientConnectionException} en lugar de encolarse indefinidamente en el pool.
+ * El semáforo es de {@code java.util.concurrent}, por lo que la espera no fija (pin) el virtual
+ * thread a su carrier.
+ */
+public class LimitadorConcurrenciaDataSource extends DelegatingDataSource {
+
+    @FunctionalInterface
+    private interface ObtenerConexion {
+        Connection obtener() throws SQLException;
+    }
+
+    private final Semaphore permisos;
+    private final int maxConcurrentes;
+    private final Duration esperaMaxima;
+
+    public LimitadorConcurrenciaDataSource(DataSource destino, int maxConcurrentes, Duration esperaMaxima) {
+        super(destino);
+        if (maxConcurrentes <= 0) {
+            throw new IllegalArgumentException("La concurrencia máxima debe ser mayor a cero");
+        }
+        this.permisos = new Semaphore(maxConcurrentes, true);
+        this.maxConcurrentes = maxConcurrentes;
+        this.esperaMaxima = esperaMaxima;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limitar(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limitar(() -> super.getConnection(username, password));
+    }
+
+    public int getMaxConcurrentes() {
+        return maxConcurrentes;
+    }
+
+    public int getPermisosDisponibles() {
+        return permisos.availablePermits();
+    }
+
+    public int getEnEspera() {
+        return permisos.getQueueLength();
+    }
+
+    private Connection limitar(ObtenerConexion destino) throws SQLException {
+        adquirirPermiso();
+        try {
+            return liberarAlCerrar(destino.obtener());
+        } catch (SQLException | RuntimeException e) {
+            permisos.release();
+            throw e;
+        }
+    }
+
+    private void adquirirPermiso() throws SQLException {
+        try {
+            if (!permisos.tryAcquire(esperaMaxima.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No se obtuvo una conexión en " + esperaMaxima.toMillis()
+                        + " ms: " + maxConcurrentes + " conexiones en uso y " + permisos.getQueueLength() + " en espera");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrumpido mientras se esperaba una conexión", e);
+        }
+    }
+
+    private Connection liberarAlCerrar(Connection conexion) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                LimitadorConcurrenciaDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> switch (metodo.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invocar(conexion, metodo, args);
+                        } finally {
+                            if (liberada.compareAndSet(false, true)) {
+                                permisos.release();
+                            }
+                        }
+                    }
+                    default -> invocar(conexion, metodo, args);
+                });
+    }
+
+    private static Object invocar(Connection conexion, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(conexion, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
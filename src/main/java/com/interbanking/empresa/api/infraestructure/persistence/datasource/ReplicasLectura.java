@@ -0,0 +1,149 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSources de lectura entre los que {@link LecturaEscrituraDataSource} reparte las transacciones de
+ * sólo lectura, en round-robin entre las disponibles.
+ * <p>
+ * Con réplicas, el retraso se mide con un latido: {@link #verificar()} escribe la hora actual en
+ * {@code latido_replicacion} del primario y la lee en cada réplica. Las que están caídas o atrasadas
+ * más de {@code retrasoMaximo} dejan de recibir lecturas hasta la próxima verificación; si no queda
+ * ninguna, las lecturas van al primario. El retraso medido incluye hasta un intervalo de verificación
+ * ({@code empresa.datasource.replicas.verificacion-ms}), así que {@code retrasoMaximo} tiene que ser mayor.
+ * <p>
+ * Sin réplicas hay un único pool sobre la base primaria, que no se verifica.
+ */
+@Slf4j
+public class ReplicasLectura implements AutoCloseable {
+
+    static final String SQL_ESCRIBIR_LATIDO = "UPDATE latido_replicacion SET instante = ? WHERE id = 1";
+    static final String SQL_LEER_LATIDO = "SELECT instante FROM latido_replicacion WHERE id = 1";
+
+    private final DataSource primario;
+    private final Map<String, DataSource> replicas;
+    private final Duration retrasoMaximo;
+    private final Clock clock;
+    private final Map<String, Duration> retrasos = new ConcurrentHashMap<>();
+    private final AtomicInteger siguiente = new AtomicInteger();
+    private volatile List<String> disponibles;
+
+    /**
+     * Réplicas de {@code primario}, en el orden del mapa; no reciben lecturas hasta la primera verificación
+     */
+    public ReplicasLectura(DataSource primario, Map<String, DataSource> replicas, Duration retrasoMaximo, Clock clock) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Debe haber al menos una réplica");
+        }
+        this.primario = primario;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.retrasoMaximo = retrasoMaximo;
+        this.clock = clock;
+        this.disponibles = List.of();
+    }
+
+    private ReplicasLectura(String nombre, DataSource pool) {
+        this.primario = null;
+        this.replicas = Map.of(nombre, pool);
+        this.retrasoMaximo = null;
+        this.clock = null;
+        this.disponibles = List.of(nombre);
+    }
+
+    /**
+     * Un único pool de lectura sobre la base primaria: siempre disponible, sin retraso
+     */
+    public static ReplicasLectura delPrimario(String nombre, DataSource pool) {
+        return new ReplicasLectura(nombre, pool);
+    }
+
+    /**
+     * Próximo DataSource de lectura disponible, o vacío si hay que leer del primario
+     */
+    public Optional<String> elegir() {
+        List<String> actuales = disponibles;
+        if (actuales.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(actuales.get(Math.floorMod(siguiente.getAndIncrement(), actuales.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${empresa.datasource.replicas.verificacion-ms:1000}")
+    public void verificar() {
+        if (primario == null) {
+            return;
+        }
+        OffsetDateTime latido = OffsetDateTime.now(clock).truncatedTo(ChronoUnit.MILLIS);
+        try {
+            new JdbcTemplate(primario).update(SQL_ESCRIBIR_LATIDO, latido);
+        } catch (DataAccessException e) {
+            log.warn("No se pudo escribir el latido de replicación en el primario: {}", e.getMessage());
+            return;
+        }
+        replicas.forEach((nombre, replica) -> {
+            Duration retraso = medirRetraso(nombre, replica);
+            if (retraso == null) {
+                retrasos.remove(nombre);
+            } else {
+                retrasos.put(nombre, retraso);
+            }
+        });
+        List<String> vigentes = replicas.keySet().stream()
+                .filter(nombre -> retrasos.containsKey(nombre) && retrasos.get(nombre).compareTo(retrasoMaximo) <= 0)
+                .toList();
+        if (!vigentes.equals(disponibles)) {
+            log.info("Réplicas de lectura disponibles: {} de {} (retrasos {})", vigentes, replicas.keySet(), retrasos);
+        }
+        disponibles = vigentes;
+    }
+
+    public Map<String, DataSource> getDataSources() {
+        return replicas;
+    }
+
+    public List<String> getDisponibles() {
+        return disponibles;
+    }
+
+    /**
+     * Último retraso medido de la réplica en milisegundos, o {@code NaN} si no respondió
+     */
+    public double getRetrasoMs(String nombre) {
+        Duration retraso = retrasos.get(nombre);
+        return retraso == null ? Double.NaN : retraso.toMillis();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable cerrable) {
+                cerrable.close();
+            }
+        }
+    }
+
+    private Duration medirRetraso(String nombre, DataSource replica) {
+        try {
+            OffsetDateTime latido = new JdbcTemplate(replica).queryForObject(SQL_LEER_LATIDO, OffsetDateTime.class);
+            return latido == null ? null : Duration.between(latido.toInstant(), clock.instant());
+        } catch (DataAccessException e) {
+            log.warn("No se pudo leer el latido de la réplica {}: {}", nombre, e.getMessage());
+            return null;
+        }
+    }
+}
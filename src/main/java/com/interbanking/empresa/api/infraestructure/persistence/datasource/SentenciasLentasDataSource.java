@@ -0,0 +1,103 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource que mide cada sentencia JDBC y loguea las que tardan al menos el umbral en
+ * {@value #LOGGER}, el logger muestreado por {@code MuestreoTurboFilter}.
+ * <p>
+ * Al medir en la conexión cubre tanto lo que ejecuta Hibernate como las consultas por {@code JdbcTemplate}
+ * de los reportes, la ingesta y las particiones, que {@code hibernate.log_slow_query} no ve. Se mide la
+ * ejecución ({@code execute*}), no la lectura posterior del {@code ResultSet}.
+ */
+public class SentenciasLentasDataSource extends DelegatingDataSource {
+
+    public static final String LOGGER = "org.hibernate.SQL_SLOW";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER);
+
+    private final long umbralNanos;
+
+    public SentenciasLentasDataSource(DataSource destino, Duration umbral) {
+        super(destino);
+        this.umbralNanos = umbral.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return medir(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return medir(super.getConnection(username, password));
+    }
+
+    private Connection medir(Connection conexion) {
+        return (Connection) Proxy.newProxyInstance(
+                SentenciasLentasDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> switch (metodo.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "prepareStatement" -> medir(PreparedStatement.class, (Statement) invocar(conexion, metodo, args), (String) args[0]);
+                    case "prepareCall" -> medir(CallableStatement.class, (Statement) invocar(conexion, metodo, args), (String) args[0]);
+                    case "createStatement" -> medir(Statement.class, (Statement) invocar(conexion, metodo, args), null);
+                    default -> invocar(conexion, metodo, args);
+                });
+    }
+
+    /**
+     * {@code sql} es el de {@code prepareStatement}; en un {@code Statement} llega con cada {@code execute}
+     */
+    private <S extends Statement> S medir(Class<S> tipo, Statement sentencia, String sql) {
+        return tipo.cast(Proxy.newProxyInstance(
+                SentenciasLentasDataSource.class.getClassLoader(),
+                new Class<?>[]{tipo},
+                (proxy, metodo, args) -> switch (metodo.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> metodo.getName().startsWith("execute")
+                            ? ejecutar(sentencia, metodo, args, sql)
+                            : invocar(sentencia, metodo, args);
+                }));
+    }
+
+    private Object ejecutar(Statement sentencia, Method metodo, Object[] args, String sql) throws Throwable {
+        long inicio = System.nanoTime();
+        try {
+            return invocar(sentencia, metodo, args);
+        } finally {
+            registrar(System.nanoTime() - inicio,
+                    args != null && args.length > 0 && args[0] instanceof String texto ? texto : sql);
+        }
+    }
+
+    private void registrar(long nanos, String sql) {
+        if (nanos >= umbralNanos) {
+            log.info("Consulta lenta: {} ms [{}]", TimeUnit.NANOSECONDS.toMillis(nanos), sql == null ? "lote" : sql);
+        }
+    }
+
+    private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.interbanking.empresa.api.infraestructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Rollup de actividad por empresa y mes. El período se guarda como el primer día del mes.
+ */
+@Entity
+@Table(name = "empresa_actividad_mensual")
+@IdClass(EmpresaActividadMensualId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmpresaActividadMensualEntity {
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate periodo;
+
+    @Id
+    @Column(name = "id_empresa", nullable = false)
+    private Long idEmpresa;
+
+    @Column(name = "cantidad_transferencias", nullable = false)
+    private Long cantidadTransferencias;
+
+    @Column(name = "importe_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal importeTotal;
+
+    @Column(name = "importe_maximo", nullable = false, precision = 15, scale = 2)
+    private BigDecimal importeMaximo;
+
+    @Column(name = "primera_transferencia", nullable = false)
+    private LocalDate primeraTransferencia;
+
+    @Column(name = "ultima_transferencia", nullable = false)
+    private LocalDate ultimaTransferencia;
+}
@@ -0,0 +1,18 @@
+package com.interbanking.empresa.api.infraestructure.persistence.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EmpresaActividadMensualId implements Serializable {
+
+    private LocalDate periodo;
+
+    private Long idEmpresa;
+}
@@ -2,13 +2,30 @@ package com.interbanking.empresa.api.infraestructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Las empresas y sus colecciones se cargan de a {@value #TAMANIO_LOTE}: una lectura JPA de transferencias
+ * resuelve los proxies de sus empresas con un SELECT ... IN por lote, no uno por fila.
+ * <p>
+ * Son datos maestros que casi no cambian: la entidad y la resolución {@code cuit -> id} se guardan en la
+ * cache de segundo nivel (regiones {@value #REGION} y {@value #REGION_CUIT}, con tamaño y TTL en
+ * {@code application.conf}). Las escrituras por JPA la actualizan al confirmar la transacción; las que van
+ * por JDBC deben desalojar la empresa.
+ */
 @Entity
 @Table(name = "empresa")
+@BatchSize(size = EmpresaEntity.TAMANIO_LOTE)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EmpresaEntity.REGION)
+@NaturalIdCache(region = EmpresaEntity.REGION_CUIT)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,10 +33,15 @@ import java.util.List;
 @Builder
 public class EmpresaEntity {
 
+    static final int TAMANIO_LOTE = 100;
+    public static final String REGION = "empresa";
+    public static final String REGION_CUIT = "empresa-cuit";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 20)
     private String cuit;
 
@@ -29,6 +51,11 @@ public class EmpresaEntity {
     @Column(name = "fecha_adhesion")
     private LocalDate fechaAdhesion;
 
-    @OneToMany(mappedBy = "empresa", cascade = CascadeType.ALL)
+    /**
+     * Sólo lectura: las transferencias se escriben por JDBC en sus particiones, nunca en cascada desde la empresa
+     */
+    @OneToMany(mappedBy = "empresa")
+    @BatchSize(size = TAMANIO_LOTE)
+    @Builder.Default
     private List<TransferenciaEntity> transferencias = new ArrayList<>();
 }
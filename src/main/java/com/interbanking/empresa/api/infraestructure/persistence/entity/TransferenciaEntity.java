@@ -2,11 +2,16 @@ package com.interbanking.empresa.api.infraestructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Immutable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * Mapea la vista que une las particiones mensuales ({@code transferencia_AAAA_MM}); es de sólo lectura
+ */
 @Entity
+@Immutable
 @Table(name = "transferencia")
 @Getter
 @Setter
@@ -16,7 +21,6 @@ import java.time.LocalDate;
 public class TransferenciaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false, precision = 15, scale = 2)
@@ -0,0 +1,256 @@
+package com.interbanking.empresa.api.infraestructure.persistence.particion;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Particiones mensuales de transferencias: una tabla {@code transferencia_AAAA_MM} por mes, con un
+ * CHECK sobre {@code fecha_transferencia} y su propio índice {@code (id_empresa, fecha_transferencia)}.
+ * <p>
+ * H2 no tiene particionamiento declarativo, así que el ruteo y la poda los hace la aplicación: las
+ * escrituras van a la tabla del mes ({@link #asegurar}) y las consultas por rango sólo leen las tablas que
+ * lo cubren ({@link #cubriendo}). La vista {@code transferencia} une las particiones vigentes para las
+ * lecturas JPA y los scripts, y se recrea cada vez que cambian.
+ * <p>
+ * Las particiones del mes en curso y del siguiente se crean al iniciar y en {@link #prepararProximas}, fuera
+ * de toda transacción de escritura. Un mes sin partición sólo se crea si quien escribe todavía no abrió su
+ * transacción: el DDL no toma una segunda conexión mientras la del lote queda retenida esperándolo.
+ * <p>
+ * Las particiones anteriores a {@code empresa.transferencias.particiones.retencion-meses} se archivan
+ * renombrándolas a {@code transferencia_archivada_AAAA_MM}: sólo cambia metadata, sin mover filas, y
+ * dejan de leerse. El rollup {@code empresa_actividad_mensual} de esos meses se conserva. No se crean
+ * particiones para meses ya fuera de la retención; si igual aparece una con su archivada ya existente (una
+ * base anterior a esa validación), sus filas se agregan a la archivada en lugar de renombrarla.
+ */
+@Slf4j
+@Component
+public class ParticionesTransferencia {
+
+    public static final String VISTA = "transferencia";
+
+    private static final DateTimeFormatter SUFIJO = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern NOMBRE_PARTICION = Pattern.compile("TRANSFERENCIA_(\\d{4})_(\\d{2})");
+
+    private static final String SQL_PARTICIONES_EXISTENTES = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_TYPE = 'BASE TABLE' AND TABLE_NAME LIKE 'TRANSFERENCIA%'";
+
+    private static final String SQL_EXISTE_TABLA = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ?";
+
+    private static final String SQL_VISTA_VACIA = "SELECT CAST(NULL AS BIGINT) AS id, " +
+            "CAST(NULL AS DECIMAL(15, 2)) AS importe, CAST(NULL AS BIGINT) AS id_empresa, " +
+            "CAST(NULL AS VARCHAR(34)) AS cuenta_debito, CAST(NULL AS VARCHAR(34)) AS cuenta_credito, " +
+            "CAST(NULL AS TIMESTAMP) AS fecha_transferencia WHERE FALSE";
+
+    private final JdbcOperations jdbc;
+    private final TransactionTemplate transaccionDdl;
+    private final int retencionMeses;
+    private final Clock clock;
+    private final NavigableSet<YearMonth> vigentes = new ConcurrentSkipListSet<>();
+
+    @Autowired
+    public ParticionesTransferencia(JdbcOperations jdbc,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${empresa.transferencias.particiones.retencion-meses:24}") int retencionMeses) {
+        this(jdbc, transactionManager, retencionMeses, Clock.systemDefaultZone());
+    }
+
+    ParticionesTransferencia(JdbcOperations jdbc,
+                             PlatformTransactionManager transactionManager,
+                             int retencionMeses,
+                             Clock clock) {
+        this.jdbc = jdbc;
+        this.transaccionDdl = new TransactionTemplate(transactionManager);
+        this.retencionMeses = retencionMeses;
+        this.clock = clock;
+    }
+
+    public static String tabla(YearMonth periodo) {
+        return VISTA + "_" + periodo.format(SUFIJO);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        descubrir();
+        prepararProximas();
+    }
+
+    /**
+     * Carga las particiones que ya existen (las del schema inicial o las de una base persistente)
+     */
+    void descubrir() {
+        for (String nombre : jdbc.queryForList(SQL_PARTICIONES_EXISTENTES, String.class)) {
+            Matcher matcher = NOMBRE_PARTICION.matcher(nombre.toUpperCase());
+            if (matcher.matches()) {
+                vigentes.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        log.info("Particiones de transferencias vigentes: {}", vigentes);
+    }
+
+    /**
+     * Devuelve la tabla del período, creándola si todavía no existe. Se llama antes de abrir la transacción
+     * de escritura: dentro de una, sólo devuelve particiones que ya existen.
+     *
+     * @throws IllegalArgumentException si el período es anterior a la retención
+     * @throws IllegalStateException si la partición no existe y hay una transacción en curso
+     */
+    public String asegurar(YearMonth periodo) {
+        if (!vigentes.contains(periodo)) {
+            YearMonth horizonte = horizonte();
+            if (horizonte != null && periodo.isBefore(horizonte)) {
+                throw new IllegalArgumentException("El período " + periodo + " es anterior a la retención de "
+                        + retencionMeses + " meses (" + horizonte + ")");
+            }
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new IllegalStateException("La partición " + tabla(periodo)
+                        + " no existe y no se crea dentro de una transacción en curso");
+            }
+            crear(periodo);
+        }
+        return tabla(periodo);
+    }
+
+    /**
+     * Crea por adelantado las particiones del mes en curso y del siguiente
+     */
+    @Scheduled(cron = "${empresa.transferencias.particiones.creacion-cron:0 0 3 * * *}")
+    public void prepararProximas() {
+        YearMonth actual = YearMonth.now(clock);
+        asegurar(actual);
+        asegurar(actual.plusMonths(1));
+    }
+
+    /**
+     * Tablas de las particiones vigentes que pueden tener transferencias entre {@code desde} y
+     * {@code hasta}, en orden; vacía si ningún mes del rango tiene partición
+     */
+    public List<String> cubriendo(LocalDate desde, LocalDate hasta) {
+        YearMonth primero = YearMonth.from(desde);
+        YearMonth ultimo = YearMonth.from(hasta);
+        if (ultimo.isBefore(primero)) {
+            return List.of();
+        }
+        return vigentes.subSet(primero, true, ultimo, true).stream()
+                .map(ParticionesTransferencia::tabla)
+                .toList();
+    }
+
+    public List<YearMonth> getVigentes() {
+        return List.copyOf(vigentes);
+    }
+
+    /**
+     * Primer mes dentro de la retención, o {@code null} si la retención está deshabilitada
+     */
+    public YearMonth horizonte() {
+        return retencionMeses > 0 ? YearMonth.now(clock).minusMonths(retencionMeses) : null;
+    }
+
+    @Scheduled(cron = "${empresa.transferencias.particiones.archivado-cron:0 30 3 1 * *}")
+    public void archivarVencidas() {
+        YearMonth horizonte = horizonte();
+        if (horizonte != null) {
+            archivarAnterioresA(horizonte);
+        }
+    }
+
+    /**
+     * Saca de la vista y renombra las particiones de los meses anteriores a {@code horizonte}
+     */
+    public synchronized List<YearMonth> archivarAnterioresA(YearMonth horizonte) {
+        List<YearMonth> vencidas = List.copyOf(vigentes.headSet(horizonte, false));
+        if (vencidas.isEmpty()) {
+            return vencidas;
+        }
+        NavigableSet<YearMonth> restantes = new TreeSet<>(vigentes.tailSet(horizonte, true));
+        transaccionDdl.executeWithoutResult(estado -> {
+            // Primero la vista, para que ya no referencie las tablas que se renombran
+            recrearVista(restantes);
+            for (YearMonth periodo : vencidas) {
+                archivar(periodo);
+            }
+        });
+        vencidas.forEach(vigentes::remove);
+        log.info("Particiones de transferencias archivadas: {}", vencidas);
+        return vencidas;
+    }
+
+    private void archivar(YearMonth periodo) {
+        String archivada = VISTA + "_archivada_" + periodo.format(SUFIJO);
+        Long existentes = jdbc.queryForObject(SQL_EXISTE_TABLA, Long.class, archivada.toUpperCase());
+        if (existentes == null || existentes == 0) {
+            // Los nombres de constraints e índices son únicos en el schema: se renombran con la tabla para
+            // que la partición del mes se pueda volver a crear si la retención se amplía
+            String tabla = tabla(periodo);
+            jdbc.execute("ALTER TABLE " + tabla + " RENAME TO " + archivada);
+            jdbc.execute("ALTER TABLE " + archivada + " RENAME CONSTRAINT fk_" + tabla + "_empresa TO fk_" + archivada + "_empresa");
+            jdbc.execute("ALTER TABLE " + archivada + " RENAME CONSTRAINT ck_" + tabla + "_periodo TO ck_" + archivada + "_periodo");
+            jdbc.execute("ALTER INDEX IF EXISTS idx_" + tabla + "_empresa_fecha RENAME TO idx_" + archivada + "_empresa_fecha");
+            return;
+        }
+        jdbc.execute("INSERT INTO " + archivada + " SELECT * FROM " + tabla(periodo));
+        jdbc.execute("DROP TABLE " + tabla(periodo));
+        log.warn("Partición {} agregada a {}, que ya existía", tabla(periodo), archivada);
+    }
+
+    private synchronized void crear(YearMonth periodo) {
+        if (vigentes.contains(periodo)) {
+            return;
+        }
+        NavigableSet<YearMonth> particiones = new TreeSet<>(vigentes);
+        particiones.add(periodo);
+        transaccionDdl.executeWithoutResult(estado -> {
+            jdbc.execute(ddlParticion(periodo));
+            jdbc.execute("CREATE INDEX IF NOT EXISTS idx_" + tabla(periodo) + "_empresa_fecha ON " + tabla(periodo)
+                    + " (id_empresa, fecha_transferencia)");
+            recrearVista(particiones);
+        });
+        vigentes.add(periodo);
+        log.info("Partición de transferencias creada: {}", tabla(periodo));
+    }
+
+    private void recrearVista(NavigableSet<YearMonth> particiones) {
+        String select = particiones.isEmpty() ? SQL_VISTA_VACIA : particiones.stream()
+                .map(periodo -> "SELECT * FROM " + tabla(periodo))
+                .collect(Collectors.joining(" UNION ALL "));
+        jdbc.execute("CREATE OR REPLACE VIEW " + VISTA + " AS " + select);
+    }
+
+    /**
+     * Misma definición que las particiones de {@code schema.sql}
+     */
+    public static String ddlParticion(YearMonth periodo) {
+        String tabla = tabla(periodo);
+        return "CREATE TABLE IF NOT EXISTS " + tabla + " (" +
+                "id BIGINT DEFAULT NEXT VALUE FOR transferencia_seq PRIMARY KEY, " +
+                "importe DECIMAL(15, 2) NOT NULL, " +
+                "id_empresa BIGINT NOT NULL, " +
+                "cuenta_debito VARCHAR(34) NOT NULL, " +
+                "cuenta_credito VARCHAR(34) NOT NULL, " +
+                "fecha_transferencia TIMESTAMP NOT NULL, " +
+                "CONSTRAINT fk_" + tabla + "_empresa FOREIGN KEY (id_empresa) REFERENCES empresa (id), " +
+                "CONSTRAINT ck_" + tabla + "_periodo CHECK (fecha_transferencia >= TIMESTAMP '" + periodo.atDay(1) +
+                " 00:00:00' AND fecha_transferencia < TIMESTAMP '" + periodo.plusMonths(1).atDay(1) + " 00:00:00'))";
+    }
+}
@@ -0,0 +1,49 @@
+package com.interbanking.empresa.api.infraestructure.persistence.repository;
+
+import com.interbanking.empresa.api.infraestructure.persistence.entity.EmpresaActividadMensualEntity;
+import com.interbanking.empresa.api.infraestructure.persistence.entity.EmpresaActividadMensualId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Repository
+public interface EmpresaActividadMensualJpaRepository
+        extends JpaRepository<EmpresaActividadMensualEntity, EmpresaActividadMensualId> {
+
+    /**
+     * MERGE del rollup; también lo usa la ingesta por lotes vía JDBC
+     */
+    String SQL_ACUMULAR = "MERGE INTO empresa_actividad_mensual a " +
+            "USING (VALUES (CAST(:periodo AS DATE), CAST(:idEmpresa AS BIGINT), CAST(:cantidad AS BIGINT), " +
+            "CAST(:importe AS DECIMAL(19, 2)), CAST(:maximo AS DECIMAL(15, 2)), CAST(:primera AS DATE), " +
+            "CAST(:ultima AS DATE))) " +
+            "AS s (periodo, id_empresa, cantidad, importe, maximo, primera, ultima) " +
+            "ON a.periodo = s.periodo AND a.id_empresa = s.id_empresa " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "cantidad_transferencias = a.cantidad_transferencias + s.cantidad, " +
+            "importe_total = a.importe_total + s.importe, " +
+            "importe_maximo = GREATEST(a.importe_maximo, s.maximo), " +
+            "primera_transferencia = LEAST(a.primera_transferencia, s.primera), " +
+            "ultima_transferencia = GREATEST(a.ultima_transferencia, s.ultima) " +
+            "WHEN NOT MATCHED THEN INSERT (periodo, id_empresa, cantidad_transferencias, importe_total, " +
+            "importe_maximo, primera_transferencia, ultima_transferencia) " +
+            "VALUES (s.periodo, s.id_empresa, s.cantidad, s.importe, s.maximo, s.primera, s.ultima)";
+
+    /**
+     * Suma un delta de actividad al rollup del período, creando la fila si no existe
+     */
+    @Modifying
+    @Query(value = SQL_ACUMULAR, nativeQuery = true)
+    void acumular(@Param("periodo") LocalDate periodo,
+                  @Param("idEmpresa") Long idEmpresa,
+                  @Param("cantidad") long cantidad,
+                  @Param("importe") BigDecimal importe,
+                  @Param("maximo") BigDecimal maximo,
+                  @Param("primera") LocalDate primera,
+                  @Param("ultima") LocalDate ultima);
+}
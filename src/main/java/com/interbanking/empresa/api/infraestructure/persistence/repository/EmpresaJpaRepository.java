@@ -4,14 +4,11 @@ import com.interbanking.empresa.api.infraestructure.persistence.entity.EmpresaEn
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface EmpresaJpaRepository extends JpaRepository<EmpresaEntity, Long> {
-    Optional<EmpresaEntity> findByCuit(String cuit);
-
-    List<EmpresaEntity> findByFechaAdhesionBetween(LocalDate desde, LocalDate hasta);
+    List<EmpresaEntity> findByCuitIn(Collection<String> cuits);
 }
 
@@ -1,19 +1,39 @@
 -- Empresas
 INSERT INTO empresa (cuit, razon_social, fecha_adhesion)
-VALUES ('20123456789', 'Empresa Uno S.A.', '2025-08-01');
+VALUES ('20123456786', 'Empresa Uno S.A.', '2025-08-01');
 
 INSERT INTO empresa (cuit, razon_social, fecha_adhesion)
-VALUES ('20987654321', 'Empresa Dos SRL', NULL);
+VALUES ('20987654326', 'Empresa Dos SRL', NULL);
 
 INSERT INTO empresa (cuit, razon_social, fecha_adhesion)
-VALUES ('20345678901', 'Empresa Tres S.A.', '2025-07-15');
+VALUES ('20345678906', 'Empresa Tres S.A.', '2025-07-15');
 
 -- Transferencias
-INSERT INTO transferencia (importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia)
+INSERT INTO transferencia_2025_08 (importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia)
 VALUES (15000.50, 1, 'AR123000100123456789', 'AR450002001234567890', '2025-08-15 10:30:00');
 
-INSERT INTO transferencia (importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia)
+INSERT INTO transferencia_2025_08 (importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia)
 VALUES (2500.00, 1, 'AR123000100123456789', 'AR890002009876543210', '2025-08-20 15:45:00');
 
-INSERT INTO transferencia (importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia)
+INSERT INTO transferencia_2025_08 (importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia)
 VALUES (87000.75, 3, 'AR450002001234567890', 'AR123000100123456789', '2025-08-01 09:00:00');
+
+-- Rollup mensual de actividad (se mantiene incrementalmente al registrar transferencias)
+INSERT INTO empresa_actividad_mensual (periodo, id_empresa, cantidad_transferencias, importe_total,
+                                       importe_maximo, primera_transferencia, ultima_transferencia)
+SELECT CAST(DATE_TRUNC('MONTH', fecha_transferencia) AS DATE),
+       id_empresa,
+       COUNT(*),
+       SUM(importe),
+       MAX(importe),
+       MIN(CAST(fecha_transferencia AS DATE)),
+       MAX(CAST(fecha_transferencia AS DATE))
+FROM transferencia
+GROUP BY CAST(DATE_TRUNC('MONTH', fecha_transferencia) AS DATE), id_empresa;
+
+INSERT INTO empresa_cuenta_mensual (periodo, id_empresa, tipo, cuenta)
+SELECT DISTINCT CAST(DATE_TRUNC('MONTH', fecha_transferencia) AS DATE), id_empresa, 'D', cuenta_debito
+FROM transferencia
+UNION
+SELECT DISTINCT CAST(DATE_TRUNC('MONTH', fecha_transferencia) AS DATE), id_empresa, 'C', cuenta_credito
+FROM transferencia;
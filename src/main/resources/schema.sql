@@ -6,13 +6,62 @@ CREATE TABLE empresa
     fecha_adhesion DATE NULL
 );
 
-CREATE TABLE transferencia
+-- Transferencias particionadas por mes: una tabla transferencia_AAAA_MM por mes (ParticionesTransferencia
+-- crea las que faltan con esta misma definición) y la vista transferencia que une las vigentes
+CREATE SEQUENCE transferencia_seq;
+
+CREATE TABLE transferencia_2025_08
 (
-    id                  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id                  BIGINT DEFAULT NEXT VALUE FOR transferencia_seq PRIMARY KEY,
     importe             DECIMAL(15, 2) NOT NULL,
     id_empresa          BIGINT         NOT NULL,
     cuenta_debito       VARCHAR(34)    NOT NULL,
     cuenta_credito      VARCHAR(34)    NOT NULL,
-    fecha_transferencia TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    CONSTRAINT fk_empresa FOREIGN KEY (id_empresa) REFERENCES empresa (id)
+    fecha_transferencia TIMESTAMP      NOT NULL,
+    CONSTRAINT fk_transferencia_2025_08_empresa FOREIGN KEY (id_empresa) REFERENCES empresa (id),
+    CONSTRAINT ck_transferencia_2025_08_periodo CHECK (fecha_transferencia >= TIMESTAMP '2025-08-01 00:00:00'
+        AND fecha_transferencia < TIMESTAMP '2025-09-01 00:00:00')
+);
+
+CREATE INDEX idx_transferencia_2025_08_empresa_fecha ON transferencia_2025_08 (id_empresa, fecha_transferencia);
+
+CREATE VIEW transferencia AS
+SELECT *
+FROM transferencia_2025_08;
+
+CREATE INDEX idx_empresa_fecha_adhesion ON empresa (fecha_adhesion);
+
+CREATE TABLE empresa_actividad_mensual
+(
+    periodo                 DATE           NOT NULL,
+    id_empresa              BIGINT         NOT NULL,
+    cantidad_transferencias BIGINT         NOT NULL,
+    importe_total           DECIMAL(19, 2) NOT NULL,
+    importe_maximo          DECIMAL(15, 2) NOT NULL,
+    primera_transferencia   DATE           NOT NULL,
+    ultima_transferencia    DATE           NOT NULL,
+    CONSTRAINT pk_empresa_actividad_mensual PRIMARY KEY (periodo, id_empresa),
+    CONSTRAINT fk_actividad_empresa FOREIGN KEY (id_empresa) REFERENCES empresa (id)
 );
+
+-- Cuentas de débito (D) y crédito (C) distintas por empresa y mes, para contar cuentas distintas de
+-- meses completos sin leer las transferencias
+CREATE TABLE empresa_cuenta_mensual
+(
+    periodo    DATE        NOT NULL,
+    id_empresa BIGINT      NOT NULL,
+    tipo       CHAR(1)     NOT NULL,
+    cuenta     VARCHAR(34) NOT NULL,
+    CONSTRAINT pk_empresa_cuenta_mensual PRIMARY KEY (periodo, id_empresa, tipo, cuenta),
+    CONSTRAINT fk_cuenta_empresa FOREIGN KEY (id_empresa) REFERENCES empresa (id)
+);
+
+-- Latido de replicación: ReplicasLectura escribe la hora en el primario y la lee en cada réplica para medir
+-- su retraso. Una sola fila
+CREATE TABLE latido_replicacion
+(
+    id       INT                      NOT NULL PRIMARY KEY,
+    instante TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO latido_replicacion (id, instante) VALUES (1, CURRENT_TIMESTAMP);
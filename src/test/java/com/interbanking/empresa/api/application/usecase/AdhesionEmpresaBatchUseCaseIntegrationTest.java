@@ -0,0 +1,101 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaResponse;
+import com.interbanking.empresa.api.domain.event.EmpresaAdheridaEvent;
+import com.interbanking.empresa.api.domain.model.Cuit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Adhesión masiva contra H2 con la adhesión individual de por medio: cada empresa se informa como
+ * adherida y publica su evento una sola vez
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:adhesion-batch",
+        "logging.level.root=WARN"})
+@RecordApplicationEvents
+@DisplayName("AdhesionEmpresaBatchUseCase con la base")
+class AdhesionEmpresaBatchUseCaseIntegrationTest {
+
+    @Autowired
+    private AdhesionEmpresaBatchUseCase adhesionBatch;
+
+    @Autowired
+    private AdhesionEmpresaUseCase adhesion;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ApplicationEvents eventos;
+
+    @Test
+    @DisplayName("Una empresa adherida por la adhesión individual antes del UPDATE del lote se informa como ya adherida")
+    void shouldNotAdhereTwiceWhenSingleAdhesionWins() {
+        // Given
+        List<String> cuits = nuevasEmpresas(3);
+        AdhesionEmpresaResponse individual = adhesion.procesarAdhesion(cuits.get(1));
+
+        // When
+        Map<String, AdhesionEmpresaResponse> resultados = adhesionBatch.procesarAdhesiones(cuits);
+
+        // Then
+        assertTrue(individual.isSuccess());
+        assertTrue(resultados.get(cuits.get(0)).isSuccess());
+        assertFalse(resultados.get(cuits.get(1)).isSuccess());
+        assertEquals("La empresa ya está adherida desde " + LocalDate.now(), resultados.get(cuits.get(1)).getMessage());
+        assertTrue(resultados.get(cuits.get(2)).isSuccess());
+        assertEquals(List.of(cuits.get(1), cuits.get(0), cuits.get(2)), cuitsPublicados());
+    }
+
+    @Test
+    @DisplayName("Dos lotes con los mismos CUIT adhieren y publican cada empresa una sola vez")
+    void shouldAdhereOnceAcrossOverlappingBatches() {
+        // Given
+        List<String> cuits = nuevasEmpresas(2);
+        String inexistente = cuits.get(1);
+        jdbc.update("DELETE FROM empresa WHERE cuit = ?", inexistente);
+
+        // When
+        Map<String, AdhesionEmpresaResponse> primero = adhesionBatch.procesarAdhesiones(cuits);
+        Map<String, AdhesionEmpresaResponse> segundo = adhesionBatch.procesarAdhesiones(cuits);
+
+        // Then
+        assertTrue(primero.get(cuits.get(0)).isSuccess());
+        assertFalse(segundo.get(cuits.get(0)).isSuccess());
+        assertEquals("La empresa con CUIT " + inexistente + " no existe", segundo.get(inexistente).getMessage());
+        assertEquals(List.of(cuits.get(0)), cuitsPublicados());
+        assertEquals(LocalDate.now(), jdbc.queryForObject(
+                "SELECT fecha_adhesion FROM empresa WHERE cuit = ?", LocalDate.class, cuits.get(0)));
+    }
+
+    private List<String> cuitsPublicados() {
+        return eventos.stream(EmpresaAdheridaEvent.class).map(EmpresaAdheridaEvent::cuit).toList();
+    }
+
+    /**
+     * Empresas sin adherir con CUIT válidos que no usan los datos iniciales ni los otros tests
+     */
+    private List<String> nuevasEmpresas(int cantidad) {
+        long desde = jdbc.queryForObject("SELECT COUNT(*) FROM empresa", Long.class) * 100 + 30_000_000_000L;
+        List<String> cuits = LongStream.iterate(desde, i -> i + 1)
+                .mapToObj(Long::toString)
+                .filter(Cuit::esValido)
+                .limit(cantidad)
+                .toList();
+        cuits.forEach(cuit -> jdbc.update("INSERT INTO empresa (cuit, razon_social) VALUES (?, ?)", cuit, "Empresa " + cuit));
+        return cuits;
+    }
+}
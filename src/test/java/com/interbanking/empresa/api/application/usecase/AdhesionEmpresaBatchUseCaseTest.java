@@ -0,0 +1,157 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaResponse;
+import com.interbanking.empresa.api.domain.event.EmpresaAdheridaEvent;
+import com.interbanking.empresa.api.domain.model.Cuit;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdhesionEmpresaBatchUseCase Tests")
+class AdhesionEmpresaBatchUseCaseTest {
+
+    @Mock
+    private EmpresaRepositoryPort empresaRepositoryPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AdhesionEmpresaBatchUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new AdhesionEmpresaBatchUseCase(empresaRepositoryPort, transactionTemplate, eventPublisher);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Debe informar éxito, no encontrada y ya adherida por CUIT")
+    void shouldReportOutcomePerCuit() {
+        // Given
+        Empresa adherida = new Empresa(1L, "20123456786", "Empresa Uno S.A.", LocalDate.now());
+        Empresa yaAdherida = new Empresa(2L, "20345678906", "Empresa Tres S.A.", LocalDate.of(2025, 7, 15));
+        List<String> cuits = List.of("20123456786", "20987654326", "20345678906", "20123456786");
+
+        when(empresaRepositoryPort.adherirSiNoAdheridas(List.of("20123456786", "20987654326", "20345678906"), LocalDate.now()))
+                .thenReturn(List.of(adherida));
+        when(empresaRepositoryPort.findByCuitIn(List.of("20987654326", "20345678906")))
+                .thenReturn(List.of(yaAdherida));
+
+        // When
+        Map<String, AdhesionEmpresaResponse> resultados = useCase.procesarAdhesiones(cuits);
+
+        // Then
+        assertEquals(List.of("20123456786", "20987654326", "20345678906"), List.copyOf(resultados.keySet()));
+        assertTrue(resultados.get("20123456786").isSuccess());
+        assertEquals(LocalDate.now(), resultados.get("20123456786").getEmpresa().fechaAdhesion());
+        assertEquals("La empresa con CUIT 20987654326 no existe", resultados.get("20987654326").getMessage());
+        assertEquals("La empresa ya está adherida desde 2025-07-15", resultados.get("20345678906").getMessage());
+
+        verify(eventPublisher).publishEvent(new EmpresaAdheridaEvent(1L, "20123456786", LocalDate.now()));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe informar ya adherida y no publicar el evento si otra petición la adhirió antes del UPDATE")
+    void shouldNotReportSuccessWhenAdheredConcurrently() {
+        // Given: la adhesión individual de 20345678906 confirmó antes que el UPDATE del lote
+        Empresa adherida = new Empresa(1L, "20123456786", "Empresa Uno S.A.", LocalDate.now());
+        Empresa adheridaPorOtra = new Empresa(2L, "20345678906", "Empresa Tres S.A.", LocalDate.now());
+        when(empresaRepositoryPort.adherirSiNoAdheridas(List.of("20123456786", "20345678906"), LocalDate.now()))
+                .thenReturn(List.of(adherida));
+        when(empresaRepositoryPort.findByCuitIn(List.of("20345678906"))).thenReturn(List.of(adheridaPorOtra));
+
+        // When
+        Map<String, AdhesionEmpresaResponse> resultados = useCase.procesarAdhesiones(List.of("20123456786", "20345678906"));
+
+        // Then
+        assertTrue(resultados.get("20123456786").isSuccess());
+        assertEquals(HttpStatus.CONFLICT, resultados.get("20345678906").getHttpStatus());
+        assertEquals("La empresa ya está adherida desde " + LocalDate.now(), resultados.get("20345678906").getMessage());
+        verify(eventPublisher).publishEvent(new EmpresaAdheridaEvent(1L, "20123456786", LocalDate.now()));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("No debe consultar las empresas si el UPDATE adhirió todo el lote")
+    void shouldNotQueryWhenWholeChunkAdhered() {
+        // Given
+        Empresa adherida = new Empresa(1L, "20123456786", "Empresa Uno S.A.", LocalDate.now());
+        when(empresaRepositoryPort.adherirSiNoAdheridas(List.of("20123456786"), LocalDate.now()))
+                .thenReturn(List.of(adherida));
+
+        // When
+        Map<String, AdhesionEmpresaResponse> resultados = useCase.procesarAdhesiones(List.of("20123456786"));
+
+        // Then
+        assertTrue(resultados.get("20123456786").isSuccess());
+        verify(empresaRepositoryPort, never()).findByCuitIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar los CUIT inválidos sin incluirlos en la consulta")
+    void shouldRejectInvalidCuitsWithoutQueryingThem() {
+        // Given
+        List<String> cuits = List.of("20123456789", "20987654326", "123");
+        when(empresaRepositoryPort.adherirSiNoAdheridas(List.of("20987654326"), LocalDate.now())).thenReturn(List.of());
+        when(empresaRepositoryPort.findByCuitIn(List.of("20987654326"))).thenReturn(List.of());
+
+        // When
+        Map<String, AdhesionEmpresaResponse> resultados = useCase.procesarAdhesiones(cuits);
+
+        // Then
+        assertEquals(cuits, List.copyOf(resultados.keySet()));
+        assertEquals(HttpStatus.BAD_REQUEST, resultados.get("20123456789").getHttpStatus());
+        assertEquals("El dígito verificador del CUIT no es válido", resultados.get("20123456789").getMessage());
+        assertEquals(HttpStatus.NOT_FOUND, resultados.get("20987654326").getHttpStatus());
+        assertEquals("El CUIT debe tener exactamente 11 dígitos", resultados.get("123").getMessage());
+        verify(empresaRepositoryPort).adherirSiNoAdheridas(List.of("20987654326"), LocalDate.now());
+        verify(empresaRepositoryPort).findByCuitIn(List.of("20987654326"));
+    }
+
+    @Test
+    @DisplayName("Debe adherir y consultar por lotes")
+    void shouldProcessInChunks() {
+        // Given
+        List<String> cuits = LongStream.iterate(0, i -> i + 1)
+                .mapToObj(i -> String.format("%011d", i))
+                .filter(Cuit::esValido)
+                .limit(AdhesionEmpresaBatchUseCase.TAMANIO_LOTE + 1)
+                .toList();
+        when(empresaRepositoryPort.adherirSiNoAdheridas(anyList(), any())).thenReturn(List.of());
+        when(empresaRepositoryPort.findByCuitIn(anyList())).thenReturn(List.of());
+
+        // When
+        Map<String, AdhesionEmpresaResponse> resultados = useCase.procesarAdhesiones(cuits);
+
+        // Then
+        assertEquals(cuits.size(), resultados.size());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(empresaRepositoryPort, times(2)).adherirSiNoAdheridas(anyList(), any());
+        verify(empresaRepositoryPort, times(2)).findByCuitIn(anyList());
+    }
+}
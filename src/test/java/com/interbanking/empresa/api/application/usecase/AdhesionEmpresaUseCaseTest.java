@@ -1,6 +1,7 @@
 package com.interbanking.empresa.api.application.usecase;
 
 import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaResponse;
+import com.interbanking.empresa.api.domain.event.EmpresaAdheridaEvent;
 import com.interbanking.empresa.api.domain.model.Empresa;
 import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,14 +9,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 
 import java.time.LocalDate;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +30,14 @@ class AdhesionEmpresaUseCaseTest {
     @Mock
     private EmpresaRepositoryPort empresaRepositoryPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AdhesionEmpresaUseCase adhesionEmpresaUseCase;
 
     @BeforeEach
     void setUp() {
-        adhesionEmpresaUseCase = new AdhesionEmpresaUseCase(empresaRepositoryPort);
+        adhesionEmpresaUseCase = new AdhesionEmpresaUseCase(empresaRepositoryPort, eventPublisher);
     }
 
     @Nested
@@ -40,13 +48,7 @@ class AdhesionEmpresaUseCaseTest {
         @DisplayName("Debe procesar con éxito la adhesión para empresas no adheridas")
         void shouldProcessAdhesionSuccessfullyForNonAdheredEmpresa() {
             // Given
-            String cuit = "20123456789";
-            Empresa empresa = Empresa.builder()
-                    .id(1L)
-                    .cuit(cuit)
-                    .razonSocial("Empresa Test S.A.")
-                    .build();
-
+            String cuit = "20123456786";
             Empresa empresaAdherida = Empresa.builder()
                     .id(1L)
                     .cuit(cuit)
@@ -54,8 +56,7 @@ class AdhesionEmpresaUseCaseTest {
                     .fechaAdhesion(LocalDate.now())
                     .build();
 
-            when(empresaRepositoryPort.findByCuit(cuit)).thenReturn(Optional.of(empresa));
-            when(empresaRepositoryPort.save(any(Empresa.class))).thenReturn(empresaAdherida);
+            when(empresaRepositoryPort.adherirSiNoAdherida(cuit, LocalDate.now())).thenReturn(Optional.of(empresaAdherida));
 
             // When
             AdhesionEmpresaResponse response = adhesionEmpresaUseCase.procesarAdhesion(cuit);
@@ -67,10 +68,12 @@ class AdhesionEmpresaUseCaseTest {
             assertEquals(1L, response.getEmpresa().id());
             assertEquals(cuit, response.getEmpresa().cuit());
             assertEquals("Empresa Test S.A.", response.getEmpresa().razonSocial());
-            assertNotNull(response.getEmpresa().fechaAdhesion());
+            assertEquals(LocalDate.now(), response.getEmpresa().fechaAdhesion());
 
-            verify(empresaRepositoryPort).findByCuit(cuit);
-            verify(empresaRepositoryPort).save(any(Empresa.class));
+            verify(empresaRepositoryPort).adherirSiNoAdherida(cuit, LocalDate.now());
+            verify(empresaRepositoryPort, never()).findByCuit(any());
+            verify(empresaRepositoryPort, never()).save(any(Empresa.class));
+            verify(eventPublisher).publishEvent(new EmpresaAdheridaEvent(1L, cuit, LocalDate.now()));
         }
     }
 
@@ -79,10 +82,10 @@ class AdhesionEmpresaUseCaseTest {
     class AlreadyAdheredTests {
 
         @Test
-        @DisplayName("Debería devolver la respuesta ya adherida cuando la empresa ya está adherida")
+        @DisplayName("Debería devolver la respuesta ya adherida cuando el UPDATE condicional no actualiza ninguna fila")
         void shouldReturnAlreadyAdheredResponseWhenEmpresaIsAlreadyAdhered() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             LocalDate fechaAdhesion = LocalDate.now().minusDays(30);
             Empresa empresaAdherida = Empresa.builder()
                     .id(1L)
@@ -91,6 +94,7 @@ class AdhesionEmpresaUseCaseTest {
                     .fechaAdhesion(fechaAdhesion)
                     .build();
 
+            when(empresaRepositoryPort.adherirSiNoAdherida(cuit, LocalDate.now())).thenReturn(Optional.empty());
             when(empresaRepositoryPort.findByCuit(cuit)).thenReturn(Optional.of(empresaAdherida));
 
             // When
@@ -101,8 +105,11 @@ class AdhesionEmpresaUseCaseTest {
             assertEquals("La empresa ya está adherida desde " + fechaAdhesion, response.getMessage());
             assertNull(response.getEmpresa());
 
-            verify(empresaRepositoryPort).findByCuit(cuit);
-            verify(empresaRepositoryPort, never()).save(any(Empresa.class));
+            InOrder orden = inOrder(empresaRepositoryPort);
+            orden.verify(empresaRepositoryPort).adherirSiNoAdherida(cuit, LocalDate.now());
+            orden.verify(empresaRepositoryPort).findByCuit(cuit);
+            verifyNoMoreInteractions(empresaRepositoryPort);
+            verifyNoInteractions(eventPublisher);
         }
     }
 
@@ -114,7 +121,8 @@ class AdhesionEmpresaUseCaseTest {
         @DisplayName("Debería devolver la respuesta 'no encontrada' cuando la empresa no existe")
         void shouldReturnNotFoundResponseWhenEmpresaDoesNotExist() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
+            when(empresaRepositoryPort.adherirSiNoAdherida(cuit, LocalDate.now())).thenReturn(Optional.empty());
             when(empresaRepositoryPort.findByCuit(cuit)).thenReturn(Optional.empty());
 
             // When
@@ -125,8 +133,25 @@ class AdhesionEmpresaUseCaseTest {
             assertEquals("La empresa con CUIT " + cuit + " no existe", response.getMessage());
             assertNull(response.getEmpresa());
 
+            verify(empresaRepositoryPort).adherirSiNoAdherida(cuit, LocalDate.now());
             verify(empresaRepositoryPort).findByCuit(cuit);
-            verify(empresaRepositoryPort, never()).save(any(Empresa.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Debería rechazar un CUIT con dígito verificador inválido sin consultar el repositorio")
+        void shouldRejectInvalidCuitWithoutQueryingRepository() {
+            // Given
+            String cuit = "20123456789";
+
+            // When
+            AdhesionEmpresaResponse response = adhesionEmpresaUseCase.procesarAdhesion(cuit);
+
+            // Then
+            assertFalse(response.isSuccess());
+            assertEquals(HttpStatus.BAD_REQUEST, response.getHttpStatus());
+            assertEquals("El dígito verificador del CUIT no es válido", response.getMessage());
+            verifyNoInteractions(empresaRepositoryPort, eventPublisher);
         }
     }
 
@@ -138,17 +163,14 @@ class AdhesionEmpresaUseCaseTest {
         @DisplayName("Debe manejar correctamente el flujo de adhesión completo")
         void shouldHandleCompleteAdhesionFlowCorrectly() {
             // Given
-            String cuit = "20123456789";
-            Empresa empresa = Empresa.builder()
-                    .id(1L)
-                    .cuit(cuit)
-                    .razonSocial("Empresa Test S.A.")
-                    .build();
-
-            when(empresaRepositoryPort.findByCuit(cuit)).thenReturn(Optional.of(empresa));
-            when(empresaRepositoryPort.save(any(Empresa.class))).thenAnswer(invocation -> {
-                return invocation.getArgument(0);
-            });
+            String cuit = "20123456786";
+            when(empresaRepositoryPort.adherirSiNoAdherida(eq(cuit), any(LocalDate.class)))
+                    .thenAnswer(invocation -> Optional.of(Empresa.builder()
+                            .id(1L)
+                            .cuit(cuit)
+                            .razonSocial("Empresa Test S.A.")
+                            .fechaAdhesion(invocation.getArgument(1))
+                            .build()));
 
             // When
             AdhesionEmpresaResponse response = adhesionEmpresaUseCase.procesarAdhesion(cuit);
@@ -159,8 +181,8 @@ class AdhesionEmpresaUseCaseTest {
             assertTrue(response.getEmpresa().fechaAdhesion().isEqual(LocalDate.now()) ||
                     response.getEmpresa().fechaAdhesion().isBefore(LocalDate.now().plusDays(1)));
 
-            verify(empresaRepositoryPort).findByCuit(cuit);
-            verify(empresaRepositoryPort).save(any(Empresa.class));
+            verify(empresaRepositoryPort).adherirSiNoAdherida(eq(cuit), any(LocalDate.class));
+            verify(empresaRepositoryPort, never()).findByCuit(any());
         }
     }
 }
@@ -0,0 +1,161 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.application.usecase.dto.request.FilaTransferencia;
+import com.interbanking.empresa.api.application.usecase.dto.response.ResumenIngestaTransferencias;
+import com.interbanking.empresa.api.application.usecase.dto.response.ResumenIngestaTransferencias.ErrorFila;
+import com.interbanking.empresa.api.domain.event.TransferenciasRegistradasEvent;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestaTransferenciasUseCase Tests")
+class IngestaTransferenciasUseCaseTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2025, 9, 15);
+
+    @Mock
+    private TransferenciaRepositoryPort transferenciaRepositoryPort;
+
+    @Mock
+    private EmpresaRepositoryPort empresaRepositoryPort;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private IngestaTransferenciasUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new IngestaTransferenciasUseCase(
+                transferenciaRepositoryPort, empresaRepositoryPort, eventPublisher, 2, 1, 1, 10, 0);
+    }
+
+    private static FilaTransferencia fila(long numero, String cuit, String debito, String credito) {
+        return FilaTransferencia.valida(numero, cuit, new BigDecimal("100.50"), debito, credito, FECHA);
+    }
+
+    @Test
+    @DisplayName("Debe insertar las filas válidas en lotes y reportar las rechazadas con su número de fila")
+    void shouldInsertValidRowsAndReportRejectedOnes() {
+        // Given
+        Empresa empresa = Empresa.builder()
+                .id(1L)
+                .cuit("20123456786")
+                .razonSocial("Empresa Uno S.A.")
+                .build();
+        List<FilaTransferencia> filas = List.of(
+                fila(2, "20123456786", "1111", "2222"),
+                FilaTransferencia.invalida(3, "Importe inválido: abc"),
+                fila(4, "20987654326", "1111", "2222"),
+                fila(5, "20123456786", "3333", "3333"),
+                fila(6, "20123456786", "4444", "5555"));
+
+        when(empresaRepositoryPort.findByCuitIn(anyCollection())).thenReturn(List.of(empresa));
+        List<Transferencia> guardadas = new ArrayList<>();
+        doAnswer(invocation -> guardadas.addAll(invocation.getArgument(0)))
+                .when(transferenciaRepositoryPort).saveAll(anyList());
+
+        // When
+        ResumenIngestaTransferencias resumen = useCase.ingerir(filas.iterator());
+
+        // Then
+        assertTrue(resumen.isCompleta());
+        assertEquals(5, resumen.leidas());
+        assertEquals(2, resumen.insertadas());
+        assertEquals(3, resumen.rechazadas());
+        assertEquals(List.of(
+                new ErrorFila(3, "FORMATO_INVALIDO", "Importe inválido: abc"),
+                new ErrorFila(4, "EMPRESA_INEXISTENTE", "La empresa con CUIT 20987654326 no existe"),
+                new ErrorFila(5, "CUENTAS_IGUALES", "Las cuentas débito y crédito deben ser diferentes")), resumen.errores());
+
+        assertEquals(2, guardadas.size());
+        assertSame(empresa, guardadas.get(0).getEmpresa());
+        verify(transferenciaRepositoryPort, times(2)).saveAll(anyList());
+        verify(empresaRepositoryPort, times(2)).findByCuitIn(anyCollection());
+        verify(eventPublisher).publishEvent(new TransferenciasRegistradasEvent(Set.of(YearMonth.from(FECHA))));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar las filas de meses anteriores a la retención sin interrumpir la ingesta")
+    void shouldRejectRowsOlderThanRetention() {
+        // Given
+        useCase = new IngestaTransferenciasUseCase(
+                transferenciaRepositoryPort, empresaRepositoryPort, eventPublisher, 2, 1, 1, 10, 12);
+        Empresa empresa = Empresa.builder()
+                .id(1L)
+                .cuit("20123456786")
+                .razonSocial("Empresa Uno S.A.")
+                .build();
+        LocalDate vencida = LocalDate.now().minusMonths(13).withDayOfMonth(1);
+        LocalDate vigente = LocalDate.now().minusMonths(12).withDayOfMonth(1);
+        List<FilaTransferencia> filas = List.of(
+                FilaTransferencia.valida(2, "20123456786", new BigDecimal("100.50"), "1111", "2222", vencida),
+                FilaTransferencia.valida(3, "20123456786", new BigDecimal("100.50"), "1111", "2222", vigente));
+
+        when(empresaRepositoryPort.findByCuitIn(anyCollection())).thenReturn(List.of(empresa));
+        List<Transferencia> guardadas = new ArrayList<>();
+        doAnswer(invocation -> guardadas.addAll(invocation.getArgument(0)))
+                .when(transferenciaRepositoryPort).saveAll(anyList());
+
+        // When
+        ResumenIngestaTransferencias resumen = useCase.ingerir(filas.iterator());
+
+        // Then
+        assertTrue(resumen.isCompleta());
+        assertEquals(1, resumen.insertadas());
+        assertEquals(1, resumen.rechazadas());
+        assertEquals(2, resumen.errores().get(0).fila());
+        assertEquals("FECHA_FUERA_DE_RETENCION", resumen.errores().get(0).codigo());
+        assertEquals(vigente, guardadas.get(0).getFechaTransferencia());
+    }
+
+    @Test
+    @DisplayName("Debe interrumpir la ingesta e informar el error cuando falla la persistencia de un lote")
+    void shouldStopAndReportErrorWhenBatchFails() {
+        // Given
+        Empresa empresa = Empresa.builder()
+                .id(1L)
+                .cuit("20123456786")
+                .razonSocial("Empresa Uno S.A.")
+                .build();
+        List<FilaTransferencia> filas = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            filas.add(fila(i, "20123456786", "1111", "2222"));
+        }
+
+        when(empresaRepositoryPort.findByCuitIn(anyCollection())).thenReturn(List.of(empresa));
+        doThrow(new IllegalStateException("Base de datos no disponible"))
+                .when(transferenciaRepositoryPort).saveAll(anyList());
+
+        // When
+        ResumenIngestaTransferencias resumen = useCase.ingerir(filas.iterator());
+
+        // Then
+        assertFalse(resumen.isCompleta());
+        assertEquals("La ingesta se interrumpió: Base de datos no disponible", resumen.error());
+        assertEquals(0, resumen.insertadas());
+        assertTrue(resumen.leidas() < 20);
+        verifyNoInteractions(eventPublisher);
+    }
+}
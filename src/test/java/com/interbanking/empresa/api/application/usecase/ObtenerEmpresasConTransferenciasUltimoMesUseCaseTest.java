@@ -0,0 +1,148 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.domain.port.ActividadMensualRepositoryPort;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.ProyeccionEmpresa;
+import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ObtenerEmpresasConTransferenciasUltimoMesUseCase Tests")
+class ObtenerEmpresasConTransferenciasUltimoMesUseCaseTest {
+
+    @Mock
+    private ActividadMensualRepositoryPort actividadMensualRepositoryPort;
+
+    @Mock
+    private TransferenciaRepositoryPort transferenciaRepositoryPort;
+
+    @Mock
+    private EmpresaRepositoryPort empresaRepositoryPort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ObtenerEmpresasConTransferenciasUltimoMesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ObtenerEmpresasConTransferenciasUltimoMesUseCase(
+                actividadMensualRepositoryPort, transferenciaRepositoryPort, empresaRepositoryPort, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Debe consultar el rollup del mes pasado")
+    void shouldReadRollupOfPreviousMonth() {
+        // Given
+        YearMonth mesPasado = YearMonth.now().minusMonths(1);
+        ProyeccionEmpresa<String> proyeccion = (id, cuit, razonSocial, fechaAdhesion) -> cuit;
+        when(actividadMensualRepositoryPort.findEmpresasConActividadEn(mesPasado, proyeccion)).thenReturn(List.of("20123456786"));
+
+        // When
+        List<String> empresas = useCase.ejecutar(proyeccion);
+
+        // Then
+        assertEquals(List.of("20123456786"), empresas);
+        verify(actividadMensualRepositoryPort).findEmpresasConActividadEn(mesPasado, proyeccion);
+
+        DistributionSummary tamanio = meterRegistry.get(MetricasReportes.EMPRESAS_POR_REPORTE)
+                .tag("reporte", "transferencias")
+                .summary();
+        assertEquals(1, tamanio.count());
+        assertEquals(1.0, tamanio.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Debe paginar desde el inicio cuando no hay cursor")
+    void shouldPageFromStartWhenCursorIsNull() {
+        // Given
+        YearMonth mesPasado = YearMonth.now().minusMonths(1);
+        ProyeccionEmpresa<String> proyeccion = (id, cuit, razonSocial, fechaAdhesion) -> cuit;
+        when(actividadMensualRepositoryPort.findEmpresasConActividadEn(mesPasado, 0L, 100, proyeccion)).thenReturn(List.of());
+
+        // When
+        List<String> empresas = useCase.ejecutar(null, 100, proyeccion);
+
+        // Then
+        assertTrue(empresas.isEmpty());
+        verify(actividadMensualRepositoryPort).findEmpresasConActividadEn(mesPasado, 0L, 100, proyeccion);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer el rollup del rango y registrar la cantidad de empresas")
+    void shouldTraverseRollupAndRecordSize() {
+        // Given
+        RangoMes rango = RangoMes.mesPasado();
+        ProyeccionEmpresa<String> proyeccion = (id, cuit, razonSocial, fechaAdhesion) -> cuit;
+        Consumer<String> consumidor = cuit -> {};
+        when(actividadMensualRepositoryPort.recorrerEmpresasConActividadEn(rango.periodo(), proyeccion, consumidor))
+                .thenReturn(3L);
+
+        // When
+        useCase.recorrer(rango, proyeccion, consumidor);
+
+        // Then
+        verify(actividadMensualRepositoryPort).recorrerEmpresasConActividadEn(rango.periodo(), proyeccion, consumidor);
+        DistributionSummary tamanio = meterRegistry.get(MetricasReportes.EMPRESAS_POR_REPORTE)
+                .tag("reporte", "transferencias")
+                .summary();
+        assertEquals(1, tamanio.count());
+        assertEquals(3.0, tamanio.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Debe consultar las transferencias cuando el rango no cubre el mes completo")
+    void shouldQueryTransferenciasForPartialMonth() {
+        // Given
+        RangoMes rango = new RangoMes(LocalDate.of(2025, 8, 10), LocalDate.of(2025, 8, 20));
+        ProyeccionEmpresa<String> proyeccion = (id, cuit, razonSocial, fechaAdhesion) -> cuit;
+        when(transferenciaRepositoryPort.findEmpresasConTransferenciasEntre(rango.inicio(), rango.fin(), proyeccion))
+                .thenReturn(List.of("20123456786"));
+
+        // When
+        List<String> empresas = useCase.ejecutar(rango, proyeccion);
+
+        // Then
+        assertEquals(List.of("20123456786"), empresas);
+        verifyNoInteractions(actividadMensualRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Debe leer el sello de versión antes que el reporte, combinando transferencias y adhesiones")
+    void shouldReadVersionBeforeReport() {
+        // Given
+        RangoMes rango = RangoMes.de(YearMonth.of(2025, 8));
+        ProyeccionEmpresa<String> proyeccion = (id, cuit, razonSocial, fechaAdhesion) -> cuit;
+        when(transferenciaRepositoryPort.versionTransferenciasEntre(rango.inicio(), rango.fin())).thenReturn("3.17");
+        when(empresaRepositoryPort.versionAdhesiones()).thenReturn("2025-09-02.4");
+        when(actividadMensualRepositoryPort.findEmpresasConActividadEn(rango.periodo(), proyeccion))
+                .thenReturn(List.of("20123456786"));
+
+        // When
+        ReporteVersionado<String> reporte = useCase.ejecutarVersionado(rango, proyeccion);
+
+        // Then
+        assertEquals("3.17-2025-09-02.4", reporte.version());
+        assertEquals(List.of("20123456786"), reporte.empresas());
+        InOrder orden = inOrder(transferenciaRepositoryPort, actividadMensualRepositoryPort);
+        orden.verify(transferenciaRepositoryPort).versionTransferenciasEntre(rango.inicio(), rango.fin());
+        orden.verify(actividadMensualRepositoryPort).findEmpresasConActividadEn(rango.periodo(), proyeccion);
+    }
+}
@@ -0,0 +1,87 @@
+package com.interbanking.empresa.api.application.usecase;
+
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.domain.port.TransferenciaRepositoryPort;
+import com.interbanking.empresa.api.domain.vo.ResumenTransferencias;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ObtenerResumenTransferenciasUseCase Tests")
+class ObtenerResumenTransferenciasUseCaseTest {
+
+    private static final LocalDate DESDE = LocalDate.of(2025, 8, 1);
+    private static final LocalDate HASTA = LocalDate.of(2025, 8, 31);
+
+    @Mock
+    private TransferenciaRepositoryPort transferenciaRepositoryPort;
+
+    @Mock
+    private EmpresaRepositoryPort empresaRepositoryPort;
+
+    private ObtenerResumenTransferenciasUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ObtenerResumenTransferenciasUseCase(transferenciaRepositoryPort, empresaRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Debe devolver el resumen sin consultar la empresa cuando tuvo transferencias")
+    void shouldReturnSummaryWithoutLookingUpCompany() {
+        // Given
+        ResumenTransferencias resumen = new ResumenTransferencias("20123456786", 2,
+                new BigDecimal("17500.50"), new BigDecimal("15000.50"), 1, 2);
+        when(transferenciaRepositoryPort.resumirPorEmpresa(DESDE, HASTA, List.of("20123456786")))
+                .thenReturn(List.of(resumen));
+
+        // When
+        Optional<ResumenTransferencias> resultado = useCase.ejecutar("20123456786", DESDE, HASTA);
+
+        // Then
+        assertEquals(Optional.of(resumen), resultado);
+        verifyNoInteractions(empresaRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Debe devolver un resumen en cero si la empresa existe pero no tuvo transferencias")
+    void shouldReturnEmptySummaryForCompanyWithoutTransfers() {
+        // Given
+        when(transferenciaRepositoryPort.resumirPorEmpresa(DESDE, HASTA, List.of("20987654326"))).thenReturn(List.of());
+        when(empresaRepositoryPort.findByCuit("20987654326"))
+                .thenReturn(Optional.of(new Empresa(2L, "20987654326", "Empresa Dos SRL", null)));
+
+        // When
+        Optional<ResumenTransferencias> resultado = useCase.ejecutar("20987654326", DESDE, HASTA);
+
+        // Then
+        assertEquals(Optional.of(ResumenTransferencias.sinTransferencias("20987654326")), resultado);
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío si la empresa no existe")
+    void shouldReturnEmptyWhenCompanyDoesNotExist() {
+        // Given
+        when(transferenciaRepositoryPort.resumirPorEmpresa(DESDE, HASTA, List.of("20345678906"))).thenReturn(List.of());
+        when(empresaRepositoryPort.findByCuit("20345678906")).thenReturn(Optional.empty());
+
+        // When
+        Optional<ResumenTransferencias> resultado = useCase.ejecutar("20345678906", DESDE, HASTA);
+
+        // Then
+        assertTrue(resultado.isEmpty());
+    }
+}
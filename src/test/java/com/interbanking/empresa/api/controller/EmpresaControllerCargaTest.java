@@ -0,0 +1,167 @@
+package com.interbanking.empresa.api.controller;
+
+import com.interbanking.empresa.api.MainApplication;
+import com.interbanking.empresa.api.domain.model.Cuit;
+import com.interbanking.empresa.api.infraestructure.diagnostico.DiagnosticoPinning;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Prueba de carga que compara la latencia p99 del pool de hilos de Tomcat contra el perfil
+ * {@code virtual} con {@code carga.clientes} clientes concurrentes. La mitad de las peticiones son
+ * adhesiones ({@code PATCH}, transaccionales) y la otra mitad el reporte paginado de transferencias.
+ * <p>
+ * Se ejecuta sólo a pedido:
+ * {@code mvn test -Dtest=EmpresaControllerCargaTest -Dcarga=true [-Dcarga.clientes=5000] [-Dcarga.rondas=5]}
+ */
+@EnabledIfSystemProperty(named = "carga", matches = "true")
+@DisplayName("Prueba de carga: hilos de plataforma vs virtual threads")
+class EmpresaControllerCargaTest {
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 5_000);
+    private static final int RONDAS = Integer.getInteger("carga.rondas", 5);
+    private static final long CUIT_BASE = 30_000_000_000L;
+
+    private record Resultado(String modo, long[] latenciasNanos, int errores) {
+
+        long percentilMs(double percentil) {
+            int indice = (int) Math.ceil(percentil * latenciasNanos.length) - 1;
+            return latenciasNanos[Math.max(indice, 0)] / 1_000_000;
+        }
+    }
+
+    @Test
+    @DisplayName("Debe medir p50/p99 con hilos de plataforma y con virtual threads")
+    void shouldCompareP99LatencyBetweenPlatformAndVirtualThreads() throws Exception {
+        Resultado plataforma = medir("plataforma");
+        Resultado virtual = medir("virtual");
+
+        System.out.printf("%n%,d clientes concurrentes x %d rondas%n", CLIENTES, RONDAS);
+        System.out.printf("%-12s %8s %8s %8s %8s%n", "modo", "p50 ms", "p99 ms", "max ms", "errores");
+        for (Resultado resultado : List.of(plataforma, virtual)) {
+            System.out.printf("%-12s %8d %8d %8d %8d%n", resultado.modo(), resultado.percentilMs(0.50),
+                    resultado.percentilMs(0.99), resultado.percentilMs(1.0), resultado.errores());
+        }
+
+        assertEquals(0, plataforma.errores());
+        assertEquals(0, virtual.errores());
+    }
+
+    private Resultado medir(String modo) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(MainApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:carga-" + modo,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        if ("virtual".equals(modo)) {
+            builder.profiles("virtual");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try (ConfigurableApplicationContext contexto = builder.run()) {
+            int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            String[] cuits = generarCuits((RONDAS + 1) * CLIENTES);
+            cargarEmpresas(contexto.getBean(DataSource.class), cuits);
+
+            HttpClient cliente = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+
+            // Ronda de calentamiento (JIT, pool de conexiones), no se mide
+            ejecutarRonda(cliente, puerto, 0, cuits, new long[CLIENTES], new AtomicInteger());
+
+            long[] latencias = new long[RONDAS * CLIENTES];
+            AtomicInteger errores = new AtomicInteger();
+            for (int ronda = 1; ronda <= RONDAS; ronda++) {
+                long[] latenciasRonda = new long[CLIENTES];
+                ejecutarRonda(cliente, puerto, ronda, cuits, latenciasRonda, errores);
+                System.arraycopy(latenciasRonda, 0, latencias, (ronda - 1) * CLIENTES, CLIENTES);
+            }
+            Arrays.sort(latencias);
+
+            contexto.getBeanProvider(DiagnosticoPinning.class).ifAvailable(diagnostico ->
+                    System.out.printf("Eventos de pinning (%s): %d %s%n",
+                            modo, diagnostico.getEventos(), diagnostico.getEventosPorMetodo()));
+            return new Resultado(modo, latencias, errores.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void ejecutarRonda(HttpClient cliente, int puerto, int ronda, String[] cuits, long[] latencias,
+                               AtomicInteger errores) {
+        String base = "http://localhost:" + puerto + "/api/v1/empresas";
+        List<CompletableFuture<Void>> peticiones = new ArrayList<>(CLIENTES);
+        for (int i = 0; i < CLIENTES; i++) {
+            HttpRequest request = i % 2 == 0
+                    ? HttpRequest.newBuilder(URI.create(base + "/" + cuits[ronda * CLIENTES + i] + "/adhesion"))
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                            .timeout(Duration.ofSeconds(60))
+                            .build()
+                    : HttpRequest.newBuilder(URI.create(base + "/transferencias/ultimo-mes?limit=100"))
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+            int indice = i;
+            long inicio = System.nanoTime();
+            peticiones.add(cliente.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latencias[indice] = System.nanoTime() - inicio;
+                        if (error != null || response.statusCode() != 200) {
+                            errores.incrementAndGet();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(peticiones.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void cargarEmpresas(DataSource dataSource, String[] cuits) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO empresa (cuit, razon_social) VALUES (?, ?)")) {
+            for (int i = 0; i < cuits.length; i++) {
+                statement.setString(1, cuits[i]);
+                statement.setString(2, "Empresa Carga " + i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Los primeros {@code cantidad} CUIT con dígito verificador válido a partir de {@link #CUIT_BASE}
+     */
+    private static String[] generarCuits(int cantidad) {
+        return LongStream.iterate(CUIT_BASE, cuit -> cuit + 1)
+                .mapToObj(Long::toString)
+                .filter(Cuit::esValido)
+                .limit(cantidad)
+                .toArray(String[]::new);
+    }
+}
@@ -1,25 +1,59 @@
 package com.interbanking.empresa.api.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.interbanking.empresa.api.application.usecase.AdhesionEmpresaBatchUseCase;
 import com.interbanking.empresa.api.application.usecase.AdhesionEmpresaUseCase;
 import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasAdheridasUltimoMesUseCase;
 import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasConTransferenciasUltimoMesUseCase;
+import com.interbanking.empresa.api.application.usecase.ObtenerResumenTransferenciasUseCase;
 import com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaResponse;
-import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache.TipoReporte;
+import com.interbanking.empresa.api.controller.dto.request.AdhesionBatchRequest;
+import com.interbanking.empresa.api.controller.dto.response.AdhesionBatchItemResponse;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.formato.CodificadorReportes;
+import com.interbanking.empresa.api.controller.formato.FormatoReporte;
+import com.interbanking.empresa.api.controller.dto.response.ResumenTransferenciasResponse;
+import com.interbanking.empresa.api.controller.reporte.ReportesPorRango;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import com.interbanking.empresa.api.domain.vo.ResumenTransferencias;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,23 +63,49 @@ class EmpresaControllerTest {
     @Mock
     private AdhesionEmpresaUseCase adhesionEmpresaUseCase;
 
+    @Mock
+    private AdhesionEmpresaBatchUseCase adhesionEmpresaBatchUseCase;
+
     @Mock
     private ObtenerEmpresasAdheridasUltimoMesUseCase obtenerEmpresasAdheridasUltimoMesUseCase;
 
     @Mock
     private ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUltimoMesUseCase;
 
+    @Mock
+    private ReportesPorRango reportesPorRango;
+
+    @Mock
+    private ObtenerResumenTransferenciasUseCase obtenerResumenTransferenciasUseCase;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
     private EmpresaController empresaController;
 
     @BeforeEach
     void setUp() {
         empresaController = new EmpresaController(
                 adhesionEmpresaUseCase,
+                adhesionEmpresaBatchUseCase,
                 obtenerEmpresasAdheridasUltimoMesUseCase,
-                obtenerEmpresasConTransferenciasUltimoMesUseCase
+                obtenerEmpresasConTransferenciasUltimoMesUseCase,
+                objectMapper,
+                new ReporteEmpresasCache(new CodificadorReportes(objectMapper), DataSize.ofKilobytes(2), 32, 1_000_000),
+                reportesPorRango,
+                obtenerResumenTransferenciasUseCase
         );
     }
 
+    private List<EmpresaResponse> leer(ResponseEntity<byte[]> response) throws IOException {
+        return objectMapper.readValue(response.getBody(), new TypeReference<List<EmpresaResponse>>() {});
+    }
+
+    private static HttpHeaders headers(String nombre, String valor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(nombre, valor);
+        return headers;
+    }
+
     @Nested
     @DisplayName("Adhesion Endpoint Tests")
     class AdhesionEndpointTests {
@@ -54,7 +114,7 @@ class EmpresaControllerTest {
         @DisplayName("Debe devolver una respuesta de éxito cuando la adhesión sea exitosa")
         void shouldReturnSuccessResponseWhenAdhesionIsSuccessful() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             AdhesionEmpresaResponse successResponse = AdhesionEmpresaResponse.success(
                     new com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaDto(
                             1L, cuit, "Empresa Test S.A.", LocalDate.now()
@@ -77,7 +137,7 @@ class EmpresaControllerTest {
         @DisplayName("Debe retornar una respuesta de no funciona cuando la empresa no exista")
         void shouldReturnNotFoundResponseWhenEmpresaDoesNotExist() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             AdhesionEmpresaResponse notFoundResponse = AdhesionEmpresaResponse.notFound(
                     "La empresa con CUIT " + cuit + " no existe"
             );
@@ -98,7 +158,7 @@ class EmpresaControllerTest {
         @DisplayName("Debe retornar una respuesta de conflicto cuando la empresa ya este adherida")
         void shouldReturnConflictResponseWhenEmpresaIsAlreadyAdhered() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             LocalDate fechaAdhesion = LocalDate.now().minusDays(30);
             AdhesionEmpresaResponse conflictResponse = AdhesionEmpresaResponse.alreadyAdhered(
                     "La empresa ya está adherida desde " + fechaAdhesion
@@ -123,58 +183,52 @@ class EmpresaControllerTest {
 
         @Test
         @DisplayName("Debe retornar una lista de empresas empresas adheridas ultimo mes")
-        void shouldReturnListOfEmpresasAdheridasUltimoMes() {
-            // Given
-            List<Empresa> empresas = Arrays.asList(
-                    Empresa.builder()
-                            .id(1L)
-                            .cuit("20123456789")
-                            .razonSocial("Empresa 1 S.A.")
-                            .fechaAdhesion(LocalDate.now().minusDays(15))
-                            .build(),
-                    Empresa.builder()
-                            .id(2L)
-                            .cuit("20987654321")
-                            .razonSocial("Empresa 2 S.A.")
-                            .fechaAdhesion(LocalDate.now().minusDays(10))
-                            .build()
+        void shouldReturnListOfEmpresasAdheridasUltimoMes() throws IOException {
+            // Given
+            List<EmpresaResponse> empresas = Arrays.asList(
+                    new EmpresaResponse(1L, "20123456786", "Empresa 1 S.A.", LocalDate.now().minusDays(15)),
+                    new EmpresaResponse(2L, "20987654326", "Empresa 2 S.A.", LocalDate.now().minusDays(10))
             );
 
-            when(obtenerEmpresasAdheridasUltimoMesUseCase.ejecutar()).thenReturn(empresas);
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("1");
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.<EmpresaResponse>ejecutarVersionado(any(RangoMes.class), any()))
+                    .thenReturn(new ReporteVersionado<>("1", empresas));
 
             // When
-            ResponseEntity<List<com.interbanking.empresa.api.controller.dto.response.EmpresaResponse>> response = 
-                    empresaController.getEmpresasAdheridasUltimoMes();
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(new HttpHeaders());
+            List<EmpresaResponse> empresasResponse = leer(response);
 
             // Then
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertNotNull(response.getBody());
-            assertEquals(2, response.getBody().size());
+            assertEquals(2, empresasResponse.size());
 
-            com.interbanking.empresa.api.controller.dto.response.EmpresaResponse empresa1 = response.getBody().get(0);
+            EmpresaResponse empresa1 = empresasResponse.get(0);
             assertEquals(1L, empresa1.id());
-            assertEquals("20123456789", empresa1.cuit());
+            assertEquals("20123456786", empresa1.cuit());
             assertEquals("Empresa 1 S.A.", empresa1.razonSocial());
 
-            verify(obtenerEmpresasAdheridasUltimoMesUseCase).ejecutar();
+            verify(obtenerEmpresasAdheridasUltimoMesUseCase).ejecutarVersionado(any(RangoMes.class), any());
         }
 
         @Test
         @DisplayName("Debe retornar una lista vacia cuando no haya empresas empresas adheridas")
-        void shouldReturnEmptyListWhenNoEmpresasAreFound() {
+        void shouldReturnEmptyListWhenNoEmpresasAreFound() throws IOException {
             // Given
-            when(obtenerEmpresasAdheridasUltimoMesUseCase.ejecutar()).thenReturn(Arrays.asList());
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("0");
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.<EmpresaResponse>ejecutarVersionado(any(RangoMes.class), any()))
+                    .thenReturn(new ReporteVersionado<>("0", Arrays.asList()));
 
             // When
-            ResponseEntity<List<com.interbanking.empresa.api.controller.dto.response.EmpresaResponse>> response = 
-                    empresaController.getEmpresasAdheridasUltimoMes();
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(new HttpHeaders());
+            List<EmpresaResponse> empresasResponse = leer(response);
 
             // Then
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertNotNull(response.getBody());
-            assertTrue(response.getBody().isEmpty());
+            assertTrue(empresasResponse.isEmpty());
 
-            verify(obtenerEmpresasAdheridasUltimoMesUseCase).ejecutar();
+            verify(obtenerEmpresasAdheridasUltimoMesUseCase).ejecutarVersionado(any(RangoMes.class), any());
         }
     }
 
@@ -184,58 +238,573 @@ class EmpresaControllerTest {
 
         @Test
         @DisplayName("Debe retornar una lista de empresas con transferencias del ultimo mes")
-        void shouldReturnListOfEmpresasConTransferenciasUltimoMes() {
-            // Given
-            List<Empresa> empresas = Arrays.asList(
-                    Empresa.builder()
-                            .id(1L)
-                            .cuit("20123456789")
-                            .razonSocial("Empresa 1 S.A.")
-                            .fechaAdhesion(LocalDate.now().minusDays(30))
-                            .build(),
-                    Empresa.builder()
-                            .id(2L)
-                            .cuit("20987654321")
-                            .razonSocial("Empresa 2 S.A.")
-                            .fechaAdhesion(LocalDate.now().minusDays(25))
-                            .build()
+        void shouldReturnListOfEmpresasConTransferenciasUltimoMes() throws IOException {
+            // Given
+            List<EmpresaResponse> empresas = Arrays.asList(
+                    new EmpresaResponse(1L, "20123456786", "Empresa 1 S.A.", LocalDate.now().minusDays(30)),
+                    new EmpresaResponse(2L, "20987654326", "Empresa 2 S.A.", LocalDate.now().minusDays(25))
             );
 
-            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.ejecutar()).thenReturn(empresas);
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("1");
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.<EmpresaResponse>ejecutarVersionado(any(RangoMes.class), any()))
+                    .thenReturn(new ReporteVersionado<>("1", empresas));
 
             // When
-            ResponseEntity<List<com.interbanking.empresa.api.controller.dto.response.EmpresaResponse>> response = 
-                    empresaController.getEmpresasConTransferenciasUltimoMes();
+            ResponseEntity<byte[]> response = empresaController.getEmpresasConTransferenciasUltimoMes(new HttpHeaders());
+            List<EmpresaResponse> empresasResponse = leer(response);
 
             // Then
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertNotNull(response.getBody());
-            assertEquals(2, response.getBody().size());
+            assertEquals(2, empresasResponse.size());
 
-            com.interbanking.empresa.api.controller.dto.response.EmpresaResponse empresa1 = response.getBody().get(0);
+            EmpresaResponse empresa1 = empresasResponse.get(0);
             assertEquals(1L, empresa1.id());
-            assertEquals("20123456789", empresa1.cuit());
+            assertEquals("20123456786", empresa1.cuit());
             assertEquals("Empresa 1 S.A.", empresa1.razonSocial());
 
-            verify(obtenerEmpresasConTransferenciasUltimoMesUseCase).ejecutar();
+            verify(obtenerEmpresasConTransferenciasUltimoMesUseCase).ejecutarVersionado(any(RangoMes.class), any());
         }
 
         @Test
         @DisplayName("Debe devolver una lista vacía cuando no se encuentran empresas con transferencias")
-        void shouldReturnEmptyListWhenNoEmpresasWithTransferenciasAreFound() {
+        void shouldReturnEmptyListWhenNoEmpresasWithTransferenciasAreFound() throws IOException {
             // Given
-            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.ejecutar()).thenReturn(Arrays.asList());
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("0");
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.<EmpresaResponse>ejecutarVersionado(any(RangoMes.class), any()))
+                    .thenReturn(new ReporteVersionado<>("0", Arrays.asList()));
 
             // When
-            ResponseEntity<List<com.interbanking.empresa.api.controller.dto.response.EmpresaResponse>> response = 
-                    empresaController.getEmpresasConTransferenciasUltimoMes();
+            ResponseEntity<byte[]> response = empresaController.getEmpresasConTransferenciasUltimoMes(new HttpHeaders());
+            List<EmpresaResponse> empresasResponse = leer(response);
 
             // Then
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertNotNull(response.getBody());
-            assertTrue(response.getBody().isEmpty());
+            assertTrue(empresasResponse.isEmpty());
+
+            verify(obtenerEmpresasConTransferenciasUltimoMesUseCase).ejecutarVersionado(any(RangoMes.class), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET condicional de los reportes del último mes")
+    class GetCondicionalUltimoMesTests {
+
+        private final String etag = EmpresaController.etag(
+                TipoReporte.TRANSFERENCIAS, RangoMes.mesPasado(), "5.42-1", FormatoReporte.JSON, false);
+
+        @Test
+        @DisplayName("Debe responder 304 sin ejecutar el reporte cuando el ETag sigue vigente")
+        void shouldReturnNotModifiedWithoutRunningReport() {
+            // Given
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("5.42-1");
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasConTransferenciasUltimoMes(
+                    headers(HttpHeaders.IF_NONE_MATCH, "W/\"otro\", " + etag));
+
+            // Then
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            assertNull(response.getBody());
+            assertEquals(etag, response.getHeaders().getETag());
+            assertTrue(response.getHeaders().getCacheControl().contains("public"));
+            verify(obtenerEmpresasConTransferenciasUltimoMesUseCase, never()).ejecutarVersionado(any(), any());
+        }
+
+        @Test
+        @DisplayName("Debe devolver el reporte con el nuevo ETag cuando cambió la versión")
+        void shouldReturnReportWithNewEtagWhenVersionChanged() throws IOException {
+            // Given
+            List<EmpresaResponse> empresas = List.of(
+                    new EmpresaResponse(1L, "20123456786", "Empresa 1 S.A.", LocalDate.now().minusDays(30)));
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("6.43-1");
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.<EmpresaResponse>ejecutarVersionado(any(RangoMes.class), any()))
+                    .thenReturn(new ReporteVersionado<>("6.43-1", empresas));
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasConTransferenciasUltimoMes(
+                    headers(HttpHeaders.IF_NONE_MATCH, etag));
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(empresas, leer(response));
+            assertEquals(EmpresaController.etag(TipoReporte.TRANSFERENCIAS, RangoMes.mesPasado(), "6.43-1",
+                    FormatoReporte.JSON, false), response.getHeaders().getETag());
+            assertTrue(response.getHeaders().getCacheControl().contains("max-age="));
+            assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+        }
+
+        @Test
+        @DisplayName("Debe recargar el reporte cacheado cuando la versión en la base es otra")
+        void shouldReloadCachedReportWhenVersionDiffers() {
+            // Given
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("1", "1", "2");
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.<EmpresaResponse>ejecutarVersionado(any(RangoMes.class), any()))
+                    .thenReturn(new ReporteVersionado<>("1", List.of()))
+                    .thenReturn(new ReporteVersionado<>("2", List.of()));
+
+            // When
+            empresaController.getEmpresasAdheridasUltimoMes(new HttpHeaders());
+            empresaController.getEmpresasAdheridasUltimoMes(new HttpHeaders());
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(new HttpHeaders());
+
+            // Then
+            assertEquals(EmpresaController.etag(TipoReporte.ADHESIONES, RangoMes.mesPasado(), "2",
+                    FormatoReporte.JSON, false), response.getHeaders().getETag());
+            verify(obtenerEmpresasAdheridasUltimoMesUseCase, times(2)).ejecutarVersionado(any(RangoMes.class), any());
+        }
+
+        @Test
+        @DisplayName("Debe comparar If-None-Match con comparación débil, listas y comodín")
+        void shouldMatchIfNoneMatchHeader() {
+            assertTrue(EmpresaController.coincide(etag, etag));
+            assertTrue(EmpresaController.coincide("W/" + etag, etag));
+            assertTrue(EmpresaController.coincide("\"a\",  " + etag, etag));
+            assertTrue(EmpresaController.coincide("*", etag));
+            assertFalse(EmpresaController.coincide(null, etag));
+            assertFalse(EmpresaController.coincide("\"transferencias\"", etag));
+        }
+    }
+
+    @Nested
+    @DisplayName("Formato y compresión de los reportes del último mes")
+    class FormatoUltimoMesTests {
+
+        private void reporteDe(int cantidad) {
+            List<EmpresaResponse> empresas = LongStream.rangeClosed(1, cantidad)
+                    .mapToObj(id -> new EmpresaResponse(id, "2012345678" + id, "Empresa " + id + " S.A.", null))
+                    .toList();
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("7");
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.<EmpresaResponse>ejecutarVersionado(any(RangoMes.class), any()))
+                    .thenReturn(new ReporteVersionado<>("7", empresas));
+        }
+
+        @Test
+        @DisplayName("Debe entregar el reporte en el formato binario pedido con su propio ETag")
+        void shouldReturnNegotiatedBinaryFormat() {
+            // Given
+            reporteDe(3);
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(
+                    headers(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-protobuf"));
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(FormatoReporte.PROTOBUF.getMediaType(), response.getHeaders().getContentType());
+            assertEquals(EmpresaController.etag(TipoReporte.ADHESIONES, RangoMes.mesPasado(), "7",
+                    FormatoReporte.PROTOBUF, false), response.getHeaders().getETag());
+            assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        }
+
+        @Test
+        @DisplayName("Debe entregar gzip precomprimido cuando el reporte supera el umbral y el cliente lo acepta")
+        void shouldReturnGzipWhenAcceptedAndAboveThreshold() throws IOException {
+            // Given
+            reporteDe(200);
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(
+                    headers(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"));
+
+            // Then
+            assertEquals(EmpresaController.CODIFICACION_GZIP, response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(EmpresaController.etag(TipoReporte.ADHESIONES, RangoMes.mesPasado(), "7",
+                    FormatoReporte.JSON, true), response.getHeaders().getETag());
+            byte[] json = new GZIPInputStream(new ByteArrayInputStream(response.getBody())).readAllBytes();
+            assertEquals(200, objectMapper.readValue(json, new TypeReference<List<EmpresaResponse>>() {}).size());
+        }
+
+        @Test
+        @DisplayName("No debe comprimir un reporte por debajo del umbral")
+        void shouldNotCompressSmallReport() {
+            // Given
+            reporteDe(1);
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(
+                    headers(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+            // Then
+            assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        }
+
+        @Test
+        @DisplayName("Debe responder 304 con el ETag de la variante comprimida")
+        void shouldReturnNotModifiedForGzipVariant() {
+            // Given
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("7");
+            String etagGzip = EmpresaController.etag(TipoReporte.ADHESIONES, RangoMes.mesPasado(), "7",
+                    FormatoReporte.JSON, true);
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(
+                    headers(HttpHeaders.IF_NONE_MATCH, etagGzip));
+
+            // Then
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            assertEquals(etagGzip, response.getHeaders().getETag());
+        }
+
+        @Test
+        @DisplayName("Debe responder 406 cuando no se acepta ningún formato disponible")
+        void shouldReturnNotAcceptableForUnsupportedFormat() {
+            // Given
+            when(obtenerEmpresasAdheridasUltimoMesUseCase.version(any(RangoMes.class))).thenReturn("7");
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasUltimoMes(
+                    headers(HttpHeaders.ACCEPT, "text/csv"));
+
+            // Then
+            assertEquals(HttpStatus.NOT_ACCEPTABLE, response.getStatusCode());
+            verify(obtenerEmpresasAdheridasUltimoMesUseCase, never()).ejecutarVersionado(any(), any());
+        }
+
+        @Test
+        @DisplayName("Debe interpretar Accept-Encoding con calidades y comodín")
+        void shouldParseAcceptEncoding() {
+            assertTrue(EmpresaController.aceptaGzip(List.of("deflate, gzip")));
+            assertTrue(EmpresaController.aceptaGzip(List.of("*")));
+            assertFalse(EmpresaController.aceptaGzip(List.of("gzip;q=0")));
+            assertFalse(EmpresaController.aceptaGzip(List.of("gzip;q=0.000")));
+            assertTrue(EmpresaController.aceptaGzip(List.of("gzip;q=0.5")));
+            assertTrue(EmpresaController.aceptaGzip(List.of("gzip; level=1; q=0.001")));
+            assertTrue(EmpresaController.aceptaGzip(List.of("identity;q=1, *")));
+            assertFalse(EmpresaController.aceptaGzip(List.of("*;q=0")));
+            assertFalse(EmpresaController.aceptaGzip(List.of("gzip;q=abc")));
+            assertFalse(EmpresaController.aceptaGzip(List.of("identity")));
+            assertFalse(EmpresaController.aceptaGzip(List.of()));
+        }
+
+        @Test
+        @DisplayName("Debe preferir la entrada gzip explícita sobre el comodín en cualquier orden")
+        void shouldPreferExplicitGzipOverWildcard() {
+            assertFalse(EmpresaController.aceptaGzip(List.of("*, gzip;q=0")));
+            assertFalse(EmpresaController.aceptaGzip(List.of("gzip;q=0, *")));
+            assertFalse(EmpresaController.aceptaGzip(List.of("*", "gzip;q=0")));
+            assertTrue(EmpresaController.aceptaGzip(List.of("*;q=0, gzip;q=0.1")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Obtener Empresas Con Transferencias del Ultimo Mes Paginado")
+    class GetEmpresasConTransferenciasUltimoMesPaginadoTests {
+
+        @Test
+        @DisplayName("Debe informar el cursor siguiente cuando la página está completa")
+        void shouldReturnNextCursorWhenPageIsFull() {
+            // Given
+            List<EmpresaResponse> empresas = Arrays.asList(
+                    new EmpresaResponse(5L, "20123456786", "Empresa 1 S.A.", null),
+                    new EmpresaResponse(8L, "20987654326", "Empresa 2 S.A.", null)
+            );
+
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.<EmpresaResponse>ejecutar(eq(3L), eq(2), any()))
+                    .thenReturn(empresas);
+
+            // When
+            ResponseEntity<List<com.interbanking.empresa.api.controller.dto.response.EmpresaResponse>> response =
+                    empresaController.getEmpresasConTransferenciasUltimoMesPaginado(3L, 2);
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(2, response.getBody().size());
+            assertEquals("8", response.getHeaders().getFirst(EmpresaController.HEADER_NEXT_CURSOR));
+
+            verify(obtenerEmpresasConTransferenciasUltimoMesUseCase).ejecutar(eq(3L), eq(2), any());
+        }
+
+        @Test
+        @DisplayName("No debe informar cursor siguiente en la última página")
+        void shouldNotReturnNextCursorOnLastPage() {
+            // Given
+            List<EmpresaResponse> empresas = List.of(
+                    new EmpresaResponse(5L, "20123456786", "Empresa 1 S.A.", null)
+            );
+
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.<EmpresaResponse>ejecutar(isNull(), eq(10), any()))
+                    .thenReturn(empresas);
+
+            // When
+            ResponseEntity<List<com.interbanking.empresa.api.controller.dto.response.EmpresaResponse>> response =
+                    empresaController.getEmpresasConTransferenciasUltimoMesPaginado(null, 10);
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(1, response.getBody().size());
+            assertNull(response.getHeaders().getFirst(EmpresaController.HEADER_NEXT_CURSOR));
+        }
 
-            verify(obtenerEmpresasConTransferenciasUltimoMesUseCase).ejecutar();
+        @Test
+        @DisplayName("Debe limitar el tamaño de página al máximo permitido")
+        void shouldCapLimitToMaximumPageSize() {
+            // Given
+            when(obtenerEmpresasConTransferenciasUltimoMesUseCase.<EmpresaResponse>ejecutar(
+                    isNull(), eq(EmpresaController.LIMITE_MAXIMO_PAGINA), any()))
+                    .thenReturn(List.of());
+
+            // When
+            empresaController.getEmpresasConTransferenciasUltimoMesPaginado(null, 50_000);
+
+            // Then
+            verify(obtenerEmpresasConTransferenciasUltimoMesUseCase)
+                    .ejecutar(isNull(), eq(EmpresaController.LIMITE_MAXIMO_PAGINA), any());
+        }
+
+        @Test
+        @DisplayName("Debe rechazar un límite no positivo")
+        void shouldRejectNonPositiveLimit() {
+            // When
+            ResponseEntity<List<com.interbanking.empresa.api.controller.dto.response.EmpresaResponse>> response =
+                    empresaController.getEmpresasConTransferenciasUltimoMesPaginado(null, 0);
+
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verifyNoInteractions(obtenerEmpresasConTransferenciasUltimoMesUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("Obtener Empresas en modo streaming")
+    class StreamingTests {
+
+        private final List<EmpresaResponse> empresas = List.of(
+                new EmpresaResponse(1L, "20123456786", "Empresa 1 S.A.", LocalDate.now().minusDays(15)),
+                new EmpresaResponse(2L, "20987654326", "Empresa 2 S.A.", null)
+        );
+
+        private Answer<Void> entregarEmpresas() {
+            return invocacion -> {
+                Consumer<EmpresaResponse> consumidor = invocacion.getArgument(2);
+                empresas.forEach(consumidor);
+                return null;
+            };
+        }
+
+        private String escribir(ResponseEntity<StreamingResponseBody> response) throws IOException {
+            ByteArrayOutputStream salida = new ByteArrayOutputStream();
+            response.getBody().writeTo(salida);
+            return salida.toString(StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("Debe escribir un array JSON con las empresas recorridas")
+        void shouldWriteJsonArrayFromCursor() throws IOException {
+            // Given
+            doAnswer(entregarEmpresas()).when(obtenerEmpresasConTransferenciasUltimoMesUseCase)
+                    .recorrer(any(RangoMes.class), any(), any());
+
+            // When
+            ResponseEntity<StreamingResponseBody> response =
+                    empresaController.streamJsonEmpresasConTransferenciasUltimoMes();
+            String json = escribir(response);
+
+            // Then
+            assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+            assertEquals(empresas, objectMapper.readValue(json, new TypeReference<List<EmpresaResponse>>() {}));
+        }
+
+        @Test
+        @DisplayName("Debe escribir un array JSON vacío cuando no hay empresas")
+        void shouldWriteEmptyJsonArray() throws IOException {
+            // When
+            String json = escribir(empresaController.streamJsonEmpresasAdheridasUltimoMes());
+
+            // Then
+            assertEquals("[]", json);
+            verify(obtenerEmpresasAdheridasUltimoMesUseCase).recorrer(any(RangoMes.class), any(), any());
+        }
+
+        @Test
+        @DisplayName("Debe escribir una empresa por línea en NDJSON")
+        void shouldWriteOneEmpresaPerLineAsNdjson() throws IOException {
+            // Given
+            doAnswer(entregarEmpresas()).when(obtenerEmpresasConTransferenciasUltimoMesUseCase)
+                    .recorrer(any(RangoMes.class), any(), any());
+
+            // When
+            ResponseEntity<StreamingResponseBody> response =
+                    empresaController.streamEmpresasConTransferenciasUltimoMes();
+            String[] lineas = escribir(response).split("\n");
+
+            // Then
+            assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+            assertEquals(2, lineas.length);
+            assertEquals(empresas.get(0), objectMapper.readValue(lineas[0], EmpresaResponse.class));
+            assertEquals(empresas.get(1), objectMapper.readValue(lineas[1], EmpresaResponse.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Resumen de transferencias por empresa")
+    class ResumenTransferenciasTests {
+
+        private final LocalDate desde = LocalDate.of(2025, 8, 1);
+        private final LocalDate hasta = LocalDate.of(2025, 9, 15);
+
+        @Test
+        @DisplayName("Debe devolver los totales de la empresa en el rango")
+        void shouldReturnSummaryForCompany() {
+            // Given
+            ResumenTransferencias resumen = new ResumenTransferencias("20123456786", 3,
+                    new BigDecimal("107500.50"), new BigDecimal("90000.00"), 2, 2);
+            when(obtenerResumenTransferenciasUseCase.ejecutar("20123456786", desde, hasta))
+                    .thenReturn(Optional.of(resumen));
+
+            // When
+            ResponseEntity<ResumenTransferenciasResponse> response =
+                    empresaController.getResumenTransferencias("20123456786", desde, hasta);
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(new ResumenTransferenciasResponse("20123456786", desde, hasta, 3,
+                    new BigDecimal("107500.50"), new BigDecimal("90000.00"), 2, 2), response.getBody());
+        }
+
+        @Test
+        @DisplayName("Debe devolver 404 si la empresa no existe")
+        void shouldReturnNotFoundWhenCompanyDoesNotExist() {
+            // Given
+            when(obtenerResumenTransferenciasUseCase.ejecutar("20987654326", desde, hasta))
+                    .thenReturn(Optional.empty());
+
+            // When
+            ResponseEntity<ResumenTransferenciasResponse> response =
+                    empresaController.getResumenTransferencias("20987654326", desde, hasta);
+
+            // Then
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Debe devolver el resumen de todas las empresas si no se indican CUITs")
+        void shouldReturnSummaryForAllCompanies() {
+            // Given
+            when(obtenerResumenTransferenciasUseCase.ejecutarVarias(null, desde, hasta)).thenReturn(List.of(
+                    ResumenTransferencias.sinTransferencias("20123456786"),
+                    ResumenTransferencias.sinTransferencias("20345678906")));
+
+            // When
+            ResponseEntity<List<ResumenTransferenciasResponse>> response =
+                    empresaController.getResumenTransferenciasPorEmpresa(null, desde, hasta);
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of("20123456786", "20345678906"),
+                    response.getBody().stream().map(ResumenTransferenciasResponse::cuit).toList());
+        }
+
+        @Test
+        @DisplayName("Debe rechazar más CUITs que el máximo permitido")
+        void shouldRejectTooManyCuits() {
+            // Given
+            List<String> cuits = Collections.nCopies(EmpresaController.MAXIMO_CUITS_POR_RESUMEN + 1, "20123456786");
+
+            // When
+            ResponseEntity<List<ResumenTransferenciasResponse>> response =
+                    empresaController.getResumenTransferenciasPorEmpresa(cuits, desde, hasta);
+
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verifyNoInteractions(obtenerResumenTransferenciasUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("Obtener Empresas por rango de fechas")
+    class ReportePorRangoTests {
+
+        @Test
+        @DisplayName("Debe devolver el reporte por mes del rango pedido")
+        void shouldReturnMonthlyReportForRange() {
+            // Given
+            LocalDate desde = LocalDate.of(2024, 1, 1);
+            LocalDate hasta = LocalDate.of(2024, 12, 31);
+            byte[] reporte = "[]".getBytes(StandardCharsets.UTF_8);
+            when(reportesPorRango.obtener(TipoReporte.TRANSFERENCIAS, desde, hasta)).thenReturn(reporte);
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasConTransferenciasPorMes(desde, hasta);
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+            assertSame(reporte, response.getBody());
+        }
+
+        @Test
+        @DisplayName("Debe rechazar un rango invertido")
+        void shouldRejectInvertedRange() {
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasPorMes(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1));
+
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verifyNoInteractions(reportesPorRango);
+        }
+
+        @Test
+        @DisplayName("Debe rechazar un rango de más meses que el máximo permitido")
+        void shouldRejectRangeLongerThanMaximum() {
+            // Given
+            LocalDate desde = LocalDate.of(2023, 1, 1);
+            LocalDate hasta = desde.plusMonths(EmpresaController.MAXIMO_MESES_POR_RANGO);
+
+            // When
+            ResponseEntity<byte[]> response = empresaController.getEmpresasAdheridasPorMes(desde, hasta);
+
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verifyNoInteractions(reportesPorRango);
+        }
+    }
+
+    @Nested
+    @DisplayName("Adhesion Batch Endpoint Tests")
+    class AdhesionBatchEndpointTests {
+
+        @Test
+        @DisplayName("Debe devolver el resultado de cada CUIT en el orden recibido")
+        void shouldReturnOutcomePerCuitInOrder() {
+            // Given
+            Map<String, AdhesionEmpresaResponse> resultados = new LinkedHashMap<>();
+            resultados.put("20123456786", AdhesionEmpresaResponse.success(
+                    new com.interbanking.empresa.api.application.usecase.dto.response.AdhesionEmpresaDto(
+                            1L, "20123456786", "Empresa Test S.A.", LocalDate.now())));
+            resultados.put("20987654326", AdhesionEmpresaResponse.notFound("La empresa con CUIT 20987654326 no existe"));
+
+            List<String> cuits = List.of("20123456786", "20987654326");
+            when(adhesionEmpresaBatchUseCase.procesarAdhesiones(cuits)).thenReturn(resultados);
+
+            // When
+            ResponseEntity<List<AdhesionBatchItemResponse>> response =
+                    empresaController.adhesionEmpresas(new AdhesionBatchRequest(cuits));
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(2, response.getBody().size());
+            assertEquals("20123456786", response.getBody().get(0).cuit());
+            assertTrue(response.getBody().get(0).success());
+            assertEquals(200, response.getBody().get(0).status());
+            assertEquals("20987654326", response.getBody().get(1).cuit());
+            assertFalse(response.getBody().get(1).success());
+            assertEquals(404, response.getBody().get(1).status());
+        }
+
+        @Test
+        @DisplayName("Debe rechazar un pedido sin CUITs")
+        void shouldRejectEmptyRequest() {
+            // When
+            ResponseEntity<List<AdhesionBatchItemResponse>> response =
+                    empresaController.adhesionEmpresas(new AdhesionBatchRequest(List.of()));
+
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verifyNoInteractions(adhesionEmpresaBatchUseCase);
         }
     }
 }
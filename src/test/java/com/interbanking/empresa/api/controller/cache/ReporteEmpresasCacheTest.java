@@ -0,0 +1,247 @@
+package com.interbanking.empresa.api.controller.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache.Reporte;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache.TipoReporte;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.formato.CodificadorReportes;
+import com.interbanking.empresa.api.controller.formato.FormatoReporte;
+import com.interbanking.empresa.api.domain.event.EmpresaAdheridaEvent;
+import com.interbanking.empresa.api.domain.event.TransferenciasRegistradasEvent;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReporteEmpresasCache Tests")
+class ReporteEmpresasCacheTest {
+
+    private static final LocalDate HOY = LocalDate.of(2025, 9, 10);
+    private static final int UMBRAL_COMPRESION = 256;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final RelojAjustable reloj = new RelojAjustable(HOY);
+    private final AtomicInteger cargas = new AtomicInteger();
+
+    private ReporteEmpresasCache cache;
+    private RangoMes rango;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReporteEmpresasCache(new CodificadorReportes(objectMapper), DataSize.ofBytes(UMBRAL_COMPRESION),
+                4, 1_000_000, reloj);
+        rango = RangoMes.mesPasado(HOY);
+    }
+
+    private Supplier<List<EmpresaResponse>> cargar(Long... ids) {
+        return () -> {
+            cargas.incrementAndGet();
+            return Arrays.stream(ids)
+                    .map(id -> new EmpresaResponse(id, "2012345678" + id, "Empresa " + id, null))
+                    .toList();
+        };
+    }
+
+    @Nested
+    @DisplayName("Aciertos y fallos")
+    class AciertosYFallosTests {
+
+        @Test
+        @DisplayName("Debe servir desde cache la segunda lectura del mismo rango")
+        void shouldServeSecondReadFromCache() {
+            // When
+            byte[] primera = cache.obtener(TipoReporte.TRANSFERENCIAS, rango, cargar(1L, 2L));
+            byte[] segunda = cache.obtener(TipoReporte.TRANSFERENCIAS, rango, cargar(1L, 2L));
+
+            // Then
+            assertSame(primera, segunda);
+            assertEquals(1, cargas.get());
+            assertEquals(1, cache.getAciertos());
+            assertEquals(1, cache.getFallos());
+        }
+
+        @Test
+        @DisplayName("Debe desalojar la entrada menos usada al superar el máximo")
+        void shouldEvictLeastRecentlyUsedEntry() {
+            // Given
+            for (int mes = 1; mes <= 5; mes++) {
+                LocalDate inicio = LocalDate.of(2024, mes, 1);
+                RangoMes otroRango = new RangoMes(inicio, inicio.withDayOfMonth(inicio.lengthOfMonth()));
+                cache.obtener(TipoReporte.ADHESIONES, otroRango, cargar(1L));
+            }
+
+            // Then
+            assertEquals(4, cache.getEntradas());
+            assertEquals(1, cache.getDesalojos());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidación")
+    class InvalidacionTests {
+
+        @Test
+        @DisplayName("Debe descartar todo al cambiar de mes")
+        void shouldClearOnMonthRollover() {
+            // Given
+            cache.obtener(TipoReporte.TRANSFERENCIAS, rango, cargar(1L));
+
+            // When
+            reloj.fecha = HOY.plusMonths(1);
+            cache.obtener(TipoReporte.TRANSFERENCIAS, RangoMes.mesPasado(reloj.fecha), cargar(1L));
+
+            // Then
+            assertEquals(1, cache.getEntradas());
+            assertEquals(1, cache.getDesalojos());
+            assertEquals(2, cargas.get());
+        }
+
+        @Test
+        @DisplayName("Debe invalidar sólo los reportes que contienen a la empresa adherida")
+        void shouldEvictOnlyReportsContainingAdheredEmpresa() {
+            // Given
+            cache.obtener(TipoReporte.TRANSFERENCIAS, rango, cargar(1L, 2L));
+            cache.obtener(TipoReporte.ADHESIONES, rango, cargar(3L));
+
+            // When
+            cache.onEmpresaAdherida(new EmpresaAdheridaEvent(2L, "20123456782", HOY));
+
+            // Then
+            assertEquals(1, cache.getEntradas());
+            cache.obtener(TipoReporte.ADHESIONES, rango, cargar(3L));
+            assertEquals(2, cargas.get());
+        }
+
+        @Test
+        @DisplayName("Debe invalidar el reporte de adhesiones cuyo rango incluye la nueva adhesión")
+        void shouldEvictAdhesionReportWhenRangeContainsNewAdhesion() {
+            // Given
+            cache.obtener(TipoReporte.ADHESIONES, rango, cargar(3L));
+
+            // When
+            cache.onEmpresaAdherida(new EmpresaAdheridaEvent(9L, "20123456786", rango.inicio().plusDays(3)));
+
+            // Then
+            assertEquals(0, cache.getEntradas());
+            assertEquals(0, cache.getBytes());
+        }
+
+        @Test
+        @DisplayName("Debe invalidar los reportes de transferencias del mes con nuevas transferencias")
+        void shouldEvictTransferReportsForMonthsWithNewTransfers() {
+            // Given
+            cache.obtener(TipoReporte.TRANSFERENCIAS, rango, cargar(1L));
+            cache.obtener(TipoReporte.ADHESIONES, rango, cargar(1L));
+
+            // When
+            cache.onTransferenciasRegistradas(new TransferenciasRegistradasEvent(Set.of(rango.periodo())));
+
+            // Then
+            assertEquals(1, cache.getEntradas());
+            cache.obtener(TipoReporte.ADHESIONES, rango, cargar(1L));
+            assertEquals(2, cargas.get());
+        }
+
+        @Test
+        @DisplayName("No debe guardar un resultado cargado durante una invalidación")
+        void shouldNotStoreResultLoadedDuringInvalidation() {
+            // When
+            cache.obtener(TipoReporte.TRANSFERENCIAS, rango, () -> {
+                cache.onEmpresaAdherida(new EmpresaAdheridaEvent(7L, "20123456787", HOY));
+                return List.of(new EmpresaResponse(1L, "20123456781", "Empresa 1", null));
+            });
+
+            // Then
+            assertEquals(0, cache.getEntradas());
+        }
+    }
+
+    @Nested
+    @DisplayName("Formatos y compresión")
+    class FormatosYCompresionTests {
+
+        private Supplier<ReporteVersionado<EmpresaResponse>> cargarVersion(String version, long empresas) {
+            return () -> new ReporteVersionado<>(version, LongStream.rangeClosed(1, empresas).boxed()
+                    .map(id -> new EmpresaResponse(id, "2012345678" + id, "Empresa " + id, null))
+                    .toList());
+        }
+
+        @Test
+        @DisplayName("Debe comprimir con gzip una sola vez y sólo los reportes que superan el umbral")
+        void shouldCompressOnlyReportsAboveThreshold() throws IOException {
+            // When
+            Reporte chico = cache.obtener(TipoReporte.ADHESIONES, rango, FormatoReporte.JSON, "1", cargarVersion("1", 1));
+            Reporte grande = cache.obtener(TipoReporte.TRANSFERENCIAS, rango, FormatoReporte.JSON, "1", cargarVersion("1", 50));
+
+            // Then
+            assertTrue(chico.cuerpo().length < UMBRAL_COMPRESION);
+            assertNull(chico.cuerpoGzip());
+            assertArrayEquals(grande.cuerpo(), new GZIPInputStream(new ByteArrayInputStream(grande.cuerpoGzip())).readAllBytes());
+            assertTrue(grande.cuerpoGzip().length < grande.cuerpo().length);
+            assertEquals(chico.cuerpo().length + grande.cuerpo().length + grande.cuerpoGzip().length, cache.getBytes());
+            assertSame(grande.cuerpoGzip(),
+                    cache.obtener(TipoReporte.TRANSFERENCIAS, rango, FormatoReporte.JSON, "1", cargarVersion("1", 50)).cuerpoGzip());
+        }
+
+        @Test
+        @DisplayName("Debe guardar cada formato por separado e invalidarlos juntos")
+        void shouldCacheEachFormatAndEvictThemTogether() {
+            // Given
+            Reporte json = cache.obtener(TipoReporte.TRANSFERENCIAS, rango, FormatoReporte.JSON, "1", cargarVersion("1", 3));
+            Reporte protobuf = cache.obtener(TipoReporte.TRANSFERENCIAS, rango, FormatoReporte.PROTOBUF, "1", cargarVersion("1", 3));
+
+            // When
+            cache.onTransferenciasRegistradas(new TransferenciasRegistradasEvent(Set.of(rango.periodo())));
+
+            // Then
+            assertFalse(Arrays.equals(json.cuerpo(), protobuf.cuerpo()));
+            assertTrue(protobuf.cuerpo().length < json.cuerpo().length);
+            assertEquals(0, cache.getEntradas());
+        }
+    }
+
+    private static final class RelojAjustable extends Clock {
+
+        private LocalDate fecha;
+
+        private RelojAjustable(LocalDate fecha) {
+            this.fecha = fecha;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return fecha.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.interbanking.empresa.api.controller.formato;
+
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Decodifica el formato de cable a mano, siguiendo {@code src/main/proto/empresas.proto}
+ */
+@DisplayName("EmpresasProtobuf Tests")
+class EmpresasProtobufTest {
+
+    @Test
+    @DisplayName("Debe codificar las empresas según el esquema de empresas.proto")
+    void shouldEncodeEmpresasMessage() {
+        // Given
+        List<EmpresaResponse> empresas = List.of(
+                new EmpresaResponse(1L, "20123456786", "Empresa Ñandú S.A.", LocalDate.of(2025, 8, 14)),
+                new EmpresaResponse(300L, "20987654326", "Empresa 2 S.A.", null),
+                new EmpresaResponse(5_000_000_000L, "30712345671", "", LocalDate.of(1969, 12, 31)));
+
+        // When
+        byte[] codificado = EmpresasProtobuf.codificar(empresas);
+
+        // Then
+        assertEquals(empresas, decodificar(codificado));
+    }
+
+    @Test
+    @DisplayName("Una lista vacía es un mensaje vacío")
+    void shouldEncodeEmptyList() {
+        assertEquals(0, EmpresasProtobuf.codificar(List.of()).length);
+    }
+
+    private static List<EmpresaResponse> decodificar(byte[] codificado) {
+        ByteBuffer buffer = ByteBuffer.wrap(codificado);
+        List<EmpresaResponse> empresas = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            assertEquals(EmpresasProtobuf.CAMPO_EMPRESAS << 3 | EmpresasProtobuf.TIPO_LONGITUD, leerVarint(buffer));
+            int fin = (int) leerVarint(buffer) + buffer.position();
+            long id = 0;
+            String cuit = "";
+            String razonSocial = "";
+            LocalDate fechaAdhesion = null;
+            while (buffer.position() < fin) {
+                int clave = (int) leerVarint(buffer);
+                switch (clave >>> 3) {
+                    case EmpresasProtobuf.CAMPO_ID -> id = leerVarint(buffer);
+                    case EmpresasProtobuf.CAMPO_CUIT -> cuit = leerTexto(buffer);
+                    case EmpresasProtobuf.CAMPO_RAZON_SOCIAL -> razonSocial = leerTexto(buffer);
+                    case EmpresasProtobuf.CAMPO_FECHA_ADHESION -> fechaAdhesion = LocalDate.ofEpochDay((int) leerVarint(buffer));
+                    default -> fail("Campo inesperado: " + (clave >>> 3));
+                }
+            }
+            empresas.add(new EmpresaResponse(id, cuit, razonSocial, fechaAdhesion));
+        }
+        return empresas;
+    }
+
+    private static long leerVarint(ByteBuffer buffer) {
+        long valor = 0;
+        for (int desplazamiento = 0; ; desplazamiento += 7) {
+            byte b = buffer.get();
+            valor |= (long) (b & 0x7F) << desplazamiento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+    }
+
+    private static String leerTexto(ByteBuffer buffer) {
+        byte[] texto = new byte[(int) leerVarint(buffer)];
+        buffer.get(texto);
+        return new String(texto, StandardCharsets.UTF_8);
+    }
+}
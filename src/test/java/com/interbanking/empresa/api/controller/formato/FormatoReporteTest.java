@@ -0,0 +1,39 @@
+package com.interbanking.empresa.api.controller.formato;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FormatoReporte Tests")
+class FormatoReporteTest {
+
+    @Test
+    @DisplayName("Debe elegir JSON sin header Accept o con comodín")
+    void shouldDefaultToJson() {
+        assertEquals(Optional.of(FormatoReporte.JSON), FormatoReporte.negociar(List.of()));
+        assertEquals(Optional.of(FormatoReporte.JSON), FormatoReporte.negociar(MediaType.parseMediaTypes("*/*")));
+        assertEquals(Optional.of(FormatoReporte.JSON), FormatoReporte.negociar(MediaType.parseMediaTypes("application/*")));
+    }
+
+    @Test
+    @DisplayName("Debe respetar la calidad y, a igual calidad, el orden del header")
+    void shouldHonorQualityAndOrder() {
+        assertEquals(Optional.of(FormatoReporte.SMILE), FormatoReporte.negociar(
+                MediaType.parseMediaTypes("application/json;q=0.9, application/x-jackson-smile")));
+        assertEquals(Optional.of(FormatoReporte.CBOR), FormatoReporte.negociar(
+                MediaType.parseMediaTypes("application/cbor, application/x-protobuf")));
+        assertEquals(Optional.of(FormatoReporte.PROTOBUF), FormatoReporte.negociar(
+                MediaType.parseMediaTypes("application/json;q=0, */*;q=0.1, application/x-protobuf;q=0.5")));
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío cuando no se acepta ningún formato disponible")
+    void shouldReturnEmptyWhenNothingAcceptable() {
+        assertTrue(FormatoReporte.negociar(MediaType.parseMediaTypes("text/csv, application/xml")).isEmpty());
+    }
+}
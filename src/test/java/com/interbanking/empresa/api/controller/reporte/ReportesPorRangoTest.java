@@ -0,0 +1,152 @@
+package com.interbanking.empresa.api.controller.reporte;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasAdheridasUltimoMesUseCase;
+import com.interbanking.empresa.api.application.usecase.ObtenerEmpresasConTransferenciasUltimoMesUseCase;
+import com.interbanking.empresa.api.application.usecase.dto.response.ReporteVersionado;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache;
+import com.interbanking.empresa.api.controller.cache.ReporteEmpresasCache.TipoReporte;
+import com.interbanking.empresa.api.controller.dto.response.EmpresaResponse;
+import com.interbanking.empresa.api.controller.formato.CodificadorReportes;
+import com.interbanking.empresa.api.domain.vo.RangoMes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportesPorRango Tests")
+class ReportesPorRangoTest {
+
+    private static final LocalDate HOY = LocalDate.of(2025, 9, 10);
+
+    @Mock
+    private ObtenerEmpresasAdheridasUltimoMesUseCase obtenerEmpresasAdheridasUseCase;
+
+    @Mock
+    private ObtenerEmpresasConTransferenciasUltimoMesUseCase obtenerEmpresasConTransferenciasUseCase;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private ReportesPorRango reportesPorRango;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(HOY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        reportesPorRango = new ReportesPorRango(
+                new ReporteEmpresasCache(new CodificadorReportes(objectMapper), DataSize.ofKilobytes(2), 32, 1_000_000),
+                obtenerEmpresasAdheridasUseCase,
+                obtenerEmpresasConTransferenciasUseCase,
+                objectMapper,
+                Executors.newFixedThreadPool(2),
+                clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportesPorRango.cerrar();
+    }
+
+    @Test
+    @DisplayName("Debe devolver un objeto por mes con sus empresas, en orden")
+    void shouldReturnOneObjectPerMonthInOrder() throws IOException {
+        // Given
+        RangoMes julio = new RangoMes(LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 31));
+        RangoMes agosto = RangoMes.de(YearMonth.of(2025, 8));
+        when(obtenerEmpresasConTransferenciasUseCase.version(any(RangoMes.class))).thenReturn("1");
+        when(obtenerEmpresasConTransferenciasUseCase.<EmpresaResponse>ejecutarVersionado(eq(julio), any()))
+                .thenReturn(new ReporteVersionado<>("1", List.of(new EmpresaResponse(1L, "20123456786", "Empresa 1 S.A.", null))));
+        when(obtenerEmpresasConTransferenciasUseCase.<EmpresaResponse>ejecutarVersionado(eq(agosto), any()))
+                .thenReturn(new ReporteVersionado<>("1", List.of()));
+
+        // When
+        JsonNode reporte = objectMapper.readTree(
+                reportesPorRango.obtener(TipoReporte.TRANSFERENCIAS, julio.inicio(), agosto.fin()));
+
+        // Then
+        assertEquals(2, reporte.size());
+        assertEquals("2025-07", reporte.get(0).get("periodo").asText());
+        assertEquals("2025-07-15", reporte.get(0).get("desde").asText());
+        assertEquals("2025-07-31", reporte.get(0).get("hasta").asText());
+        assertEquals("20123456786", reporte.get(0).get("empresas").get(0).get("cuit").asText());
+        assertEquals("2025-08", reporte.get(1).get("periodo").asText());
+        assertTrue(reporte.get(1).get("empresas").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe servir desde cache los meses cerrados y consultar siempre el mes en curso")
+    void shouldCacheClosedMonthsOnly() {
+        // Given
+        RangoMes agosto = RangoMes.de(YearMonth.of(2025, 8));
+        RangoMes septiembre = new RangoMes(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 9));
+        when(obtenerEmpresasAdheridasUseCase.version(agosto)).thenReturn("1");
+        when(obtenerEmpresasAdheridasUseCase.<EmpresaResponse>ejecutarVersionado(eq(agosto), any()))
+                .thenReturn(new ReporteVersionado<>("1", List.of()));
+        when(obtenerEmpresasAdheridasUseCase.<EmpresaResponse>ejecutar(eq(septiembre), any()))
+                .thenReturn(List.of());
+
+        // When
+        reportesPorRango.obtener(TipoReporte.ADHESIONES, agosto.inicio(), septiembre.fin());
+        reportesPorRango.obtener(TipoReporte.ADHESIONES, agosto.inicio(), septiembre.fin());
+
+        // Then
+        verify(obtenerEmpresasAdheridasUseCase, times(2)).version(agosto);
+        verify(obtenerEmpresasAdheridasUseCase, times(1)).ejecutarVersionado(eq(agosto), any());
+        verify(obtenerEmpresasAdheridasUseCase, times(2)).ejecutar(eq(septiembre), any());
+        verify(obtenerEmpresasAdheridasUseCase, never()).version(septiembre);
+    }
+
+    @Test
+    @DisplayName("Debe recargar un mes cerrado cacheado cuando su versión en la base es otra")
+    void shouldReloadClosedMonthWhenVersionDiffers() throws IOException {
+        // Given: otra instancia registró transferencias de agosto después de cachearlo
+        RangoMes agosto = RangoMes.de(YearMonth.of(2025, 8));
+        when(obtenerEmpresasConTransferenciasUseCase.version(agosto)).thenReturn("1", "1", "2");
+        when(obtenerEmpresasConTransferenciasUseCase.<EmpresaResponse>ejecutarVersionado(eq(agosto), any()))
+                .thenReturn(new ReporteVersionado<>("1", List.of()))
+                .thenReturn(new ReporteVersionado<>("2", List.of(new EmpresaResponse(1L, "20123456786", "Empresa 1 S.A.", null))));
+
+        // When
+        reportesPorRango.obtener(TipoReporte.TRANSFERENCIAS, agosto.inicio(), agosto.fin());
+        reportesPorRango.obtener(TipoReporte.TRANSFERENCIAS, agosto.inicio(), agosto.fin());
+        JsonNode reporte = objectMapper.readTree(
+                reportesPorRango.obtener(TipoReporte.TRANSFERENCIAS, agosto.inicio(), agosto.fin()));
+
+        // Then
+        assertEquals("20123456786", reporte.get(0).get("empresas").get(0).get("cuit").asText());
+        verify(obtenerEmpresasConTransferenciasUseCase, times(2)).ejecutarVersionado(eq(agosto), any());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error de un mes")
+    void shouldPropagateMonthFailure() {
+        // Given
+        when(obtenerEmpresasAdheridasUseCase.version(any(RangoMes.class)))
+                .thenThrow(new IllegalStateException("base no disponible"));
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> reportesPorRango.obtener(TipoReporte.ADHESIONES, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31)));
+
+        // Then
+        assertEquals("base no disponible", exception.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package com.interbanking.empresa.api.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cuit Tests")
+class CuitTest {
+
+    @Test
+    @DisplayName("Debe aceptar CUIT con dígito verificador válido")
+    void shouldAcceptValidCuits() {
+        assertTrue(Cuit.esValido("20123456786"));
+        assertTrue(Cuit.esValido("27876543228"));
+        assertTrue(Cuit.esValido("30999999995"));
+        assertNull(Cuit.error("00000000000"));
+    }
+
+    @Test
+    @DisplayName("Debe informar el motivo por el que el CUIT no es válido")
+    void shouldReportWhyCuitIsInvalid() {
+        assertEquals(Cuit.MENSAJE_VACIO, Cuit.error(null));
+        assertEquals(Cuit.MENSAJE_VACIO, Cuit.error(" \t"));
+        assertEquals(Cuit.MENSAJE_LONGITUD, Cuit.error("123"));
+        assertEquals(Cuit.MENSAJE_LONGITUD, Cuit.error("2012345678a"));
+        assertEquals(Cuit.MENSAJE_LONGITUD, Cuit.error("20-12345678-6"));
+        assertEquals(Cuit.MENSAJE_DIGITO_VERIFICADOR, Cuit.error("20123456789"));
+        // Resto 1: el prefijo no tiene dígito verificador posible
+        assertEquals(Cuit.MENSAJE_DIGITO_VERIFICADOR, Cuit.error("20999999990"));
+    }
+
+    @Test
+    @DisplayName("Debe convertir el CUIT a long y reconstruirlo con ceros a la izquierda")
+    void shouldRoundTripThroughLong() {
+        // Given
+        Cuit cuit = Cuit.of("20123456786");
+
+        // When
+        Cuit reconstruido = Cuit.of(cuit.getValor());
+
+        // Then
+        assertEquals(20123456786L, cuit.getValor());
+        assertEquals(cuit, reconstruido);
+        assertEquals("20123456786", reconstruido.toString());
+        assertEquals("00000000000", Cuit.of(0L).toString());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar valores numéricos fuera de rango o con dígito verificador inválido")
+    void shouldRejectInvalidLongValues() {
+        assertThrows(IllegalArgumentException.class, () -> Cuit.of(-1L));
+        assertThrows(IllegalArgumentException.class, () -> Cuit.of(100_000_000_000L));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> Cuit.of(20123456789L));
+        assertEquals(Cuit.MENSAJE_DIGITO_VERIFICADOR, exception.getMessage());
+    }
+}
@@ -20,7 +20,7 @@ class EmpresaTest {
         void shouldCreateEmpresaWithValidData() {
             // Given
             Long id = 1L;
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             String razonSocial = "Empresa Test S.A.";
             LocalDate fechaAdhesion = LocalDate.now();
 
@@ -80,11 +80,26 @@ class EmpresaTest {
             assertEquals("El CUIT debe tener exactamente 11 dígitos", exception.getMessage());
         }
 
+        @Test
+        @DisplayName("Debería lanzar una excepción cuando el dígito verificador del CUIT no sea válido")
+        void shouldThrowExceptionWhenCuitCheckDigitIsInvalid() {
+            // Given
+            String cuit = "20123456789";
+            String razonSocial = "Empresa Test S.A.";
+
+            // When & Then
+            IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new Empresa(1L, cuit, razonSocial, null)
+            );
+            assertEquals("El dígito verificador del CUIT no es válido", exception.getMessage());
+        }
+
         @Test
         @DisplayName("Debería lanzar una excepción cuando razon social sea nulo")
         void shouldThrowExceptionWhenRazonSocialIsNull() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             String razonSocial = null;
 
             // When & Then
@@ -99,7 +114,7 @@ class EmpresaTest {
         @DisplayName("Debería lanzar una excepción cuando razon social sea vacío")
         void shouldThrowExceptionWhenRazonSocialIsEmpty() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             String razonSocial = "";
 
             // When & Then
@@ -114,7 +129,7 @@ class EmpresaTest {
         @DisplayName("Debería lanzar una excepción cuando Razon Social exceda la longitud máxima")
         void shouldThrowExceptionWhenRazonSocialExceedsMaxLength() {
             // Given
-            String cuit = "20123456789";
+            String cuit = "20123456786";
             String razonSocial = "A".repeat(256); // 256 characters
 
             // When & Then
@@ -136,7 +151,7 @@ class EmpresaTest {
             // Given
             Empresa empresa = Empresa.builder()
                     .id(1L)
-                    .cuit("20123456789")
+                    .cuit("20123456786")
                     .razonSocial("Empresa Test S.A.")
                     .build();
 
@@ -156,7 +171,7 @@ class EmpresaTest {
             LocalDate fechaAdhesion = LocalDate.now().minusDays(30);
             Empresa empresa = Empresa.builder()
                     .id(1L)
-                    .cuit("20123456789")
+                    .cuit("20123456786")
                     .razonSocial("Empresa Test S.A.")
                     .fechaAdhesion(fechaAdhesion)
                     .build();
@@ -175,7 +190,7 @@ class EmpresaTest {
             // Given
             Empresa empresa = Empresa.builder()
                     .id(1L)
-                    .cuit("20123456789")
+                    .cuit("20123456786")
                     .razonSocial("Empresa Test S.A.")
                     .build();
 
@@ -189,7 +204,7 @@ class EmpresaTest {
             // Given
             Empresa empresa = Empresa.builder()
                     .id(1L)
-                    .cuit("20123456789")
+                    .cuit("20123456786")
                     .razonSocial("Empresa Test S.A.")
                     .fechaAdhesion(LocalDate.now())
                     .build();
@@ -209,7 +224,7 @@ class EmpresaTest {
             // Given
             Empresa empresa = Empresa.builder()
                     .id(1L)
-                    .cuit("20123456789")
+                    .cuit("20123456786")
                     .razonSocial("Empresa Test S.A.")
                     .build();
 
@@ -227,7 +242,7 @@ class EmpresaTest {
             // Given
             Empresa empresa = Empresa.builder()
                     .id(1L)
-                    .cuit("20123456789")
+                    .cuit("20123456786")
                     .razonSocial("Empresa Test S.A.")
                     .build();
 
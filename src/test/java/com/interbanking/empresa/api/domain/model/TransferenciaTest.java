@@ -15,7 +15,7 @@ class TransferenciaTest {
     private Empresa createValidEmpresa() {
         return Empresa.builder()
                 .id(1L)
-                .cuit("20123456789")
+                .cuit("20123456786")
                 .razonSocial("Empresa Test S.A.")
                 .build();
     }
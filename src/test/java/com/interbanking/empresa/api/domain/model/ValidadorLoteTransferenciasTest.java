@@ -0,0 +1,100 @@
+package com.interbanking.empresa.api.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ValidadorLoteTransferencias Tests")
+class ValidadorLoteTransferenciasTest {
+
+    private static final LocalDate HOY = LocalDate.of(2025, 9, 15);
+
+    private final Empresa empresa = Empresa.builder()
+            .id(1L)
+            .cuit("20123456786")
+            .razonSocial("Empresa Test S.A.")
+            .build();
+
+    @Test
+    @DisplayName("Debe crear las transferencias válidas y registrar código e índice de las inválidas")
+    void shouldCreateValidRowsAndRecordViolations() {
+        // Given
+        ValidadorLoteTransferencias validador = new ValidadorLoteTransferencias(HOY);
+
+        // When
+        Transferencia valida = validador.crear(0, empresa, new BigDecimal("10.50"), "111", "222", HOY);
+        Transferencia cuentasIguales = validador.crear(1, empresa, new BigDecimal("10.50"), "111", "111", HOY);
+        Transferencia cuentaEnBlanco = validador.crear(2, empresa, new BigDecimal("10.50"), " \t", "222", HOY);
+        Transferencia futura = validador.crear(3, empresa, new BigDecimal("10.50"), "111", "222", HOY.plusDays(1));
+
+        // Then
+        assertNotNull(valida);
+        assertEquals(empresa, valida.getEmpresa());
+        assertEquals(new BigDecimal("10.50"), valida.getImporte());
+        assertNull(cuentasIguales);
+        assertNull(cuentaEnBlanco);
+        assertNull(futura);
+
+        assertEquals(3, validador.getCantidadViolaciones());
+        assertEquals(1, validador.getIndice(0));
+        assertEquals(CodigoErrorTransferencia.CUENTAS_IGUALES, validador.getCodigo(0));
+        assertEquals(2, validador.getIndice(1));
+        assertEquals(CodigoErrorTransferencia.CUENTA_DEBITO_VACIA, validador.getCodigo(1));
+        assertEquals(3, validador.getIndice(2));
+        assertEquals(CodigoErrorTransferencia.FECHA_FUTURA, validador.getCodigo(2));
+    }
+
+    @Test
+    @DisplayName("Debe usar la fecha del lote en lugar de la fecha actual")
+    void shouldUseBatchDateInsteadOfCurrentDate() {
+        // Given
+        ValidadorLoteTransferencias validador = new ValidadorLoteTransferencias(HOY.minusDays(10));
+
+        // When
+        Transferencia transferencia = validador.crear(0, empresa, BigDecimal.ONE, "111", "222", HOY);
+
+        // Then
+        assertNull(transferencia);
+        assertEquals(CodigoErrorTransferencia.FECHA_FUTURA, validador.getCodigo(0));
+    }
+
+    @Test
+    @DisplayName("Debe registrar más violaciones que la capacidad inicial")
+    void shouldGrowWhenManyRowsAreInvalid() {
+        // Given
+        ValidadorLoteTransferencias validador = new ValidadorLoteTransferencias(HOY);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            validador.crear(i, empresa, BigDecimal.ZERO, "111", "222", HOY);
+        }
+
+        // Then
+        assertEquals(100, validador.getCantidadViolaciones());
+        assertEquals(99, validador.getIndice(99));
+        assertEquals(CodigoErrorTransferencia.IMPORTE_NO_POSITIVO, validador.getCodigo(99));
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el mensaje que lanza el constructor para la misma regla")
+    void shouldMatchConstructorMessages() {
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                Transferencia.builder()
+                        .empresa(empresa)
+                        .importe(new BigDecimal("1.001"))
+                        .cuentaDebito("111")
+                        .cuentaCredito("222")
+                        .fechaTransferencia(HOY)
+                        .build());
+
+        // Then
+        assertEquals(CodigoErrorTransferencia.IMPORTE_DECIMALES, Transferencia.verificar(
+                empresa, new BigDecimal("1.001"), "111", "222", HOY, HOY));
+        assertEquals(CodigoErrorTransferencia.IMPORTE_DECIMALES.getMensaje(), exception.getMessage());
+    }
+}
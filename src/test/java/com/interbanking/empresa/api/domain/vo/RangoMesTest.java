@@ -0,0 +1,77 @@
+package com.interbanking.empresa.api.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RangoMes Tests")
+class RangoMesTest {
+
+    @Test
+    @DisplayName("Debe calcular el mes pasado completo")
+    void shouldBuildPreviousFullMonth() {
+        // When
+        RangoMes rango = RangoMes.mesPasado(LocalDate.of(2025, 3, 15));
+
+        // Then
+        assertEquals(LocalDate.of(2025, 2, 1), rango.inicio());
+        assertEquals(LocalDate.of(2025, 2, 28), rango.fin());
+        assertTrue(rango.mesCompleto());
+        assertEquals(YearMonth.of(2025, 2), rango.periodo());
+    }
+
+    @Test
+    @DisplayName("Debe particionar un rango en meses, con los bordes incompletos")
+    void shouldSplitRangeIntoMonths() {
+        // When
+        List<RangoMes> meses = RangoMes.particionar(LocalDate.of(2024, 11, 10), LocalDate.of(2025, 2, 5));
+
+        // Then
+        assertEquals(List.of(
+                new RangoMes(LocalDate.of(2024, 11, 10), LocalDate.of(2024, 11, 30)),
+                RangoMes.de(YearMonth.of(2024, 12)),
+                RangoMes.de(YearMonth.of(2025, 1)),
+                new RangoMes(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 5))), meses);
+        assertFalse(meses.get(0).mesCompleto());
+        assertTrue(meses.get(1).mesCompleto());
+        assertEquals(4, RangoMes.cantidadMeses(LocalDate.of(2024, 11, 10), LocalDate.of(2025, 2, 5)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver un único mes cuando el rango no cruza de mes")
+    void shouldReturnSingleMonthForRangeWithinMonth() {
+        // When
+        List<RangoMes> meses = RangoMes.particionar(LocalDate.of(2025, 5, 3), LocalDate.of(2025, 5, 3));
+
+        // Then
+        assertEquals(List.of(new RangoMes(LocalDate.of(2025, 5, 3), LocalDate.of(2025, 5, 3))), meses);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar rangos invertidos o que cruzan de mes")
+    void shouldRejectInvalidRanges() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RangoMes.particionar(LocalDate.of(2025, 5, 3), LocalDate.of(2025, 5, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RangoMes(LocalDate.of(2025, 5, 3), LocalDate.of(2025, 5, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RangoMes(LocalDate.of(2025, 5, 3), LocalDate.of(2025, 6, 2)));
+    }
+
+    @Test
+    @DisplayName("Debe considerar cerrado sólo un mes anterior al actual")
+    void shouldBeClosedOnlyBeforeCurrentMonth() {
+        // Given
+        LocalDate hoy = LocalDate.of(2025, 9, 10);
+
+        // Then
+        assertTrue(RangoMes.de(YearMonth.of(2025, 8)).cerrado(hoy));
+        assertTrue(new RangoMes(LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 15)).cerrado(hoy));
+        assertFalse(new RangoMes(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 9)).cerrado(hoy));
+    }
+}
@@ -0,0 +1,46 @@
+package com.interbanking.empresa.api.infraestructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArranqueRapidoConfig Tests")
+class ArranqueRapidoConfigTest {
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+    }
+
+    @Test
+    @DisplayName("Debe diferir sólo los beans de springdoc sin @Lazy explícito")
+    void shouldMakeSpringdocBeansLazy() {
+        // Given
+        registrar("openApiResource", "org.springdoc.webmvc.api.OpenApiWebMvcResource", null);
+        registrar("swaggerConfig", "org.springdoc.webmvc.ui.SwaggerConfig", false);
+        registrar("empresaController", "com.interbanking.empresa.api.controller.EmpresaController", null);
+
+        // When
+        ArranqueRapidoConfig.springdocDiferido().postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertTrue(beanFactory.getBeanDefinition("openApiResource").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("swaggerConfig").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("empresaController").isLazyInit());
+    }
+
+    private void registrar(String nombre, String clase, Boolean lazy) {
+        GenericBeanDefinition definicion = new GenericBeanDefinition();
+        definicion.setBeanClassName(clase);
+        if (lazy != null) {
+            definicion.setLazyInit(lazy);
+        }
+        beanFactory.registerBeanDefinition(nombre, definicion);
+    }
+}
@@ -0,0 +1,36 @@
+package com.interbanking.empresa.api.infraestructure.diagnostico;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InformeArranque Tests")
+class InformeArranqueTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @DisplayName("Debe escribir el encabezado una sola vez y agregar una fila por arranque")
+    void shouldAppendOneRowPerStartup() throws IOException {
+        // Given
+        Path informe = directorio.resolve("target/arranque.csv");
+
+        // When
+        InformeArranque.registrar(informe, InformeArranque.fila("base", 2300, 2900, 14000, false, false));
+        InformeArranque.registrar(informe, InformeArranque.fila("aot-cds", 700, 900, 11000, true, true));
+
+        // Then
+        assertEquals(List.of(
+                InformeArranque.ENCABEZADO,
+                "base,2300,2900,14000,false,false",
+                "aot-cds,700,900,11000,true,true"), Files.readAllLines(informe));
+    }
+}
@@ -0,0 +1,109 @@
+package com.interbanking.empresa.api.infraestructure.ingesta;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.interbanking.empresa.api.application.usecase.dto.request.FilaTransferencia;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LectorTransferencias Tests")
+class LectorTransferenciasTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private List<FilaTransferencia> leer(String contenido, FormatoIngesta formato) {
+        List<FilaTransferencia> filas = new ArrayList<>();
+        new LectorTransferencias(new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8)), formato, objectMapper)
+                .forEachRemaining(filas::add);
+        return filas;
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Debe ignorar el encabezado y numerar las filas por línea del archivo")
+        void shouldSkipHeaderAndNumberRowsByLine() {
+            // Given
+            String csv = """
+                    cuit,importe,cuenta_debito,cuenta_credito,fecha_transferencia
+                    20123456786,1500.50,1234567890,0987654321,2025-09-15
+
+                    20987654326,200,111,222,2025-09-16
+                    """;
+
+            // When
+            List<FilaTransferencia> filas = leer(csv, FormatoIngesta.CSV);
+
+            // Then
+            assertEquals(2, filas.size());
+            assertEquals(FilaTransferencia.valida(2, "20123456786", new BigDecimal("1500.50"),
+                    "1234567890", "0987654321", LocalDate.of(2025, 9, 15)), filas.get(0));
+            assertEquals(4, filas.get(1).numero());
+        }
+
+        @Test
+        @DisplayName("Debe devolver filas inválidas sin interrumpir la lectura")
+        void shouldReturnInvalidRowsWithoutStopping() {
+            // Given
+            String csv = """
+                    20123456786,abc,111,222,2025-09-15
+                    20123456786,10,111,222
+                    20123456786,10,111,222,15/09/2025
+                    ,10,111,222,2025-09-15
+                    20123456789,10,111,222,2025-09-15
+                    20123456786,10,111,222,2025-09-15
+                    """;
+
+            // When
+            List<FilaTransferencia> filas = leer(csv, FormatoIngesta.CSV);
+
+            // Then
+            assertEquals(6, filas.size());
+            assertEquals("Importe inválido: abc", filas.get(0).error());
+            assertEquals("Se esperaban 5 columnas y se encontraron 4", filas.get(1).error());
+            assertEquals("Fecha de transferencia inválida: 15/09/2025", filas.get(2).error());
+            assertEquals("El CUIT no puede estar vacío", filas.get(3).error());
+            assertEquals("El dígito verificador del CUIT no es válido", filas.get(4).error());
+            assertTrue(filas.get(5).isValida());
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Debe leer un objeto por línea y marcar como inválidas las líneas mal formadas")
+        void shouldReadOneObjectPerLine() {
+            // Given
+            String ndjson = """
+                    {"cuit":"20123456786","importe":1500.50,"cuentaDebito":"111","cuentaCredito":"222","fechaTransferencia":"2025-09-15"}
+                    {"cuit":"20123456786","importe":
+                    {"importe":10,"cuentaDebito":"111","cuentaCredito":"222","fechaTransferencia":"2025-09-15"}
+                    """;
+
+            // When
+            List<FilaTransferencia> filas = leer(ndjson, FormatoIngesta.NDJSON);
+
+            // Then
+            assertEquals(3, filas.size());
+            assertEquals(FilaTransferencia.valida(1, "20123456786", new BigDecimal("1500.50"),
+                    "111", "222", LocalDate.of(2025, 9, 15)), filas.get(0));
+            assertFalse(filas.get(1).isValida());
+            assertEquals(2, filas.get(1).numero());
+            assertEquals("El CUIT no puede estar vacío", filas.get(2).error());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.interbanking.empresa.api.infraestructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncAppenderDescartaDebug Tests")
+class AsyncAppenderDescartaDebugTest {
+
+    private final AsyncAppenderDescartaDebug appender = new AsyncAppenderDescartaDebug();
+
+    @Test
+    @DisplayName("Con la cola llena sólo se descartan DEBUG y TRACE")
+    void shouldDiscardOnlyDebugAndTrace() {
+        assertTrue(appender.isDiscardable(evento(Level.TRACE)));
+        assertTrue(appender.isDiscardable(evento(Level.DEBUG)));
+        assertFalse(appender.isDiscardable(evento(Level.INFO)));
+        assertFalse(appender.isDiscardable(evento(Level.WARN)));
+        assertFalse(appender.isDiscardable(evento(Level.ERROR)));
+    }
+
+    private static LoggingEvent evento(Level nivel) {
+        LoggerContext contexto = new LoggerContext();
+        return new LoggingEvent(AsyncAppenderDescartaDebugTest.class.getName(),
+                contexto.getLogger("com.interbanking.empresa.api"), nivel, "mensaje", null, null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.interbanking.empresa.api.infraestructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MuestreoTurboFilter Tests")
+class MuestreoTurboFilterTest {
+
+    private LoggerContext contexto;
+    private ListAppender<ILoggingEvent> eventos;
+
+    @BeforeEach
+    void setUp() {
+        contexto = new LoggerContext();
+        eventos = new ListAppender<>();
+        eventos.setContext(contexto);
+        eventos.start();
+        contexto.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(eventos);
+    }
+
+    @Test
+    @DisplayName("Debe dejar pasar uno de cada N eventos del logger muestreado")
+    void shouldSampleConfiguredLogger() {
+        // Given
+        agregarFiltro(3);
+        Logger sqlLenta = contexto.getLogger("org.hibernate.SQL_SLOW");
+
+        // When
+        for (int i = 0; i < 9; i++) {
+            sqlLenta.info("Slow query took {} milliseconds", 250 + i);
+        }
+
+        // Then
+        assertEquals(3, eventos.list.size());
+        assertEquals("Slow query took 250 milliseconds", eventos.list.get(0).getFormattedMessage());
+        assertEquals("Slow query took 253 milliseconds", eventos.list.get(1).getFormattedMessage());
+    }
+
+    @Test
+    @DisplayName("No debe afectar a otros loggers")
+    void shouldNotSampleOtherLoggers() {
+        // Given
+        agregarFiltro(3);
+        Logger otro = contexto.getLogger("com.interbanking.empresa.api");
+
+        // When
+        for (int i = 0; i < 9; i++) {
+            otro.info("Adhesión exitosa {}", i);
+        }
+
+        // Then
+        assertEquals(9, eventos.list.size());
+    }
+
+    @Test
+    @DisplayName("No debe iniciarse con una tasa menor a uno")
+    void shouldNotStartWithInvalidRate() {
+        // Given
+        MuestreoTurboFilter filtro = new MuestreoTurboFilter();
+        filtro.setContext(contexto);
+        filtro.setCadaCuantos(0);
+
+        // When
+        filtro.start();
+
+        // Then
+        assertFalse(filtro.isStarted());
+    }
+
+    private void agregarFiltro(int cadaCuantos) {
+        MuestreoTurboFilter filtro = new MuestreoTurboFilter();
+        filtro.setContext(contexto);
+        filtro.setLogger("org.hibernate.SQL_SLOW");
+        filtro.setCadaCuantos(cadaCuantos);
+        filtro.start();
+        contexto.addTurboFilter(filtro);
+    }
+}
@@ -0,0 +1,222 @@
+package com.interbanking.empresa.api.infraestructure.persistence;
+
+import com.interbanking.empresa.api.infraestructure.persistence.particion.ParticionesTransferencia;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de las consultas de reporte sobre H2 con un volumen generado localmente.
+ * <p>
+ * Las transferencias se cargan dos veces: en {@code transferencia_plana} (una sola tabla, como antes de
+ * particionar) y en las particiones mensuales {@code transferencia_AAAA_MM}, para comparar la consulta
+ * de un mes sobre la tabla completa, sobre la vista que une todas las particiones y sobre la partición
+ * del mes (lo que hace el adapter).
+ * <p>
+ * Se ejecuta sólo a pedido:
+ * {@code mvn test -Dtest=TransferenciaQueryBenchmarkTest -Dbenchmark=true [-Dbenchmark.transferencias=10000000] [-Dbenchmark.empresas=50000]}
+ * <p>
+ * Con 100 millones de filas la base en memoria no alcanza; usar una en disco, por ejemplo
+ * {@code -Dbenchmark.transferencias=100000000 -Dbenchmark.url=jdbc:h2:file:./target/benchmark}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark de consultas de transferencias")
+class TransferenciaQueryBenchmarkTest {
+
+    private static final int ITERACIONES = 10;
+    private static final String DESDE = "DATE '2025-08-01'";
+    private static final String HASTA = "DATE '2025-08-31'";
+    private static final String HASTA_EXCLUSIVO = "DATE '2025-09-01'";
+    private static final YearMonth PRIMER_MES = YearMonth.of(2024, 1);
+    private static final int MESES = 24;
+
+    private static final String QUERY_DISTINCT = "SELECT DISTINCT e.id, e.cuit, e.razon_social, e.fecha_adhesion " +
+            "FROM transferencia_plana t JOIN empresa e ON e.id = t.id_empresa " +
+            "WHERE t.fecha_transferencia BETWEEN " + DESDE + " AND " + HASTA;
+
+    private static final String QUERY_EXISTS = "SELECT e.id, e.cuit, e.razon_social, e.fecha_adhesion " +
+            "FROM empresa e WHERE EXISTS (SELECT 1 FROM %s t " +
+            "WHERE t.id_empresa = e.id AND t.fecha_transferencia >= " + DESDE +
+            " AND t.fecha_transferencia < " + HASTA_EXCLUSIVO + ") " +
+            "ORDER BY e.id";
+
+    private static final String RESUMEN = "SELECT x.id_empresa, SUM(x.cantidad), SUM(x.importe), MAX(x.maximo), " +
+            "COUNT(DISTINCT x.debito), COUNT(DISTINCT x.credito) FROM (%s) x GROUP BY x.id_empresa ORDER BY x.id_empresa";
+
+    private static final String QUERY_RESUMEN_TRANSFERENCIAS = RESUMEN.formatted(
+            "SELECT t.id_empresa, 1 AS cantidad, t.importe, t.importe AS maximo, t.cuenta_debito AS debito, " +
+                    "t.cuenta_credito AS credito FROM transferencia_2025_08 t");
+
+    private static final String QUERY_RESUMEN_ACUMULADO = RESUMEN.formatted(
+            "SELECT a.id_empresa, a.cantidad_transferencias AS cantidad, a.importe_total AS importe, " +
+                    "a.importe_maximo AS maximo, CAST(NULL AS VARCHAR(34)) AS debito, CAST(NULL AS VARCHAR(34)) AS credito " +
+                    "FROM empresa_actividad_mensual a WHERE a.periodo = " + DESDE + " UNION ALL " +
+                    "SELECT c.id_empresa, 0, 0, NULL, CASE WHEN c.tipo = 'D' THEN c.cuenta END, " +
+                    "CASE WHEN c.tipo = 'C' THEN c.cuenta END FROM empresa_cuenta_mensual c WHERE c.periodo = " + DESDE);
+
+    private static final String QUERY_ADHESIONES = "SELECT e.id, e.cuit, e.razon_social, e.fecha_adhesion " +
+            "FROM empresa e WHERE e.fecha_adhesion BETWEEN " + DESDE + " AND " + HASTA;
+
+    private Connection connection;
+
+    @BeforeAll
+    void cargarDatos() throws Exception {
+        long transferencias = Long.getLong("benchmark.transferencias", 10_000_000L);
+        long empresas = Long.getLong("benchmark.empresas", 50_000L);
+
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1"), "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sentencia : leerRecurso("/schema.sql").split(";")) {
+                if (!sentencia.isBlank()) {
+                    statement.execute(sentencia);
+                }
+            }
+
+            long inicio = System.nanoTime();
+            statement.execute("INSERT INTO empresa (cuit, razon_social, fecha_adhesion) " +
+                    "SELECT LPAD(X, 11, '0'), 'Empresa ' || X, " +
+                    "CASE WHEN MOD(X, 3) = 0 THEN DATE '2025-01-01' + MOD(X, 365) END " +
+                    "FROM SYSTEM_RANGE(1, " + empresas + ")");
+            statement.execute("CREATE TABLE transferencia_plana AS SELECT * FROM transferencia_2025_08 WITH NO DATA");
+            statement.execute("INSERT INTO transferencia_plana (id, importe, id_empresa, cuenta_debito, cuenta_credito, fecha_transferencia) " +
+                    "SELECT X, 100.00 + MOD(X, 1000), 1 + MOD(X * 7919, " + empresas + "), 'D' || MOD(X, 1000), 'C' || MOD(X, 997), " +
+                    "TIMESTAMP '" + PRIMER_MES.atDay(1) + " 00:00:00' + MOD(X, 730) * INTERVAL '1' DAY " +
+                    "FROM SYSTEM_RANGE(1, " + transferencias + ")");
+            statement.execute("CREATE INDEX idx_transferencia_plana_empresa_fecha ON transferencia_plana (id_empresa, fecha_transferencia)");
+
+            List<String> particiones = new ArrayList<>();
+            for (int i = 0; i < MESES; i++) {
+                YearMonth periodo = PRIMER_MES.plusMonths(i);
+                String tabla = ParticionesTransferencia.tabla(periodo);
+                statement.execute(ParticionesTransferencia.ddlParticion(periodo));
+                statement.execute("INSERT INTO " + tabla + " SELECT * FROM transferencia_plana " +
+                        "WHERE fecha_transferencia >= DATE '" + periodo.atDay(1) + "' " +
+                        "AND fecha_transferencia < DATE '" + periodo.plusMonths(1).atDay(1) + "'");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_" + tabla + "_empresa_fecha ON " + tabla + " (id_empresa, fecha_transferencia)");
+                particiones.add("SELECT * FROM " + tabla);
+            }
+            statement.execute("CREATE OR REPLACE VIEW transferencia AS " + String.join(" UNION ALL ", particiones));
+            // Acumulados del mes del reporte, como los mantiene el adapter al registrar transferencias
+            statement.execute("INSERT INTO empresa_actividad_mensual SELECT " + DESDE + ", id_empresa, COUNT(*), " +
+                    "SUM(importe), MAX(importe), MIN(CAST(fecha_transferencia AS DATE)), MAX(CAST(fecha_transferencia AS DATE)) " +
+                    "FROM transferencia_2025_08 GROUP BY id_empresa");
+            statement.execute("INSERT INTO empresa_cuenta_mensual SELECT DISTINCT " + DESDE + ", id_empresa, 'D', cuenta_debito " +
+                    "FROM transferencia_2025_08 UNION SELECT DISTINCT " + DESDE + ", id_empresa, 'C', cuenta_credito FROM transferencia_2025_08");
+            statement.execute("ANALYZE");
+            System.out.printf("Carga de %,d transferencias (x2) / %,d empresas en %d particiones: %,d ms%n",
+                    transferencias, empresas, MESES, (System.nanoTime() - inicio) / 1_000_000);
+        }
+    }
+
+    @AfterAll
+    void cerrar() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("EXISTS devuelve las mismas empresas que SELECT DISTINCT")
+    void existsVsDistinct() throws SQLException {
+        int filasDistinct = medir("SELECT DISTINCT (anterior)", QUERY_DISTINCT);
+        int filasExists = medir("EXISTS (semi-join)", QUERY_EXISTS.formatted("transferencia_plana"));
+
+        assertEquals(filasDistinct, filasExists);
+    }
+
+    @Test
+    @DisplayName("La partición del mes devuelve las mismas empresas que la tabla completa")
+    void particionPodadaVsTablaCompleta() throws SQLException {
+        int filasTabla = medir("Tabla sin particionar", QUERY_EXISTS.formatted("transferencia_plana"));
+        int filasVista = medir("Vista de todas las particiones", QUERY_EXISTS.formatted("transferencia"));
+        int filasParticion = medir("Partición del mes (podada)",
+                QUERY_EXISTS.formatted(ParticionesTransferencia.tabla(YearMonth.of(2025, 8))));
+
+        assertEquals(filasTabla, filasVista);
+        assertEquals(filasTabla, filasParticion);
+    }
+
+    @Test
+    @DisplayName("El resumen de un mes completo desde los acumulados coincide con el de las transferencias")
+    void resumenAcumuladoVsTransferencias() throws SQLException {
+        int filasTransferencias = medir("Resumen desde transferencias", QUERY_RESUMEN_TRANSFERENCIAS);
+        int filasAcumulado = medir("Resumen desde acumulados", QUERY_RESUMEN_ACUMULADO);
+
+        assertEquals(filasTransferencias, filasAcumulado);
+    }
+
+    @Test
+    @DisplayName("Archivar una partición es un cambio de metadata, sin importar su volumen")
+    void archivarParticion() throws SQLException {
+        String tabla = ParticionesTransferencia.tabla(PRIMER_MES);
+        try (Statement statement = connection.createStatement()) {
+            long inicio = System.nanoTime();
+            statement.execute("CREATE OR REPLACE VIEW transferencia AS SELECT * FROM transferencia_plana");
+            statement.execute("ALTER TABLE " + tabla + " RENAME TO transferencia_archivada_" + tabla.substring(14));
+            System.out.printf("%n== Archivado de %s: %.2f ms%n", tabla, (System.nanoTime() - inicio) / 1e6);
+        }
+    }
+
+    @Test
+    @DisplayName("Adhesiones por rango usan el índice de fecha_adhesion")
+    void adhesionesPorRango() throws SQLException {
+        medir("Adhesiones por rango", QUERY_ADHESIONES);
+    }
+
+    private int medir(String nombre, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            int filas = contarFilas(statement, sql);
+
+            long[] tiempos = new long[ITERACIONES];
+            for (int i = 0; i < ITERACIONES; i++) {
+                long inicio = System.nanoTime();
+                contarFilas(statement, sql);
+                tiempos[i] = System.nanoTime() - inicio;
+            }
+            Arrays.sort(tiempos);
+
+            System.out.printf("%n== %s: %,d filas | p50 %.2f ms | max %.2f ms%n",
+                    nombre, filas, tiempos[ITERACIONES / 2] / 1e6, tiempos[ITERACIONES - 1] / 1e6);
+            try (ResultSet plan = statement.executeQuery("EXPLAIN ANALYZE " + sql)) {
+                plan.next();
+                System.out.println(plan.getString(1));
+            }
+            return filas;
+        }
+    }
+
+    private static int contarFilas(Statement statement, String sql) throws SQLException {
+        int filas = 0;
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                filas++;
+            }
+        }
+        return filas;
+    }
+
+    private static String leerRecurso(String recurso) throws IOException {
+        try (InputStream inputStream = TransferenciaQueryBenchmarkTest.class.getResourceAsStream(recurso)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.interbanking.empresa.api.infraestructure.persistence.adapter;
+
+import com.interbanking.empresa.api.domain.model.Cuit;
+import com.interbanking.empresa.api.domain.model.Empresa;
+import com.interbanking.empresa.api.domain.port.EmpresaRepositoryPort;
+import com.interbanking.empresa.api.infraestructure.persistence.entity.EmpresaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache de segundo nivel de {@link EmpresaEntity} contra H2: las adhesiones por JDBC y los guardados
+ * por JPA no dejan empresas viejas en la cache, y una búsqueda con la cache caliente no consulta la base
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:empresa-cache",
+        "logging.level.root=WARN"})
+@DisplayName("EmpresaRepositoryAdapter con la cache de segundo nivel")
+class EmpresaRepositoryAdapterCacheTest {
+
+    @Autowired
+    private EmpresaRepositoryPort empresaRepositoryPort;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Debe resolver una búsqueda por CUIT con la cache caliente sin consultar la base")
+    void shouldFindByCuitWithoutSqlWhenCacheIsWarm() {
+        // Given
+        String cuit = nuevasEmpresas(1).get(0);
+        Empresa leida = empresaRepositoryPort.findByCuit(cuit).orElseThrow();
+        long sentencias = estadisticas.getPrepareStatementCount();
+
+        // When
+        Empresa cacheada = empresaRepositoryPort.findByCuit(cuit).orElseThrow();
+
+        // Then
+        assertTrue(entityManagerFactory.getCache().contains(EmpresaEntity.class, leida.getId()));
+        assertEquals(leida.getId(), cacheada.getId());
+        assertEquals(0, estadisticas.getPrepareStatementCount() - sentencias);
+    }
+
+    @Test
+    @DisplayName("Debe devolver la fecha de adhesión nueva después de adherir una empresa ya cacheada")
+    void shouldFindAdhesionAfterSingleAdhesionOfCachedCompany() {
+        // Given
+        String cuit = nuevasEmpresas(1).get(0);
+        assertNull(empresaRepositoryPort.findByCuit(cuit).orElseThrow().getFechaAdhesion());
+
+        // When
+        empresaRepositoryPort.adherirSiNoAdherida(cuit, LocalDate.now());
+
+        // Then
+        assertEquals(LocalDate.now(), empresaRepositoryPort.findByCuit(cuit).orElseThrow().getFechaAdhesion());
+    }
+
+    @Test
+    @DisplayName("Debe devolver la fecha de adhesión nueva después de adherir por lote empresas ya cacheadas")
+    void shouldFindAdhesionAfterBatchAdhesionOfCachedCompanies() {
+        // Given
+        List<String> cuits = nuevasEmpresas(2);
+        cuits.forEach(cuit -> assertNull(empresaRepositoryPort.findByCuit(cuit).orElseThrow().getFechaAdhesion()));
+
+        // When
+        empresaRepositoryPort.adherirSiNoAdheridas(cuits, LocalDate.now());
+
+        // Then
+        cuits.forEach(cuit ->
+                assertEquals(LocalDate.now(), empresaRepositoryPort.findByCuit(cuit).orElseThrow().getFechaAdhesion()));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar la empresa cacheada al guardarla por JPA y leerla después sin consultar la base")
+    void shouldUpdateCachedCompanyOnJpaSave() {
+        // Given
+        String cuit = nuevasEmpresas(1).get(0);
+        Empresa empresa = empresaRepositoryPort.findByCuit(cuit).orElseThrow();
+        empresa.setFechaAdhesion(LocalDate.of(2025, 9, 1));
+
+        // When
+        empresaRepositoryPort.saveAll(List.of(empresa));
+        long sentencias = estadisticas.getPrepareStatementCount();
+        Empresa leida = empresaRepositoryPort.findByCuit(cuit).orElseThrow();
+
+        // Then
+        assertEquals(LocalDate.of(2025, 9, 1), leida.getFechaAdhesion());
+        assertEquals(0, estadisticas.getPrepareStatementCount() - sentencias);
+    }
+
+    /**
+     * Empresas sin adherir con CUIT válidos que no usan los datos iniciales ni los otros tests
+     */
+    private List<String> nuevasEmpresas(int cantidad) {
+        long desde = jdbc.queryForObject("SELECT COUNT(*) FROM empresa", Long.class) * 100 + 30_000_000_000L;
+        List<String> cuits = LongStream.iterate(desde, i -> i + 1)
+                .mapToObj(Long::toString)
+                .filter(Cuit::esValido)
+                .limit(cantidad)
+                .toList();
+        cuits.forEach(cuit -> jdbc.update("INSERT INTO empresa (cuit, razon_social) VALUES (?, ?)", cuit, "Empresa " + cuit));
+        return cuits;
+    }
+}
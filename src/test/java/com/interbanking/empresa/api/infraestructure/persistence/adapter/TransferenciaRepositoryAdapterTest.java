@@ -0,0 +1,191 @@
+package com.interbanking.empresa.api.infraestructure.persistence.adapter;
+
+import com.interbanking.empresa.api.domain.model.Cuit;
+import com.interbanking.empresa.api.domain.model.Transferencia;
+import com.interbanking.empresa.api.infraestructure.persistence.particion.ParticionesTransferencia;
+import com.interbanking.empresa.api.infraestructure.persistence.repository.EmpresaActividadMensualJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TransferenciaRepositoryAdapter Tests")
+class TransferenciaRepositoryAdapterTest {
+
+    private static final String INSERT = "INSERT INTO %s (importe, id_empresa, cuenta_debito, cuenta_credito, " +
+            "fecha_transferencia) VALUES (%s, %d, 'AR123000100123456789', 'AR450002001234567890', TIMESTAMP '%s')";
+
+    private JdbcTemplate jdbc;
+    private SentenciasContadas sentencias;
+    private TransferenciaRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        for (String sentencia : leerRecurso("/schema.sql").split(";")) {
+            if (!sentencia.isBlank()) {
+                jdbc.execute(sentencia);
+            }
+        }
+        jdbc.execute("INSERT INTO empresa (cuit, razon_social, fecha_adhesion) VALUES " +
+                "('20123456786', 'Empresa Uno S.A.', DATE '2025-07-01'), ('30712345671', 'Empresa Dos S.R.L.', NULL)");
+
+        ParticionesTransferencia particiones = new ParticionesTransferencia(jdbc, transactionManager, 0);
+        particiones.asegurar(YearMonth.of(2025, 8));
+        particiones.asegurar(YearMonth.of(2025, 9));
+        sentencias = new SentenciasContadas(dataSource);
+        adapter = new TransferenciaRepositoryAdapter(mock(EmpresaActividadMensualJpaRepository.class),
+                new NamedParameterJdbcTemplate(sentencias), particiones, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Debe paginar por id las transferencias de las particiones del rango con su empresa")
+    void shouldPageTransfersAcrossPartitionsWithCompany() {
+        // Given
+        insertar("transferencia_2025_09", "1.00", 1, "2025-09-02 00:00:00");
+        insertar("transferencia_2025_08", "2.00", 2, "2025-08-20 00:00:00");
+        insertar("transferencia_2025_08", "3.00", 1, "2025-08-10 00:00:00");
+        insertar("transferencia_2025_09", "4.00", 2, "2025-09-30 00:00:00");
+        insertar("transferencia_2025_08", "5.00", 1, "2025-08-31 00:00:00");
+
+        // When
+        List<Transferencia> primera = adapter.findTransferenciasEntre(
+                LocalDate.of(2025, 8, 15), LocalDate.of(2025, 9, 30), 0L, 2);
+        List<Transferencia> segunda = adapter.findTransferenciasEntre(
+                LocalDate.of(2025, 8, 15), LocalDate.of(2025, 9, 30), primera.get(1).getId(), 2);
+
+        // Then
+        assertEquals(List.of("1.00", "2.00"), importes(primera));
+        assertEquals(List.of("4.00", "5.00"), importes(segunda));
+        Transferencia transferencia = primera.get(0);
+        assertEquals(LocalDate.of(2025, 9, 2), transferencia.getFechaTransferencia());
+        assertEquals("20123456786", transferencia.getEmpresa().getCuit());
+        assertEquals("Empresa Uno S.A.", transferencia.getEmpresa().getRazonSocial());
+        assertEquals(LocalDate.of(2025, 7, 1), transferencia.getEmpresa().getFechaAdhesion());
+        assertNull(primera.get(1).getEmpresa().getFechaAdhesion());
+    }
+
+    @Test
+    @DisplayName("Debe leer cada página con su empresa en una sola sentencia sin importar cuántas filas traiga")
+    void shouldReadPageWithCompanyInSingleStatement() {
+        // Given
+        jdbc.batchUpdate("INSERT INTO empresa (cuit, razon_social) VALUES (?, ?)",
+                LongStream.iterate(30_000_000_000L, i -> i + 1)
+                        .mapToObj(Long::toString)
+                        .filter(Cuit::esValido)
+                        .limit(250)
+                        .map(cuit -> new Object[]{cuit, "Empresa " + cuit})
+                        .toList());
+        for (String tabla : List.of("transferencia_2025_08", "transferencia_2025_09")) {
+            jdbc.update("INSERT INTO " + tabla + " (importe, id_empresa, cuenta_debito, cuenta_credito, " +
+                    "fecha_transferencia) SELECT 100.00, MOD(X, 252) + 1, 'D' || X, 'C' || X, " +
+                    "TIMESTAMP '" + tabla.substring(14).replace('_', '-') + "-01 00:00:00' + MOD(X, 28) * INTERVAL '1' DAY " +
+                    "FROM SYSTEM_RANGE(1, 250)");
+        }
+
+        for (int filas : new int[]{10, 500}) {
+            // When
+            sentencias.reiniciar();
+            List<Transferencia> transferencias = adapter.findTransferenciasEntre(
+                    LocalDate.of(2025, 8, 1), LocalDate.of(2025, 9, 30), 0L, filas);
+
+            // Then
+            assertEquals(filas, transferencias.size());
+            assertTrue(transferencias.stream().allMatch(t -> t.getEmpresa().getCuit() != null));
+            assertEquals(1, sentencias.cantidad(), "filas: " + filas);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío si ninguna partición cubre el rango")
+    void shouldReturnEmptyWithoutPartitions() {
+        // When
+        List<Transferencia> transferencias = adapter.findTransferenciasEntre(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), 0L, 10);
+
+        // Then
+        assertTrue(transferencias.isEmpty());
+        assertEquals(0, sentencias.cantidad());
+    }
+
+    /**
+     * Cuenta las sentencias que se preparan o crean en las conexiones que entrega
+     */
+    private static final class SentenciasContadas extends DelegatingDataSource {
+
+        private final AtomicInteger cantidad = new AtomicInteger();
+
+        SentenciasContadas(DataSource destino) {
+            super(destino);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection conexion = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, metodo, args) -> {
+                        if (metodo.getName().equals("prepareStatement") || metodo.getName().equals("createStatement")) {
+                            cantidad.incrementAndGet();
+                        }
+                        try {
+                            return metodo.invoke(conexion, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        void reiniciar() {
+            cantidad.set(0);
+        }
+
+        int cantidad() {
+            return cantidad.get();
+        }
+    }
+
+    private void insertar(String tabla, String importe, long idEmpresa, String fecha) {
+        jdbc.update(INSERT.formatted(tabla, importe, idEmpresa, fecha));
+    }
+
+    private static List<String> importes(List<Transferencia> transferencias) {
+        return transferencias.stream()
+                .map(Transferencia::getImporte)
+                .map(BigDecimal::toPlainString)
+                .toList();
+    }
+
+    private static String leerRecurso(String recurso) throws IOException {
+        try (InputStream inputStream = TransferenciaRepositoryAdapterTest.class.getResourceAsStream(recurso)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LecturaEscrituraDataSource Tests")
+class LecturaEscrituraDataSourceTest {
+
+    private DataSource primario;
+
+    @BeforeEach
+    void setUp() {
+        primario = base("escritura");
+    }
+
+    @Test
+    @DisplayName("Las transacciones de sólo lectura deben usar el pool de lectura")
+    void shouldRouteReadOnlyTransactionsToReadPool() {
+        // Given
+        Enrutado enrutado = new Enrutado(ReplicasLectura.delPrimario("lectura", base("lectura")));
+
+        // When
+        String pool = enrutado.leer();
+
+        // Then
+        assertEquals("lectura", pool);
+    }
+
+    @Test
+    @DisplayName("Las transacciones de escritura y el acceso sin transacción deben usar el pool de escritura")
+    void shouldRouteWritesToWritePool() {
+        // Given
+        Enrutado enrutado = new Enrutado(ReplicasLectura.delPrimario("lectura", base("lectura")));
+
+        // When
+        String enTransaccion = new TransactionTemplate(enrutado.transactionManager).execute(status -> enrutado.poolActual());
+        String sinTransaccion = enrutado.poolActual();
+
+        // Then
+        assertEquals("escritura", enTransaccion);
+        assertEquals("escritura", sinTransaccion);
+    }
+
+    @Test
+    @DisplayName("Debe repartir las lecturas entre las réplicas disponibles en round-robin")
+    void shouldRoundRobinBetweenReplicas() {
+        // Given
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", base("replica-0"));
+        replicas.put("replica-1", base("replica-1"));
+        ReplicasLectura lecturas = new ReplicasLectura(primario, replicas, Duration.ofMinutes(1), Clock.systemDefaultZone());
+        lecturas.verificar();
+        Enrutado enrutado = new Enrutado(lecturas);
+
+        // When
+        List<String> pools = IntStream.range(0, 4).mapToObj(i -> enrutado.leer()).toList();
+
+        // Then
+        assertEquals(List.of("replica-0", "replica-1", "replica-0", "replica-1"), pools);
+    }
+
+    @Test
+    @DisplayName("Sin réplicas disponibles las lecturas deben ir al primario")
+    void shouldReadFromPrimaryWithoutAvailableReplicas() {
+        // Given: todavía no se verificó el retraso de la réplica
+        ReplicasLectura lecturas = new ReplicasLectura(primario, Map.of("replica-0", base("replica-0")),
+                Duration.ofMinutes(1), Clock.systemDefaultZone());
+        Enrutado enrutado = new Enrutado(lecturas);
+
+        // When
+        String pool = enrutado.leer();
+
+        // Then
+        assertEquals("escritura", pool);
+    }
+
+    private final class Enrutado {
+        private final JdbcTemplate jdbc;
+        private final DataSourceTransactionManager transactionManager;
+
+        Enrutado(ReplicasLectura lecturas) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(new LecturaEscrituraDataSource(primario, lecturas));
+            jdbc = new JdbcTemplate(dataSource);
+            transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        String leer() {
+            TransactionTemplate soloLectura = new TransactionTemplate(transactionManager);
+            soloLectura.setReadOnly(true);
+            return soloLectura.execute(status -> poolActual());
+        }
+
+        String poolActual() {
+            return jdbc.queryForObject("SELECT nombre FROM pool", String.class);
+        }
+    }
+
+    /**
+     * Base H2 propia con el nombre del pool y un latido reciente, como una réplica al día
+     */
+    private static DataSource base(String nombre) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE pool (nombre VARCHAR(20))");
+        jdbc.update("INSERT INTO pool VALUES (?)", nombre);
+        jdbc.execute("CREATE TABLE latido_replicacion (id INT PRIMARY KEY, instante TIMESTAMP WITH TIME ZONE)");
+        jdbc.execute("INSERT INTO latido_replicacion VALUES (1, CURRENT_TIMESTAMP)");
+        return dataSource;
+    }
+}
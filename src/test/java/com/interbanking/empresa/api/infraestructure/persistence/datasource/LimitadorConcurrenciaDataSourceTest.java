@@ -0,0 +1,97 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LimitadorConcurrenciaDataSource Tests")
+class LimitadorConcurrenciaDataSourceTest {
+
+    @Mock
+    private DataSource destino;
+
+    @Mock
+    private Connection conexion;
+
+    private LimitadorConcurrenciaDataSource limitador;
+
+    @BeforeEach
+    void setUp() {
+        limitador = new LimitadorConcurrenciaDataSource(destino, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Debe tomar un permiso por conexión y liberarlo una sola vez al cerrarla")
+    void shouldReleasePermitOnceWhenConnectionIsClosed() throws SQLException {
+        // Given
+        when(destino.getConnection()).thenReturn(conexion);
+
+        // When
+        Connection primera = limitador.getConnection();
+        Connection segunda = limitador.getConnection();
+
+        // Then
+        assertEquals(0, limitador.getPermisosDisponibles());
+
+        primera.close();
+        primera.close();
+        assertEquals(1, limitador.getPermisosDisponibles());
+
+        segunda.close();
+        assertEquals(2, limitador.getPermisosDisponibles());
+        verify(conexion, times(3)).close();
+    }
+
+    @Test
+    @DisplayName("Debe fallar con SQLTransientConnectionException cuando no hay permisos dentro de la espera máxima")
+    void shouldFailWhenNoPermitIsAvailable() throws SQLException {
+        // Given
+        when(destino.getConnection()).thenReturn(conexion);
+        limitador.getConnection();
+        limitador.getConnection();
+
+        // When & Then
+        assertThrows(SQLTransientConnectionException.class, () -> limitador.getConnection());
+        verify(destino, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Debe devolver el permiso cuando el pool no entrega la conexión")
+    void shouldReleasePermitWhenTargetFails() throws SQLException {
+        // Given
+        when(destino.getConnection()).thenThrow(new SQLException("pool agotado"));
+
+        // When & Then
+        assertThrows(SQLException.class, () -> limitador.getConnection());
+        assertEquals(2, limitador.getPermisosDisponibles());
+    }
+
+    @Test
+    @DisplayName("Debe delegar el resto de las operaciones en la conexión real")
+    void shouldDelegateOtherOperations() throws SQLException {
+        // Given
+        when(destino.getConnection()).thenReturn(conexion);
+        when(conexion.getAutoCommit()).thenReturn(true);
+
+        // When
+        Connection conexionLimitada = limitador.getConnection();
+
+        // Then
+        assertTrue(conexionLimitada.getAutoCommit());
+        assertEquals(conexionLimitada, conexionLimitada);
+        assertEquals(1, limitador.getPermisosDisponibles());
+    }
+}
@@ -0,0 +1,118 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Primario y réplica son dos bases H2 en memoria; la replicación del latido se simula copiándolo
+ */
+@DisplayName("ReplicasLectura Tests")
+class ReplicasLecturaTest {
+
+    private static final Instant AHORA = Instant.parse("2025-09-10T12:00:00Z");
+    private static final Duration RETRASO_MAXIMO = Duration.ofSeconds(5);
+
+    private JdbcTemplate primario;
+    private JdbcTemplate replica;
+    private ReplicasLectura replicas;
+
+    @BeforeEach
+    void setUp() {
+        DataSource basePrimaria = base();
+        DataSource baseReplica = base();
+        primario = new JdbcTemplate(basePrimaria);
+        replica = new JdbcTemplate(baseReplica);
+        replicas = new ReplicasLectura(basePrimaria, Map.of("replica-0", baseReplica), RETRASO_MAXIMO,
+                Clock.fixed(AHORA, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Debe escribir el latido en el primario y habilitar la réplica dentro del retraso máximo")
+    void shouldEnableReplicaWithinMaximumLag() {
+        // Given
+        replicarLatido(AHORA.minusSeconds(2));
+
+        // When
+        replicas.verificar();
+
+        // Then
+        assertEquals(AHORA, primario.queryForObject(ReplicasLectura.SQL_LEER_LATIDO, OffsetDateTime.class).toInstant());
+        assertEquals(List.of("replica-0"), replicas.getDisponibles());
+        assertEquals(2000, replicas.getRetrasoMs("replica-0"));
+        assertEquals(Optional.of("replica-0"), replicas.elegir());
+    }
+
+    @Test
+    @DisplayName("Debe dejar de usar una réplica atrasada y volver a usarla cuando se pone al día")
+    void shouldSkipLaggingReplica() {
+        // Given
+        replicarLatido(AHORA.minusSeconds(30));
+
+        // When
+        replicas.verificar();
+
+        // Then
+        assertTrue(replicas.getDisponibles().isEmpty());
+        assertEquals(30000, replicas.getRetrasoMs("replica-0"));
+        assertEquals(Optional.empty(), replicas.elegir());
+
+        // When
+        replicarLatido(AHORA);
+        replicas.verificar();
+
+        // Then
+        assertEquals(List.of("replica-0"), replicas.getDisponibles());
+    }
+
+    @Test
+    @DisplayName("Debe dejar de usar una réplica que no responde")
+    void shouldSkipUnreachableReplica() {
+        // Given
+        replicarLatido(AHORA);
+        replicas.verificar();
+        replica.execute("DROP TABLE latido_replicacion");
+
+        // When
+        replicas.verificar();
+
+        // Then
+        assertTrue(replicas.getDisponibles().isEmpty());
+        assertTrue(Double.isNaN(replicas.getRetrasoMs("replica-0")));
+    }
+
+    @Test
+    @DisplayName("Sin verificar, sólo el pool sobre el primario está disponible")
+    void shouldNotUseReplicasBeforeFirstCheck() {
+        assertEquals(Optional.empty(), replicas.elegir());
+        assertEquals(Optional.of("lectura"), ReplicasLectura.delPrimario("lectura", base()).elegir());
+    }
+
+    private void replicarLatido(Instant instante) {
+        replica.update("UPDATE latido_replicacion SET instante = ? WHERE id = 1", instante.atOffset(ZoneOffset.UTC));
+    }
+
+    private static DataSource base() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE latido_replicacion (id INT PRIMARY KEY, instante TIMESTAMP WITH TIME ZONE)");
+        jdbc.execute("INSERT INTO latido_replicacion VALUES (1, TIMESTAMP WITH TIME ZONE '2000-01-01 00:00:00Z')");
+        return dataSource;
+    }
+}
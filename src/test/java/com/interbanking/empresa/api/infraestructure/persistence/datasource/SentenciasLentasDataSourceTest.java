@@ -0,0 +1,89 @@
+package com.interbanking.empresa.api.infraestructure.persistence.datasource;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SentenciasLentasDataSource Tests")
+class SentenciasLentasDataSourceTest {
+
+    private Logger sqlLenta;
+    private ListAppender<ILoggingEvent> eventos;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        sqlLenta = (Logger) LoggerFactory.getLogger(SentenciasLentasDataSource.LOGGER);
+        eventos = new ListAppender<>();
+        eventos.setContext(sqlLenta.getLoggerContext());
+        eventos.start();
+        sqlLenta.addAppender(eventos);
+
+        DriverManagerDataSource destino = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(new SentenciasLentasDataSource(destino, Duration.ofMillis(50)));
+        jdbc.execute("CREATE ALIAS DORMIR FOR '" + Demora.class.getName() + ".dormir'");
+        eventos.list.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlLenta.detachAppender(eventos);
+    }
+
+    @Test
+    @DisplayName("Debe loguear las consultas de JdbcTemplate que superan el umbral con su SQL")
+    void shouldLogSlowPreparedStatement() {
+        // Given
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbc);
+
+        // When
+        named.queryForObject("SELECT 1 FROM DUAL WHERE DORMIR(:ms) IS NULL", new MapSqlParameterSource("ms", 80),
+                Integer.class);
+
+        // Then
+        assertEquals(1, eventos.list.size());
+        String mensaje = eventos.list.get(0).getFormattedMessage();
+        assertTrue(mensaje.startsWith("Consulta lenta: "), mensaje);
+        assertTrue(mensaje.endsWith("[SELECT 1 FROM DUAL WHERE DORMIR(?) IS NULL]"), mensaje);
+    }
+
+    @Test
+    @DisplayName("Debe loguear el SQL de un Statement lento y no loguear las sentencias rápidas")
+    void shouldLogSlowStatementOnly() {
+        // When
+        jdbc.queryForObject("SELECT 1", Integer.class);
+        jdbc.execute("CALL DORMIR(80)");
+
+        // Then
+        assertEquals(1, eventos.list.size());
+        assertTrue(eventos.list.get(0).getFormattedMessage().endsWith("[CALL DORMIR(80)]"));
+    }
+
+    /**
+     * Desde JDK 21 {@code Thread.sleep} tiene dos sobrecargas de un parámetro y H2 no puede elegir entre ellas
+     */
+    public static final class Demora {
+
+        private Demora() {
+        }
+
+        public static void dormir(long ms) throws InterruptedException {
+            Thread.sleep(ms);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.interbanking.empresa.api.infraestructure.persistence.entity;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.internal.DatasourceConnectionProviderImpl;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cuenta las sentencias que prepara Hibernate al recorrer las asociaciones entre transferencias y empresas,
+ * para que un cambio en el mapeo no vuelva a introducir una consulta por fila (N+1). El listado de
+ * transferencias va por JDBC y lo cubre {@code TransferenciaRepositoryAdapterTest}
+ */
+@DisplayName("Carga por lotes de EmpresaEntity y TransferenciaEntity")
+class TransferenciaFetchPlanTest {
+
+    private static final int EMPRESAS = 250;
+    private static final int TRANSFERENCIAS = 500;
+
+    private SessionFactory sessionFactory;
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        for (String sentencia : leerRecurso("/schema.sql").split(";")) {
+            if (!sentencia.isBlank()) {
+                jdbc.execute(sentencia);
+            }
+        }
+        jdbc.update("INSERT INTO empresa (cuit, razon_social) " +
+                "SELECT CAST(X AS VARCHAR), 'Empresa ' || X FROM SYSTEM_RANGE(1, ?)", EMPRESAS);
+        jdbc.update("INSERT INTO transferencia_2025_08 (importe, id_empresa, cuenta_debito, cuenta_credito, " +
+                "fecha_transferencia) SELECT 100.00, MOD(X, ?) + 1, 'D' || X, 'C' || X, " +
+                "TIMESTAMP '2025-08-01 00:00:00' + MOD(X, 28) * INTERVAL '1' DAY FROM SYSTEM_RANGE(1, ?)",
+                EMPRESAS, TRANSFERENCIAS);
+
+        // El bootstrap nativo no lee jakarta.persistence.jdbc.*: Hibernate usa el mismo DataSource del test
+        DatasourceConnectionProviderImpl conexiones = new DatasourceConnectionProviderImpl();
+        conexiones.setDataSource(dataSource);
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(EmpresaEntity.class)
+                .addAnnotatedClass(TransferenciaEntity.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+        configuration.getProperties().put(AvailableSettings.CONNECTION_PROVIDER, conexiones);
+        sessionFactory = configuration.buildSessionFactory();
+        estadisticas = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    @DisplayName("Las empresas de las transferencias se cargan por lotes y no una por transferencia")
+    void shouldBatchLoadCompanyProxies() {
+        // When
+        List<String> cuits = leerCuits();
+
+        // Then
+        assertEquals(TRANSFERENCIAS, cuits.size());
+        int lotes = (EMPRESAS + EmpresaEntity.TAMANIO_LOTE - 1) / EmpresaEntity.TAMANIO_LOTE;
+        assertEquals(1 + lotes, estadisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Las colecciones de transferencias de varias empresas se cargan por lotes")
+    void shouldBatchLoadTransferCollections() {
+        // When
+        int total = sessionFactory.fromSession(session -> session
+                .createSelectionQuery("FROM EmpresaEntity e ORDER BY e.id", EmpresaEntity.class)
+                .list().stream()
+                .mapToInt(empresa -> empresa.getTransferencias().size())
+                .sum());
+
+        // Then
+        assertEquals(TRANSFERENCIAS, total);
+        int lotes = (EMPRESAS + EmpresaEntity.TAMANIO_LOTE - 1) / EmpresaEntity.TAMANIO_LOTE;
+        assertEquals(1 + lotes, estadisticas.getPrepareStatementCount());
+    }
+
+    /**
+     * Transferencias del mes recorriendo la empresa de cada fila
+     */
+    private List<String> leerCuits() {
+        estadisticas.clear();
+        return sessionFactory.fromSession(session -> session
+                .createSelectionQuery("FROM TransferenciaEntity t WHERE t.fechaTransferencia >= :desde " +
+                        "AND t.fechaTransferencia < :hastaExclusivo ORDER BY t.id", TransferenciaEntity.class)
+                .setParameter("desde", LocalDate.of(2025, 8, 1))
+                .setParameter("hastaExclusivo", LocalDate.of(2025, 9, 1))
+                .list().stream()
+                .map(transferencia -> transferencia.getEmpresa().getCuit())
+                .toList());
+    }
+
+    private static String leerRecurso(String recurso) throws IOException {
+        try (InputStream inputStream = TransferenciaFetchPlanTest.class.getResourceAsStream(recurso)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.interbanking.empresa.api.infraestructure.persistence.particion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParticionesTransferencia Tests")
+class ParticionesTransferenciaTest {
+
+    private static final String INSERT = "INSERT INTO %s (importe, id_empresa, cuenta_debito, cuenta_credito, " +
+            "fecha_transferencia) VALUES (100.00, 1, 'AR123000100123456789', 'AR450002001234567890', TIMESTAMP '%s')";
+
+    private JdbcTemplate jdbc;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        for (String sentencia : leerRecurso("/schema.sql").split(";")) {
+            if (!sentencia.isBlank()) {
+                jdbc.execute(sentencia);
+            }
+        }
+        jdbc.execute("INSERT INTO empresa (cuit, razon_social) VALUES ('20123456786', 'Empresa Uno S.A.')");
+    }
+
+    @Test
+    @DisplayName("Debe descubrir las particiones creadas por el schema")
+    void shouldDiscoverExistingPartitions() {
+        // When
+        ParticionesTransferencia particiones = particiones(24, LocalDate.of(2025, 9, 10));
+
+        // Then
+        assertEquals(List.of(YearMonth.of(2025, 8)), particiones.getVigentes());
+    }
+
+    @Test
+    @DisplayName("Debe crear la partición del mes, agregarla a la vista y rechazar fechas de otro mes")
+    void shouldCreatePartitionAndRecreateView() {
+        // Given
+        ParticionesTransferencia particiones = particiones(24, LocalDate.of(2025, 9, 10));
+
+        // When
+        String tabla = particiones.asegurar(YearMonth.of(2025, 9));
+
+        // Then
+        assertEquals("transferencia_2025_09", tabla);
+        jdbc.update(INSERT.formatted(tabla, "2025-09-30 23:59:59"));
+        jdbc.update(INSERT.formatted("transferencia_2025_08", "2025-08-01 00:00:00"));
+        assertEquals(2, jdbc.queryForObject("SELECT COUNT(*) FROM transferencia", Long.class));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbc.update(INSERT.formatted(tabla, "2025-10-01 00:00:00")));
+        assertEquals(tabla, particiones.asegurar(YearMonth.of(2025, 9)));
+    }
+
+    @Test
+    @DisplayName("Debe crear por adelantado las particiones del mes en curso y del siguiente")
+    void shouldCreateCurrentAndNextPartitionsAhead() {
+        // Given
+        ParticionesTransferencia particiones = particiones(24, LocalDate.of(2025, 9, 10));
+
+        // When
+        particiones.prepararProximas();
+
+        // Then
+        assertEquals(List.of(YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2025, 10)),
+                particiones.getVigentes());
+        jdbc.update(INSERT.formatted("transferencia_2025_10", "2025-10-01 00:00:00"));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM transferencia", Long.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar crear una partición dentro de una transacción en curso")
+    void shouldNotCreatePartitionInsideTransaction() {
+        // Given
+        ParticionesTransferencia particiones = particiones(24, LocalDate.of(2025, 9, 10));
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+
+        // When / Then
+        assertEquals("transferencia_2025_08",
+                transaccion.execute(estado -> particiones.asegurar(YearMonth.of(2025, 8))));
+        assertThrows(IllegalStateException.class,
+                () -> transaccion.executeWithoutResult(estado -> particiones.asegurar(YearMonth.of(2025, 9))));
+        assertEquals(List.of(YearMonth.of(2025, 8)), particiones.getVigentes());
+    }
+
+    @Test
+    @DisplayName("Debe devolver sólo las particiones que cubren el rango")
+    void shouldPrunePartitionsOutsideRange() {
+        // Given
+        ParticionesTransferencia particiones = particiones(24, LocalDate.of(2025, 11, 10));
+        particiones.asegurar(YearMonth.of(2025, 10));
+
+        // When / Then
+        assertEquals(List.of("transferencia_2025_08"),
+                particiones.cubriendo(LocalDate.of(2025, 8, 15), LocalDate.of(2025, 9, 30)));
+        assertEquals(List.of("transferencia_2025_08", "transferencia_2025_10"),
+                particiones.cubriendo(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+        assertTrue(particiones.cubriendo(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe archivar las particiones fuera de la retención renombrándolas")
+    void shouldArchivePartitionsOlderThanRetention() {
+        // Given
+        ParticionesTransferencia particiones = particiones(2, LocalDate.of(2025, 11, 10));
+        particiones.asegurar(YearMonth.of(2025, 9));
+        jdbc.update(INSERT.formatted("transferencia_2025_08", "2025-08-15 10:30:00"));
+
+        // When
+        particiones.archivarVencidas();
+
+        // Then
+        assertEquals(List.of(YearMonth.of(2025, 9)), particiones.getVigentes());
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM transferencia", Long.class));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM transferencia_archivada_2025_08", Long.class));
+        assertTrue(particiones(2, LocalDate.of(2025, 11, 10)).cubriendo(
+                LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar crear la partición de un mes anterior a la retención")
+    void shouldRejectPartitionOlderThanRetention() {
+        // Given
+        ParticionesTransferencia particiones = particiones(2, LocalDate.of(2025, 11, 10));
+        particiones.archivarVencidas();
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> particiones.asegurar(YearMonth.of(2025, 8)));
+        assertEquals("transferencia_2025_09", particiones.asegurar(YearMonth.of(2025, 9)));
+        assertEquals(List.of(YearMonth.of(2025, 9)), particiones.getVigentes());
+    }
+
+    @Test
+    @DisplayName("Debe agregar las filas a la partición archivada cuando ya existe en lugar de renombrar")
+    void shouldMergeIntoExistingArchivedPartition() {
+        // Given
+        jdbc.update(INSERT.formatted("transferencia_2025_08", "2025-08-15 10:30:00"));
+        particiones(2, LocalDate.of(2025, 11, 10)).archivarVencidas();
+        ParticionesTransferencia particiones = particiones(0, LocalDate.of(2025, 11, 10));
+        particiones.asegurar(YearMonth.of(2025, 8));
+        jdbc.update(INSERT.formatted("transferencia_2025_08", "2025-08-20 09:00:00"));
+
+        // When
+        List<YearMonth> archivadas = particiones.archivarAnterioresA(YearMonth.of(2025, 9));
+
+        // Then
+        assertEquals(List.of(YearMonth.of(2025, 8)), archivadas);
+        assertTrue(particiones.getVigentes().isEmpty());
+        assertEquals(2, jdbc.queryForObject("SELECT COUNT(*) FROM transferencia_archivada_2025_08", Long.class));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES " +
+                "WHERE TABLE_NAME = 'TRANSFERENCIA_2025_08'", Long.class));
+    }
+
+    private ParticionesTransferencia particiones(int retencionMeses, LocalDate hoy) {
+        ParticionesTransferencia particiones = new ParticionesTransferencia(jdbc, transactionManager, retencionMeses,
+                Clock.fixed(hoy.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+        particiones.descubrir();
+        return particiones;
+    }
+
+    private static String leerRecurso(String recurso) throws IOException {
+        try (InputStream inputStream = ParticionesTransferenciaTest.class.getResourceAsStream(recurso)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}